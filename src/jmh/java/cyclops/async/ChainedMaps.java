@@ -0,0 +1,97 @@
+package cyclops.async;
+
+import cyclops.stream.FutureStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Per element cost of a chain of 1 to 10 synchronous map stages on a FutureStream. Consecutive synchronous stages
+ * are fused into a single pipeline function, so the cost should grow with the work done by each map rather than
+ * with the depth of the chain.
+ */
+@State(Scope.Benchmark)
+public class ChainedMaps {
+
+ static final int SIZE = 10_000;
+
+ @Param({"1","2","5","10"})
+ int maps;
+
+ ExecutorService exec;
+ List<Integer> data;
+ LazyReact lazy;
+ LazyReact sequential;
+
+ @Setup
+ public void setup(){
+  exec = Executors.newFixedThreadPool(4);
+  data = IntStream.range(0,SIZE)
+                  .boxed()
+                  .collect(Collectors.toList());
+  lazy = new LazyReact(exec);
+  sequential = LazyReact.sequentialBuilder();
+ }
+ @TearDown
+ public void tearDown(){
+  exec.shutdown();
+ }
+
+ private FutureStream<Integer> chain(FutureStream<Integer> stream){
+  FutureStream<Integer> next = stream;
+  for(int i=0;i<maps;i++)
+   next = next.map(x->x+1);
+  return next;
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void lazyReact(Blackhole bh){
+  bh.consume(chain(lazy.from(data)).toList());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void lazyReactFiltered(Blackhole bh){
+  bh.consume(chain(lazy.from(data)).filter(x->x%2==0)
+                                   .peek(bh::consume)
+                                   .toList());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void sequential(Blackhole bh){
+  bh.consume(chain(sequential.from(data)).toList());
+ }
+
+}
@@ -0,0 +1,131 @@
+package cyclops.async;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * FastFuture (LazyReact) against CompletableFuture (SimpleReact) running the same pipeline on the same Executor,
+ * and the cost of handing a completed value to a thread blocked in join for each future type.
+ */
+@State(Scope.Benchmark)
+public class FutureCompletion {
+
+ static final int SIZE = 10_000;
+
+ ExecutorService exec;
+ ExecutorService completer;
+ List<Integer> data;
+ LazyReact lazy;
+ LazyReact lazyPooled;
+ SimpleReact simple;
+
+ @Setup
+ public void setup(){
+  exec = Executors.newFixedThreadPool(4);
+  completer = Executors.newSingleThreadExecutor();
+  data = IntStream.range(0,SIZE)
+                  .boxed()
+                  .collect(Collectors.toList());
+  lazy = new LazyReact(exec);
+  lazyPooled = new LazyReact(exec).objectPoolingOn();
+  simple = new SimpleReact(exec);
+ }
+ @TearDown
+ public void tearDown(){
+  exec.shutdown();
+  completer.shutdown();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void lazyReact(Blackhole bh){
+  bh.consume(lazy.from(data)
+                 .map(i->i+1)
+                 .map(i->i*2)
+                 .toList());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void lazyReactPooled(Blackhole bh){
+  bh.consume(lazyPooled.from(data)
+                       .map(i->i+1)
+                       .map(i->i*2)
+                       .toList());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void simpleReact(Blackhole bh){
+  bh.consume(simple.from(data)
+                   .then(i->i+1)
+                   .then(i->i*2)
+                   .block());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public Object fastFutureJoin(){
+  FastFuture<Integer> f = new FastFuture<>();
+  completer.execute(()->f.set(1));
+  return f.join();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public Object completableFutureJoin(){
+  CompletableFuture<Integer> f = new CompletableFuture<>();
+  completer.execute(()->f.complete(1));
+  return f.join();
+ }
+
+}
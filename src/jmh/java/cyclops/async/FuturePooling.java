@@ -0,0 +1,84 @@
+package cyclops.async;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * FastFuture object pooling on and off, for a sequential stream (futures are recycled on the thread that issues them)
+ * and a parallel stream (futures are recycled by other threads). Run with -prof gc to compare allocation rates
+ * (gc.alloc.rate.norm is bytes allocated per benchmark call).
+ */
+@State(Scope.Benchmark)
+public class FuturePooling {
+
+ static final int SIZE = 10_000;
+
+ @Param({"off","on"})
+ String pooling;
+
+ @Param({"sequential","parallel"})
+ String mode;
+
+ ExecutorService exec;
+ List<Integer> data;
+ LazyReact react;
+
+ @Setup
+ public void setup(){
+  data = IntStream.range(0,SIZE)
+                  .boxed()
+                  .collect(Collectors.toList());
+  if("sequential".equals(mode)){
+   exec = Executors.newSingleThreadExecutor();
+   react = LazyReact.sequentialCurrentBuilder();
+  }else{
+   exec = Executors.newFixedThreadPool(4);
+   react = new LazyReact(exec);
+  }
+  react = "on".equals(pooling) ? react.objectPoolingOn() : react.objectPoolingOff();
+ }
+ @TearDown
+ public void tearDown(){
+  exec.shutdown();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void mapToList(Blackhole bh){
+  bh.consume(react.from(data)
+                  .map(i->i+1)
+                  .toList());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void mapForEach(Blackhole bh){
+  react.from(data)
+       .map(i->i+1)
+       .forEach(bh::consume);
+ }
+
+}
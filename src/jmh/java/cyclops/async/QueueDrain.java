@@ -0,0 +1,80 @@
+package cyclops.async;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class QueueDrain {
+
+ static final int SIZE = 100_000;
+
+ ExecutorService producer;
+
+ @Setup
+ public void setup(){
+  producer = Executors.newSingleThreadExecutor();
+ }
+ @TearDown
+ public void tearDown(){
+  producer.shutdown();
+ }
+
+ private void transfer(QueueFactory<Integer> factory, Blackhole bh){
+  Queue<Integer> queue = factory.build();
+  producer.execute(()->{
+   for(int i=0;i<SIZE;i++){
+    queue.offer(i);
+   }
+   queue.close();
+  });
+  queue.stream()
+       .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void unboundedQueue(Blackhole bh){
+  transfer(QueueFactories.unboundedQueue(),bh);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void boundedNonBlockingQueue(Blackhole bh){
+  transfer(QueueFactories.boundedNonBlockingQueue(1024),bh);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void ringBufferQueue(Blackhole bh){
+  transfer(QueueFactories.ringBufferQueue(1024,256),bh);
+ }
+
+}
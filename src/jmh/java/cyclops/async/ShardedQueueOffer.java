@@ -0,0 +1,85 @@
+package cyclops.async;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for 1 to 8 producer threads to hand 100_000 elements to a single consumer,
+ * through a single tail (boundedNonBlockingQueue) or a lane per producer (shardedQueue).
+ */
+@State(Scope.Benchmark)
+public class ShardedQueueOffer {
+
+ static final int SIZE = 100_000;
+
+ @Param({"1","2","4","8"})
+ int producers;
+
+ ExecutorService exec;
+
+ @Setup
+ public void setup(){
+  exec = Executors.newFixedThreadPool(producers);
+ }
+ @TearDown
+ public void tearDown(){
+  exec.shutdown();
+ }
+
+ private void transfer(QueueFactory<Integer> factory, Blackhole bh){
+  Queue<Integer> queue = factory.build();
+  CountDownLatch done = new CountDownLatch(producers);
+  for(int p=0;p<producers;p++){
+   exec.execute(()->{
+    for(int i=0;i<SIZE/producers;i++){
+     queue.offer(i);
+    }
+    done.countDown();
+   });
+  }
+  exec.execute(()->{
+   try {
+    done.await();
+   } catch (InterruptedException e) {
+    Thread.currentThread().interrupt();
+   }
+   queue.close();
+  });
+  queue.stream()
+       .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void boundedNonBlockingQueue(Blackhole bh){
+  transfer(QueueFactories.boundedNonBlockingQueue(1024),bh);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void shardedQueue(Blackhole bh){
+  transfer(QueueFactories.shardedQueue(producers,1024),bh);
+ }
+
+}
@@ -0,0 +1,100 @@
+package cyclops.async;
+
+import cyclops.async.wait.WaitStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of handing a single element to an idle consumer and back (roundTrip), and throughput of a
+ * bulk transfer, for each WaitStrategy. Run with -prof stack (or -prof perfnorm on Linux) to compare
+ * the CPU burnt by idle consumers.
+ */
+@State(Scope.Benchmark)
+public class WaitStrategies {
+
+ static final int SIZE = 10_000;
+
+ @Param({"direct","noWaitRetry","spin","yield","backoff","hybrid"})
+ String strategy;
+
+ ExecutorService echo;
+ Queue<Integer> requests;
+ Queue<Integer> responses;
+
+ private QueueFactory<Integer> factory(){
+  if("direct".equals(strategy))
+   return QueueFactories.boundedQueue(1024);
+  return QueueFactories.boundedNonBlockingQueue(1024,waitStrategy());
+ }
+ private WaitStrategy<Integer> waitStrategy(){
+  switch(strategy){
+   case "noWaitRetry":
+    return WaitStrategy.noWaitRetry();
+   case "spin":
+    return WaitStrategy.spinWait();
+   case "yield":
+    return WaitStrategy.yieldWait();
+   case "backoff":
+    return WaitStrategy.exponentialBackOff();
+   default:
+    return WaitStrategy.hybridWait();
+  }
+ }
+
+ @Setup
+ public void setup(){
+  echo = Executors.newSingleThreadExecutor();
+  requests = factory().build();
+  responses = factory().build();
+  echo.execute(()->requests.stream()
+                           .forEach(responses::offer));
+ }
+ @TearDown
+ public void tearDown(){
+  requests.close();
+  responses.close();
+  echo.shutdown();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MICROSECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public Integer roundTrip(){
+  requests.offer(1);
+  return responses.get();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void transfer(Blackhole bh){
+  for(int i=0;i<SIZE;i++){
+   requests.offer(i);
+   if(i%64==63){
+    for(int j=0;j<64;j++)
+     bh.consume(responses.get());
+   }
+  }
+  for(int i=0;i<SIZE%64;i++)
+   bh.consume(responses.get());
+ }
+
+}
@@ -0,0 +1,107 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.IntSeq;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * map / filter / scanLeft / sum over ints with IntSeq, IntStream and a boxed ReactiveSeq. IntSeq keeps the values
+ * unboxed between operators, so it should track IntStream rather than ReactiveSeq.
+ */
+@State(Scope.Benchmark)
+public class PrimitiveSeq {
+
+ @Param({"1000","100000"})
+ int size;
+
+ int[] data;
+
+ @Setup
+ public void setup(){
+  data = IntStream.range(0,size).toArray();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void intStreamMapFilterSum(Blackhole bh){
+  bh.consume(IntStream.of(data)
+          .map(i -> i * 3)
+          .filter(i -> i % 2 == 0)
+          .sum());
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void intSeqMapFilterSum(Blackhole bh){
+  bh.consume(IntSeq.of(data)
+          .map(i -> i * 3)
+          .filter(i -> i % 2 == 0)
+          .sum());
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqMapFilterSum(Blackhole bh){
+  bh.consume(ReactiveSeq.ofInts(data)
+          .map(i -> i * 3)
+          .filter(i -> i % 2 == 0)
+          .foldLeft(0, (a, b) -> a + b));
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void intSeqScanLeft(Blackhole bh){
+  IntSeq.of(data)
+        .scanLeft(0, (a, b) -> a + b)
+        .forEach(bh::consume);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqScanLeft(Blackhole bh){
+  ReactiveSeq.ofInts(data)
+             .scanLeft(0, (a, b) -> a + b)
+             .forEach(bh::consume);
+ }
+
+}
@@ -0,0 +1,61 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.DoubleSeq;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * sliding(n) over 100k elements. Windows are views over an append only buffer, so the cost per element should not
+ * grow with the window size.
+ */
+@State(Scope.Benchmark)
+public class Sliding {
+
+ static final int SIZE = 100_000;
+
+ @Param({"10","1000"})
+ int window;
+
+ double[] data;
+
+ @Setup
+ public void setup(){
+  data = IntStream.range(0,SIZE).asDoubleStream().toArray();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqSliding(Blackhole bh){
+  ReactiveSeq.range(0,SIZE)
+             .sliding(window)
+             .forEach(w -> bh.consume(w.get(0)));
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void doubleSeqMovingFirst(Blackhole bh){
+  DoubleSeq.of(data)
+           .slidingMap(window, w -> w[0])
+           .forEach(bh::consume);
+ }
+
+}
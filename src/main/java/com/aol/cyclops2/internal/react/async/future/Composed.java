@@ -0,0 +1,90 @@
+package com.aol.cyclops2.internal.react.async.future;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Result of a composing stage (thenCompose / thenComposeAsync) in an ExecutionPipeline
+ *
+ * Rather than parking a thread until the CompletableFuture returned by the user function completes, the stage
+ * returns a Composed and the executing FastFuture resumes the pipeline from the CompletableFuture's completion callback.
+ * Synchronous stages after the composing stage (see Fused, exceptionally / whenComplete) are captured as
+ * a continuation and applied to the outcome of the CompletableFuture.
+ */
+@AllArgsConstructor
+final class Composed {
+
+    private final CompletableFuture<?> future;
+    /**
+     * Applied to the outcome of the future, a Supplier that returns the value or throws the failure
+     */
+    private final Function<Supplier<Object>, Object> continuation;
+
+    static Composed of(final CompletableFuture<?> future) {
+        return new Composed(
+                            future, Supplier::get);
+    }
+
+    /**
+     * @param stage Stage to apply to the outcome of this Composed, once it is available
+     * @return Composed that applies the supplied stage after the current continuation
+     */
+    Composed around(final Function<Supplier<Object>, Object> stage) {
+        return new Composed(
+                            future, outcome -> around(() -> continuation.apply(outcome), stage));
+    }
+
+    /**
+     * Register a callback to be executed when the future completes.
+     * The callback receives a Supplier that applies the continuation (and so may throw, or return another Composed).
+     *
+     * @param resume Callback to resume the pipeline with
+     */
+    void onComplete(final Consumer<Supplier<Object>> resume) {
+        future.whenComplete((value, error) -> {
+            final Supplier<Object> outcome = error == null ? () -> value : () -> {
+                throw joinFailure(error);
+            };
+            resume.accept(() -> continuation.apply(outcome));
+        });
+    }
+
+    /**
+     * Apply a stage to the outcome of before, deferring the stage if before returns a Composed
+     *
+     * @param before Computes the input to the stage (may throw)
+     * @param stage Stage that receives a Supplier returning the value or throwing the failure from before
+     * @return Result of the stage, or a Composed that will apply it
+     */
+    static Object around(final Supplier<Object> before, final Function<Supplier<Object>, Object> stage) {
+        final Object result;
+        try {
+            result = before.get();
+        } catch (final Throwable t) {
+            return stage.apply(() -> {
+                throw ExceptionSoftener.throwSoftenedException(t);
+            });
+        }
+        if (result instanceof Composed)
+            return ((Composed) result).around(stage);
+        return stage.apply(() -> result);
+    }
+
+    /*
+     * Report failures as CompletableFuture#join would, so recovery functions see the same exception types as before
+     */
+    private static RuntimeException joinFailure(final Throwable error) {
+        if (error instanceof CompletionException || error instanceof CancellationException)
+            return (RuntimeException) error;
+        return new CompletionException(
+                                       error);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
@@ -38,13 +39,66 @@ public class ExecutionPipeline {
     }
 
     public <T> ExecutionPipeline peek(final Consumer<? super T> c) {
-        return this.<T, Object> thenApply(i -> {
-            c.accept(i);
-            return i;
-        });
+        return new ExecutionPipeline(
+                                     swapFusedFn(fused -> fused.peek(c, false)), execList.size() == 0 ? execList.plus(null) : execList, firstRecover,
+                                     onFail);
 
     }
 
+    /**
+     * Synchronous map stage, fused with any preceding synchronous stages.
+     * Failures are reported as a SimpleReactFailedStageException holding the input to fn.
+     */
+    public <T, R> ExecutionPipeline map(final Function<? super T, ? extends R> fn) {
+        return new ExecutionPipeline(
+                                     swapFusedFn(fused -> fused.apply(fn, true)), execList.size() == 0 ? execList.plus(null) : execList, firstRecover,
+                                     onFail);
+    }
+
+    /**
+     * Map stage, the start of a new fused run executed on the supplied Executor
+     */
+    public <T, R> ExecutionPipeline mapAsync(final Function<? super T, ? extends R> fn, final Executor exec) {
+        return new ExecutionPipeline(
+                                     addFn(Fused.empty()
+                                                .apply(fn, true)),
+                                     addExec(exec), firstRecover, onFail);
+    }
+
+    /**
+     * Synchronous filter stage, fused with any preceding synchronous stages.
+     * Elements that fail the predicate complete with a FilteredExecutionPathException.
+     */
+    public <T> ExecutionPipeline filter(final Predicate<? super T> p) {
+        return new ExecutionPipeline(
+                                     swapFusedFn(fused -> fused.filter(p)), execList.size() == 0 ? execList.plus(null) : execList, firstRecover,
+                                     onFail);
+    }
+
+    public <T> ExecutionPipeline filterAsync(final Predicate<? super T> p, final Executor exec) {
+        return new ExecutionPipeline(
+                                     addFn(Fused.empty()
+                                                .filter(p)),
+                                     addExec(exec), firstRecover, onFail);
+    }
+
+    /**
+     * Synchronous peek stage, fused with any preceding synchronous stages.
+     * Failures are reported as a SimpleReactFailedStageException holding the input to c.
+     */
+    public <T> ExecutionPipeline peekStage(final Consumer<? super T> c) {
+        return new ExecutionPipeline(
+                                     swapFusedFn(fused -> fused.peek(c, true)), execList.size() == 0 ? execList.plus(null) : execList, firstRecover,
+                                     onFail);
+    }
+
+    public <T> ExecutionPipeline peekStageAsync(final Consumer<? super T> c, final Executor exec) {
+        return new ExecutionPipeline(
+                                     addFn(Fused.empty()
+                                                .peek(c, true)),
+                                     addExec(exec), firstRecover, onFail);
+    }
+
     public <T, R> ExecutionPipeline thenApplyAsync(final Function<? super T, ? extends R> fn, final Executor exec) {
 
         return new ExecutionPipeline(
@@ -55,34 +109,32 @@ public class ExecutionPipeline {
     public <T, R> ExecutionPipeline thenComposeAsync(final Function<Object, CompletableFuture<?>> fn, final Executor exec) {
 
         return new ExecutionPipeline(
-                                     addFn(t -> fn.apply(t)
-                                                  .join()),
+                                     addFn(t -> Composed.of(fn.apply(t))),
                                      addExec(exec), firstRecover, onFail);
     }
 
     public <T, R> ExecutionPipeline thenCompose(final Function<? super T, CompletableFuture<? extends R>> fn) {
-        final Function<T, R> unpacked = t -> fn.apply(t)
-                                               .join();
+        final Function<T, Composed> composed = t -> Composed.of(fn.apply(t));
         return new ExecutionPipeline(
-                                     swapFn(unpacked), execList.size() == 0 ? execList.plus(null) : execList, firstRecover, onFail);
+                                     swapFusedFn(fused -> fused.apply(composed, false)), execList.size() == 0 ? execList.plus(null) : execList, firstRecover, onFail);
 
     }
 
     public <T, R> ExecutionPipeline thenApply(final Function<T, R> fn) {
         return new ExecutionPipeline(
-                                     swapComposeFn(fn), execList.size() == 0 ? execList.plus(null) : execList, firstRecover, onFail);
+                                     swapFusedFn(fused -> fused.apply(fn, false)), execList.size() == 0 ? execList.plus(null) : execList, firstRecover, onFail);
     }
 
     public <X extends Throwable, T> ExecutionPipeline exceptionally(final Function<? super X, ? extends T> fn) {
         if (functionList.size() > 0) {
             final Function before = functionList.get(functionList.size() - 1);
-            final Function except = t -> {
+            final Function except = t -> Composed.around(() -> before.apply(t), outcome -> {
                 try {
-                    return before.apply(t);
+                    return outcome.get();
                 } catch (final Throwable e) {
                     return fn.apply((X) e);
                 }
-            };
+            });
 
             return new ExecutionPipeline(
                                          swapFn(except), execList, firstRecover, onFail);
@@ -97,11 +149,11 @@ public class ExecutionPipeline {
 
         final Function before = functionList.get(functionList.size() - 1);
 
-        final Function except = t -> {
+        final Function except = t -> Composed.around(() -> before.apply(t), outcome -> {
             T res = null;
             X ex = null;
             try {
-                res = (T) before.apply(t);
+                res = (T) outcome.get();
             } catch (final Throwable e) {
                 ex = (X) e;
             }
@@ -109,7 +161,7 @@ public class ExecutionPipeline {
             if (ex != null)
                 throw (RuntimeException) ex;
             return res;
-        };
+        });
 
         return new ExecutionPipeline(
                                      swapFn(except), execList, firstRecover, onFail);
@@ -157,25 +209,30 @@ public class ExecutionPipeline {
 
     }
 
-    private PStack<Function> swapComposeFn(final Function fn) {
+    /*
+     * Append a synchronous stage to the run of synchronous stages at the end of the pipeline, rather than wrapping
+     * the last function in another closure
+     */
+    private PStack<Function> swapFusedFn(final Function<Fused, Fused> stage) {
         if (functionList.size() == 0) {
+            final Function fn = stage.apply(Fused.empty());
             if (firstRecover.size() == 0) {
                 return functionList.plus(fn);
             } else {
-                final Function except = t -> {
+                final Function except = t -> Composed.around(() -> fn.apply(t), outcome -> {
                     try {
-                        return fn.apply(t);
+                        return outcome.get();
                     } catch (final Throwable e) {
                         return composeFirstRecovery().apply(e);
                     }
-                };
+                });
                 return functionList.plus(except);
             }
 
         }
-        final Function before = functionList.get(functionList.size() - 1);
+        final Fused last = Fused.of(functionList.get(functionList.size() - 1));
         final PStack<Function> removed = functionList.minus(functionList.size() - 1);
-        return removed.plus(removed.size(), fn.compose(before));
+        return removed.plus(removed.size(), stage.apply(last));
     }
 
     private Function composeFirstRecovery() {
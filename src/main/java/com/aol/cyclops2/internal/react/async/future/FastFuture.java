@@ -2,8 +2,10 @@ package com.aol.cyclops2.internal.react.async.future;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,27 +23,46 @@ import lombok.Getter;
  * 2. only map / mapAsync/ exceptionally/ allOf and anyOf are neccessary
  * 3. For results / errors : single writer (one thread executing a task at a time, one thread sets the result or error) 
  * 						/ single reader (simple-react Stream)
- * 4. For post-hoc event listeners : single writer (simple-react Stream adds event listeners) : single reader (only one thread can read event listeners - 
- * 						either the thread that sets the result / error and eventually done,
- * 							or if done already set - the calling thread can execute post-hoc events)
+ * 4. For post-hoc event listeners and waiting threads : multiple writers / single reader. Listeners and threads blocked in join
+ * 						are pushed onto a lock-free (Treiber) stack, the thread that completes the future swaps the stack for COMPLETED
+ * 						and runs each listener / unparks each thread exactly once. Once COMPLETED is set, the calling thread executes
+ * 						post-hoc events directly
+ * 5. The result / error is written before done (volatile) is set, so it is visible to any thread that has observed done
  */
-@AllArgsConstructor
 public class FastFuture<T> {
 
     @Getter
     private volatile boolean done = false;
-    private volatile Consumer<OnComplete> forXOf;
-    private volatile Consumer<OnComplete> essential;
     @Getter
     private volatile boolean completedExceptionally = false;
-    private final AtomicReference result = new AtomicReference(
-                                                               UNSET);
-    private final AtomicReference exception = new AtomicReference(
-                                                                  UNSET);
+    private Object result;
+    private Throwable exception;
+    private volatile Waiter waiters;
+    private volatile int released = 0;
     private final Consumer<FastFuture<T>> doFinally;
-    private static UnSet UNSET = new UnSet();
+    /**
+     * If set, every stage runs on this lane (in place of the pipeline executors), see #onLane
+     */
+    private SerialLane lane;
+
+    private static final Waiter COMPLETED = new Waiter(
+                                                       null, null);
+    private static final AtomicReferenceFieldUpdater<FastFuture, Waiter> WAITERS = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                           Waiter.class, "waiters");
+    private static final AtomicIntegerFieldUpdater<FastFuture> RELEASED = AtomicIntegerFieldUpdater.newUpdater(FastFuture.class, "released");
 
-    static class UnSet {
+    /**
+     * A thread blocked in join / await, or a completion listener
+     */
+    private static class Waiter {
+        private final Thread thread;
+        private final Consumer<OnComplete> listener;
+        private Waiter next;
+
+        Waiter(final Thread thread, final Consumer<OnComplete> listener) {
+            this.thread = thread;
+            this.listener = listener;
+        }
     }
 
     @Getter
@@ -58,22 +79,6 @@ public class FastFuture<T> {
         this.pipeline = null;
     }
 
-    private T result() {
-        Object res = UNSET;
-        while ((res = result.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (T) res;
-    }
-
-    private Throwable exception() {
-        Object result = UNSET;
-        while ((result = exception.get()) == UNSET) {
-            Thread.yield();
-        }
-        return (Throwable) result;
-    }
-
     public FastFuture(final FinalPipeline pipeline, final Consumer<FastFuture<T>> doFinally) {
         this.max.set(0);
         this.pipeline = pipeline;
@@ -88,12 +93,21 @@ public class FastFuture<T> {
     }
 
     public void await() {
-
-        long spin = 1;
+        if (done)
+            return;
+        final Waiter waiter = new Waiter(
+                                         Thread.currentThread(), null);
+        if (!push(waiter))
+            return;
+        boolean interrupted = false;
         while (!done) {
-            LockSupport.parkNanos(spin++);
+            LockSupport.park(this);
+            if (Thread.interrupted())
+                interrupted = true;
         }
-
+        if (interrupted)
+            Thread.currentThread()
+                  .interrupt();
     }
 
     /**
@@ -104,14 +118,11 @@ public class FastFuture<T> {
     public T join() {
 
         try {
-            long spin = 1;
-            while (!done) {
-                LockSupport.parkNanos(spin++);
-            }
+            await();
             if (completedExceptionally)
                 throw new SimpleReactCompletionException(
-                                                         exception());
-            return result();
+                                                         exception);
+            return (T) result;
         } finally {
             markComplete();
         }
@@ -124,7 +135,8 @@ public class FastFuture<T> {
 
     public static <T> FastFuture<T> completedFuture(final T value) {
         final FastFuture<T> f = new FastFuture();
-        f.result.lazySet(value);
+        f.result = value;
+        f.waiters = COMPLETED;
         f.done = true;
         return f;
     }
@@ -164,21 +176,20 @@ public class FastFuture<T> {
 
             } catch (final Throwable e) {
                 finalError = e;
-                this.exception.lazySet(e);
             }
         }
         this.completeExceptionally(finalError);
 
-        throw (RuntimeException) exception();
+        throw (RuntimeException) exception;
     }
 
     private FastFuture<T> completeExceptionally(final Throwable t) {
-        exception.lazySet(t);
+        exception = t;
         completedExceptionally = true;
-        handleOnComplete(true);
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
         done = true;
+        handleOnComplete();
         return this;
     }
 
@@ -246,7 +257,7 @@ public class FastFuture<T> {
 
         for (final FastFuture next : futures) {
             next.onComplete(v -> {
-                anyOf.result.lazySet(true);
+                anyOf.result = true;
                 anyOf.done();
 
             });
@@ -254,6 +265,18 @@ public class FastFuture<T> {
         return anyOf;
     }
 
+    /**
+     * Run every stage of this future on the supplied lane, so futures sharing a lane complete each stage in the order they
+     * were set. Must be called before set.
+     * 
+     * @param lane Lane to run on
+     * @return This future
+     */
+    public FastFuture<T> onLane(final SerialLane lane) {
+        this.lane = lane;
+        return this;
+    }
+
     public void set(final T result) {
 
         try {
@@ -261,14 +284,15 @@ public class FastFuture<T> {
             final Object use = result;
 
             if (pipeline == null || pipeline.functions.length == 0) {
-                this.result.lazySet(use);
+                this.result = use;
                 done();
                 return;
             }
             final Function op = pipeline.functions[0];
-            if (this.pipeline.executors[0] != null) {
+            final Executor exec = lane != null ? lane : this.pipeline.executors[0];
+            if (exec != null) {
 
-                this.pipeline.executors[0].execute(() -> {
+                exec.execute(() -> {
                     set(() -> (T) op.apply(use), 1);
                 });
 
@@ -288,26 +312,37 @@ public class FastFuture<T> {
         try {
 
             final Object current = result.get();
+            if (current instanceof Composed) {
+                //resume from the composed future's callback rather than blocking this thread
+                final SerialLane lane = this.lane;
+                if (lane != null) {
+                    //hold back later elements on this lane until the composed future completes
+                    lane.suspend();
+                    ((Composed) current).onComplete(next -> lane.resume(() -> set((Supplier<T>) next, index)));
+                } else {
+                    ((Composed) current).onComplete(next -> set((Supplier<T>) next, index));
+                }
+                return;
+            }
 
             final Object use = current;
             if (index < pipeline.functions.length) {
                 final Function op = pipeline.functions[index];
-                this.pipeline.executors[index].execute(() -> {
+                (lane != null ? lane : this.pipeline.executors[index]).execute(() -> {
                     set(() -> (T) op.apply(use), index + 1);
                 });
                 return;
             }
 
-            this.result.lazySet(current);
+            this.result = current;
             done();
 
         } catch (final Throwable t) {
-            if (t instanceof CompletedException) {
-                if (this.doFinally != null)
-                    doFinally.accept(this);
-            }
 
             completeExceptionally(t);
+            //only hand back to the pool once complete, so the future is not reissued while listeners are still running
+            if (t instanceof CompletedException)
+                markComplete();
 
         }
 
@@ -316,59 +351,97 @@ public class FastFuture<T> {
     private boolean done() {
         this.completedExceptionally = false;
         this.done = true;
-        handleOnComplete(true);
+        handleOnComplete();
 
         return true;
 
     }
 
     public void clearFast() {
-        result.set(UNSET);
-        exception.set(UNSET);
-        this.forXOf = null;
-        this.essential = null;
-        this.count.set(0);
-        this.max.set(0);
-        this.completedExceptionally = false;
+        result = null;
+        exception = null;
+        //a recycled future is published to other threads via the Executor it is submitted to, only done needs a full fence
+        WAITERS.lazySet(this, null);
+        if (count.get() != 0)
+            count.lazySet(0);
+        if (max.get() != 0)
+            max.lazySet(0);
+        if (completedExceptionally)
+            completedExceptionally = false;
+        this.lane = null;
         this.done = false;
+        RELEASED.lazySet(this, 0);
+    }
+
+    /**
+     * Guards against returning a pooled future to its pool more than once per use (e.g. by both join and a continuation),
+     * or before it has completed
+     * 
+     * @return true exactly once after this future completes (until it is reissued via clearFast)
+     */
+    public boolean release() {
+        return done && RELEASED.compareAndSet(this, 0, 1);
     }
 
     /**
-     * Called at least once on complete
+     * Called exactly once on complete
      * 
      */
     public void essential(final Consumer<OnComplete> fn) {
-        this.essential = fn; //set - could also be called on a separate thread
-        if (done) { //can be called again
-            fn.accept(buildOnComplete());
-        }
+        onComplete(fn);
     }
 
     /**
-     * Called at least once on complete
+     * Called exactly once on complete, on the completing thread or (if already complete) the calling thread
      * 
      */
     public void onComplete(final Consumer<OnComplete> fn) {
-
-        this.forXOf = fn; //set - could also be called on a separate thread
-
-        if (done) { //can be called again
+        if (!push(new Waiter(
+                             null, fn)))
             fn.accept(buildOnComplete());
-        }
     }
 
-    private void handleOnComplete(final boolean force) {
-        if (forXOf != null)
-            forXOf.accept(buildOnComplete());
-
-        if (this.essential != null)
-            this.essential.accept(buildOnComplete());
+    /**
+     * @return false if this future has already completed (and released its waiters)
+     */
+    private boolean push(final Waiter waiter) {
+        for (;;) {
+            final Waiter head = waiters;
+            if (head == COMPLETED)
+                return false;
+            waiter.next = head;
+            if (WAITERS.compareAndSet(this, head, waiter))
+                return true;
+        }
+    }
 
+    private void handleOnComplete() {
+        Waiter head = WAITERS.getAndSet(this, COMPLETED);
+        if (head == COMPLETED || head == null)
+            return;
+        //release in registration order
+        Waiter reversed = null;
+        while (head != null) {
+            final Waiter next = head.next;
+            head.next = reversed;
+            reversed = head;
+            head = next;
+        }
+        OnComplete event = null;
+        for (Waiter next = reversed; next != null; next = next.next) {
+            if (next.thread != null) {
+                LockSupport.unpark(next.thread);
+            } else {
+                if (event == null)
+                    event = buildOnComplete();
+                next.listener.accept(event);
+            }
+        }
     }
 
     private OnComplete buildOnComplete() {
         final OnComplete c = new OnComplete(
-                                            !completedExceptionally && done ? result() : null, completedExceptionally ? exception() : null,
+                                            !completedExceptionally && done ? result : null, completedExceptionally ? exception : null,
                                             this.completedExceptionally);
         return c;
     }
@@ -0,0 +1,128 @@
+package com.aol.cyclops2.internal.react.async.future;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
+import com.aol.cyclops2.react.SimpleReactFailedStageException;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import com.nurkiewicz.asyncretry.policy.AbortRetryException;
+
+/**
+ * A run of consecutive synchronous stages (map / filter / peek) in an ExecutionPipeline, fused into a single function
+ *
+ * Rather than nesting a closure per stage (and a further closure per stage to report failures), the stages are held in
+ * arrays and applied in a loop, with a single try / catch for the whole run. A filtered element ends the run by
+ * throwing a FilteredExecutionPathException, as filter stages always have.
+ *
+ * Stages may return a Composed (e.g. thenCompose), in which case the remaining stages are applied once it completes.
+ */
+final class Fused implements Function<Object, Object> {
+
+    private static final byte APPLY = 0;
+    private static final byte FILTER = 1;
+    private static final byte PEEK = 2;
+
+    private static final Fused EMPTY = new Fused(
+                                                 new Object[0], new byte[0], new boolean[0]);
+
+    private final Object[] stages;
+    private final byte[] kinds;
+    /**
+     * true if failures of the stage are reported as a SimpleReactFailedStageException holding its input
+     */
+    private final boolean[] report;
+
+    private Fused(final Object[] stages, final byte[] kinds, final boolean[] report) {
+        this.stages = stages;
+        this.kinds = kinds;
+        this.report = report;
+    }
+
+    static Fused empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param fn Pipeline function to start a fused run with
+     * @return fn if it is already fused, otherwise a run starting with fn
+     */
+    static Fused of(final Function fn) {
+        if (fn instanceof Fused)
+            return (Fused) fn;
+        return EMPTY.apply(fn, false);
+    }
+
+    Fused apply(final Function fn, final boolean reportFailures) {
+        return plus(fn, APPLY, reportFailures);
+    }
+
+    Fused filter(final Predicate p) {
+        return plus(p, FILTER, false);
+    }
+
+    Fused peek(final Consumer c, final boolean reportFailures) {
+        return plus(c, PEEK, reportFailures);
+    }
+
+    private Fused plus(final Object stage, final byte kind, final boolean reportFailures) {
+        final int size = stages.length;
+        final Object[] nextStages = Arrays.copyOf(stages, size + 1);
+        final byte[] nextKinds = Arrays.copyOf(kinds, size + 1);
+        final boolean[] nextReport = Arrays.copyOf(report, size + 1);
+        nextStages[size] = stage;
+        nextKinds[size] = kind;
+        nextReport[size] = reportFailures;
+        return new Fused(
+                         nextStages, nextKinds, nextReport);
+    }
+
+    @Override
+    public Object apply(final Object t) {
+        return applyFrom(0, t);
+    }
+
+    private Object applyFrom(final int start, final Object input) {
+        Object value = input;
+        int i = start;
+        try {
+            for (; i < stages.length; i++) {
+                switch (kinds[i]) {
+                case FILTER:
+                    if (!((Predicate) stages[i]).test(value))
+                        throw new FilteredExecutionPathException();
+                    break;
+                case PEEK:
+                    ((Consumer) stages[i]).accept(value);
+                    break;
+                default:
+                    final Object next = ((Function) stages[i]).apply(value);
+                    if (next instanceof Composed) {
+                        final int resume = i + 1;
+                        if (resume == stages.length)
+                            return next;
+                        return ((Composed) next).around(outcome -> applyFrom(resume, outcome.get()));
+                    }
+                    value = next;
+                }
+            }
+        } catch (final Throwable t) {
+            throw failure(i, value, t);
+        }
+        return value;
+    }
+
+    private RuntimeException failure(final int stage, final Object input, final Throwable t) {
+        if (report[stage] && !(t instanceof AbortRetryException)) //special case for retry
+            return new SimpleReactFailedStageException(
+                                                       input, t);
+        throw ExceptionSoftener.throwSoftenedException(t);
+    }
+
+    @Override
+    public String toString() {
+        return "Fused[" + stages.length + "]";
+    }
+}
@@ -2,38 +2,86 @@ package com.aol.cyclops2.internal.react.async.future;
 
 import java.util.function.Supplier;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
-import lombok.AllArgsConstructor;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
 
 /**
- * Single consumer / multiple producer future pool
- * 
+ * FastFuture pool with a free list for the issuing thread and a shared overflow.
+ *
+ * Futures are issued by a single thread at a time (the thread pulling from the Stream). Futures recycled by that thread
+ * (e.g. a sequential Stream joining its own futures) are pushed onto its free list, which only the owning thread ever
+ * accesses and so needs no synchronization. Futures recycled by other threads, or that do not fit in the free list, are
+ * offered to the shared bounded queue. When the shared queue is full the future is left to the garbage collector.
+ *
+ * The free list is held by the pool rather than in a ThreadLocal, as a pool is created per Stream and ThreadLocal entries
+ * would accumulate on long lived threads.
+ *
+ * A future is only returned to the pool once per use, after it has completed (see FastFuture#release)
+ *
  * @author johnmcclean
  *
  */
-@AllArgsConstructor
 public class FuturePool {
 
-    private final ManyToOneConcurrentArrayQueue<FastFuture> pool;
+    private final ManyToManyConcurrentArrayQueue<FastFuture> shared;
     private final int max;
+    private volatile FreeList local;
 
-    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
-        if (pool.size() > 0) {
+    public FuturePool(final int max) {
+        this.max = Math.max(2, max);
+        shared = new ManyToManyConcurrentArrayQueue<>(
+                                                      this.max);
+    }
 
-            final FastFuture next = pool.poll();
-            next.clearFast();
-            return next;
+    public <T> FastFuture<T> next(final Supplier<FastFuture<T>> factory) {
+        final Thread current = Thread.currentThread();
+        FreeList free = local;
+        if (free == null || free.owner != current) {
+            //issuing thread has changed, futures recycled onto the previous free list are left to the garbage collector
+            free = new FreeList(
+                                current, max);
+            local = free;
         }
-
-        return factory.get();
+        FastFuture next = free.pop();
+        if (next == null)
+            next = shared.poll();
+        if (next == null)
+            return factory.get();
+        next.clearFast();
+        return next;
     }
 
     public <T> void done(final FastFuture<T> f) {
-        if (pool.size() < max) {
+        if (!f.release())
+            return;
+        final FreeList free = local;
+        if (free != null && free.owner == Thread.currentThread() && free.push(f))
+            return;
+        shared.offer(f);
+    }
+
+    private static class FreeList {
+        private final Thread owner;
+        private final FastFuture[] futures;
+        private int size = 0;
 
-            pool.offer(f);
+        FreeList(final Thread owner, final int max) {
+            this.owner = owner;
+            futures = new FastFuture[max];
         }
 
+        FastFuture pop() {
+            if (size == 0)
+                return null;
+            final FastFuture next = futures[--size];
+            futures[size] = null;
+            return next;
+        }
+
+        boolean push(final FastFuture f) {
+            if (size == futures.length)
+                return false;
+            futures[size++] = f;
+            return true;
+        }
     }
 }
@@ -0,0 +1,35 @@
+package com.aol.cyclops2.internal.react.async.future;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * A fixed set of SerialLanes sharing a pool, each key is always routed to the same lane
+ */
+public class KeyedLanes {
+
+    private final SerialLane[] lanes;
+    private final Function<Object, ?> keyFn;
+
+    public KeyedLanes(final Executor pool, final int parallelism, final Function<?, ?> keyFn) {
+        this.lanes = new SerialLane[Math.max(1, parallelism)];
+        for (int i = 0; i < lanes.length; i++)
+            lanes[i] = new SerialLane(
+                                      pool);
+        this.keyFn = (Function<Object, ?>) keyFn;
+    }
+
+    /**
+     * @param value Element to route
+     * @return Lane for the element's key
+     */
+    public SerialLane laneFor(final Object value) {
+        final int h = Objects.hashCode(keyFn.apply(value));
+        return lanes[Math.floorMod(h ^ (h >>> 16), lanes.length)];
+    }
+
+    public int size() {
+        return lanes.length;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import cyclops.function.Cacheable;
 import cyclops.function.Memoize;
@@ -85,6 +86,57 @@ public class PipelineBuilder {
 
     }
 
+    /**
+     * Stream map stage, synchronous stages are fused into a single pipeline function
+     */
+    public <T, R> PipelineBuilder map(final Function<? super T, ? extends R> fn) {
+        if (autoOptimise && builder.functionListSize() == 0)
+            return withBuilder(builder.mapAsync(memoize(fn), optimisingExec));
+        return withBuilder(builder.map(memoize(fn)));
+    }
+
+    public <T, R> PipelineBuilder mapAsync(final Function<? super T, ? extends R> fn, final Executor exec) {
+        if (autoOptimise) {//if we already have a function present, fuse with that
+            if (builder.functionListSize() > 0)
+                return map(fn);
+        }
+        return withBuilder(builder.mapAsync(memoize(fn), exec));
+    }
+
+    /**
+     * Stream filter stage, synchronous stages are fused into a single pipeline function
+     */
+    public <T> PipelineBuilder filter(final Predicate<? super T> p) {
+        if (autoOptimise && builder.functionListSize() == 0)
+            return withBuilder(builder.filterAsync(p, optimisingExec));
+        return withBuilder(builder.filter(p));
+    }
+
+    public <T> PipelineBuilder filterAsync(final Predicate<? super T> p, final Executor exec) {
+        if (autoOptimise) {//if we already have a function present, fuse with that
+            if (builder.functionListSize() > 0)
+                return filter(p);
+        }
+        return withBuilder(builder.filterAsync(p, exec));
+    }
+
+    /**
+     * Stream peek stage, synchronous stages are fused into a single pipeline function
+     */
+    public <T> PipelineBuilder peekStage(final Consumer<? super T> c) {
+        if (autoOptimise && builder.functionListSize() == 0)
+            return withBuilder(builder.peekStageAsync(c, optimisingExec));
+        return withBuilder(builder.peekStage(c));
+    }
+
+    public <T> PipelineBuilder peekStageAsync(final Consumer<? super T> c, final Executor exec) {
+        if (autoOptimise) {//if we already have a function present, fuse with that
+            if (builder.functionListSize() > 0)
+                return peekStage(c);
+        }
+        return withBuilder(builder.peekStageAsync(c, exec));
+    }
+
     public <X extends Throwable, T> PipelineBuilder exceptionally(final Function<? super X, ? extends T> fn) {
 
         return withBuilder(builder.exceptionally(fn));
@@ -104,6 +156,10 @@ public class PipelineBuilder {
         return withBuilder(builder.onFail(onFail));
     }
 
+    public boolean isEmpty() {
+        return builder.functionListSize() == 0;
+    }
+
     public boolean isSequential() {
         return builder.isSequential();
     }
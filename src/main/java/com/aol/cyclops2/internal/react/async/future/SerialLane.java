@@ -0,0 +1,104 @@
+package com.aol.cyclops2.internal.react.async.future;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * An Executor that runs its tasks one at a time, in submission order, on a shared (work-stealing) pool.
+ *
+ * A running task may suspend the lane (e.g. while a composed CompletableFuture is outstanding), no further tasks are
+ * started until it is resumed with a continuation, which runs before any task queued in the meantime. FastFutures bound
+ * to a lane run each of their stages on it, so elements on the same lane complete each stage in the order they arrived.
+ */
+public class SerialLane implements Executor {
+
+    /**
+     * Tasks run per pool submission, before the lane yields its pool thread to other lanes
+     */
+    private static final int BATCH = 64;
+    private static final Object PARKED = new Object();
+
+    private final Executor pool;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    /**
+     * Held while a runner is draining this lane, or while the lane is suspended
+     */
+    private final AtomicBoolean owned = new AtomicBoolean(
+                                                          false);
+    /**
+     * Suspension handshake, PARKED once the runner has stopped, or the continuation if resume won the race
+     */
+    private final AtomicReference<Object> handoff = new AtomicReference<>();
+    /**
+     * Only accessed by the thread currently draining the lane
+     */
+    private boolean suspendRequested = false;
+
+    public SerialLane(final Executor pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        tasks.offer(task);
+        schedule();
+    }
+
+    /**
+     * Called by the running task, stop running tasks once it returns until #resume is called
+     */
+    public void suspend() {
+        suspendRequested = true;
+    }
+
+    /**
+     * Resume a suspended lane, running the continuation before any other queued task. Must be called exactly once per #suspend
+     *
+     * @param continuation Task to run first
+     */
+    public void resume(final Runnable continuation) {
+        if (handoff.compareAndSet(null, continuation))
+            return; //the runner has yet to stop, it will run the continuation itself
+        handoff.set(null);
+        pool.execute(() -> drain(continuation));
+    }
+
+    private void schedule() {
+        if (owned.compareAndSet(false, true))
+            pool.execute(() -> drain(null));
+    }
+
+    private void drain(final Runnable first) {
+        Runnable next = first != null ? first : tasks.poll();
+        int run = 0;
+        while (next != null) {
+            run(next);
+            if (suspendRequested) {
+                suspendRequested = false;
+                if (handoff.compareAndSet(null, PARKED))
+                    return; //resume will restart the lane
+                next = (Runnable) handoff.getAndSet(null);
+                continue;
+            }
+            if (++run == BATCH) {
+                pool.execute(() -> drain(null));
+                return;
+            }
+            next = tasks.poll();
+        }
+        owned.set(false);
+        if (!tasks.isEmpty())
+            schedule();
+    }
+
+    private void run(final Runnable task) {
+        try {
+            task.run();
+        } catch (final Throwable t) {
+            //FastFuture tasks capture their own failures, never let a task stall the lane
+        }
+    }
+}
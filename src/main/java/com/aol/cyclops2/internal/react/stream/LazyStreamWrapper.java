@@ -1,16 +1,17 @@
 package com.aol.cyclops2.internal.react.stream;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
-
 import cyclops.async.LazyReact;
 import cyclops.stream.ReactiveSeq;
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
 import com.aol.cyclops2.internal.react.async.future.FinalPipeline;
 import com.aol.cyclops2.internal.react.async.future.FuturePool;
+import com.aol.cyclops2.internal.react.async.future.KeyedLanes;
 import com.aol.cyclops2.internal.react.async.future.PipelineBuilder;
 
 import lombok.AllArgsConstructor;
@@ -24,6 +25,8 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
     private final LazyReact react;
     private PipelineBuilder pipeline;
     private final FuturePool pool;
+    @Wither
+    private final KeyedLanes lanes;
 
     public LazyStreamWrapper(final Stream values, final LazyReact react) {
 
@@ -34,13 +37,11 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         this.react = react;
         if (react.isPoolingActive())
             pool = new FuturePool(
-                                  new ManyToOneConcurrentArrayQueue<>(
-                                                                      react.getMaxActive()
-                                                                           .getMaxActive()),
                                   react.getMaxActive()
                                        .getMaxActive());
         else
             pool = null;
+        lanes = null;
 
     }
 
@@ -50,12 +51,14 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
 
     public Stream<FastFuture> injectFutures() {
         final FastFuture f = pipeline.build();
+        final Supplier<FastFuture> pooled = pool != null ? pooledFactory(f.getPipeline()) : null;
         final Function<Object, FastFuture> factory = v -> {
 
-            final FastFuture next = pool != null ? pool.next(() -> new FastFuture<>(
-                                                                                    f.getPipeline(), fut -> pool.done(fut)))
+            final FastFuture next = pool != null ? pool.next((Supplier) pooled)
                     : new FastFuture<>(
                                        f.getPipeline(), 0);
+            if (lanes != null)
+                next.onLane(lanes.laneFor(v));
             next.set(v);
             return next;
         };
@@ -73,16 +76,25 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
 
     private Stream<FastFuture> convertCompletableFutures(final FinalPipeline pipeline) {
 
-        return values.map(cf -> buildPool(pipeline).populateFromCompletableFuture((CompletableFuture) cf));
+        final Supplier<FastFuture> pooled = pool != null ? pooledFactory(pipeline) : null;
+        return values.map(cf -> buildPool(pipeline, pooled).populateFromCompletableFuture((CompletableFuture) cf));
     }
 
-    private FastFuture buildPool(final FinalPipeline pipeline) {
-        return pool != null ? pool.next(() -> new FastFuture<>(
-                                                               pipeline, fut -> pool.done(fut)))
+    private FastFuture buildPool(final FinalPipeline pipeline, final Supplier<FastFuture> pooled) {
+        return pool != null ? pool.next((Supplier) pooled)
                 : new FastFuture<>(
                                    pipeline, 0);
     }
 
+    /*
+     * Created once per Stream rather than per element
+     */
+    private Supplier<FastFuture> pooledFactory(final FinalPipeline pipeline) {
+        final Consumer<FastFuture> done = pool::done;
+        return () -> new FastFuture<>(
+                                      pipeline, (Consumer) done);
+    }
+
     public <R> LazyStreamWrapper<R> operation(final Function<PipelineBuilder, PipelineBuilder> action) {
         pipeline = action.apply(pipeline);
         return (LazyStreamWrapper) this;
@@ -107,6 +119,13 @@ public class LazyStreamWrapper<U> implements StreamWrapper<U> {
         return this.withValues(noType);
     }
 
+    /**
+     * @return true if no stages have been added to the source Stream (of values rather than CompletableFutures)
+     */
+    public boolean isStageless() {
+        return !react.isStreamOfFutures() && pipeline.isEmpty();
+    }
+
     public boolean isSequential() {
         return this.pipeline.isSequential();
     }
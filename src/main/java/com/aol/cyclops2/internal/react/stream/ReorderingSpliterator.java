@@ -0,0 +1,86 @@
+package com.aol.cyclops2.internal.react.stream;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.aol.cyclops2.react.SimpleReactFailedStageException;
+
+/**
+ * Applies a function to each element asynchronously, with up to window elements in flight, emitting the resulting
+ * futures in input order.
+ *
+ * The in flight futures are held in a ring (ArrayDeque) in sequence order, and so double as the reorder buffer. Results
+ * that complete ahead of the head of the ring are held in their futures until the head has been emitted, the head is
+ * emitted as soon as it completes (successfully or not). No new element is taken from the source until a slot is free,
+ * so at most window results are buffered.
+ */
+public class ReorderingSpliterator<T, R> implements Spliterator<CompletableFuture<R>> {
+
+    private final Spliterator<T> source;
+    private final Function<? super T, ? extends R> fn;
+    private final Executor executor;
+    private final int window;
+    private final ArrayDeque<CompletableFuture<R>> inFlight;
+    private boolean exhausted = false;
+
+    public ReorderingSpliterator(final Spliterator<T> source, final Function<? super T, ? extends R> fn, final Executor executor,
+            final int window) {
+        this.source = source;
+        this.fn = fn;
+        this.executor = executor;
+        this.window = Math.max(1, window);
+        this.inFlight = new ArrayDeque<>(
+                                         this.window);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super CompletableFuture<R>> action) {
+        Objects.requireNonNull(action);
+        while (!exhausted && inFlight.size() < window) {
+            if (!source.tryAdvance(this::submit))
+                exhausted = true;
+        }
+        final CompletableFuture<R> head = inFlight.poll();
+        if (head == null)
+            return false;
+        head.handle((r, t) -> null)
+            .join();
+        action.accept(head);
+        return true;
+    }
+
+    private void submit(final T input) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        inFlight.add(result);
+        executor.execute(() -> {
+            try {
+                result.complete(fn.apply(input));
+            } catch (final Throwable t) {
+                result.completeExceptionally(new SimpleReactFailedStageException(
+                                                                                 input, t));
+            }
+        });
+    }
+
+    @Override
+    public Spliterator<CompletableFuture<R>> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : size + inFlight.size();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+}
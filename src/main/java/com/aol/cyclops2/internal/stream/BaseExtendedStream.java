@@ -273,6 +273,40 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
         return createSeq(new SlidingSpliterator<>(get(),Function.identity(), windowSize,increment), reversible,split);
     }
 
+    @Override
+    public final ReactiveSeq<T> slidingReduce(final int windowSize, final Monoid<T> reducer) {
+        return slidingReduce(windowSize,1,reducer);
+    }
+
+    @Override
+    public final ReactiveSeq<T> slidingReduce(final int windowSize, final int increment, final Monoid<T> reducer) {
+        return createSeq(new SlidingReduceSpliterator<>(get(),reducer, windowSize,increment), reversible,split);
+    }
+
+    @Override
+    public final ReactiveSeq<T> slidingReduceByTime(final long time, final TimeUnit unit, final Monoid<T> reducer) {
+        return createSeq(new SlidingReduceByTimeSpliterator<>(get(),reducer, unit.toNanos(time),t->System.nanoTime()), reversible,split);
+    }
+
+    @Override
+    public final ReactiveSeq<T> slidingReduceByTime(final long time, final TimeUnit unit, final ToLongFunction<? super T> timestamp,
+                                                    final Monoid<T> reducer) {
+        return createSeq(new SlidingReduceByTimeSpliterator<>(get(),reducer, unit.toNanos(time),
+                                                              t->unit.toNanos(timestamp.applyAsLong(t))), reversible,split);
+    }
+
+    @Override
+    public final ReactiveSeq<T> sessionReduce(final long gap, final TimeUnit unit, final Monoid<T> reducer) {
+        return createSeq(new SessionReduceSpliterator<>(get(),reducer, unit.toNanos(gap),t->System.nanoTime()), reversible,split);
+    }
+
+    @Override
+    public final ReactiveSeq<T> sessionReduce(final long gap, final TimeUnit unit, final ToLongFunction<? super T> timestamp,
+                                              final Monoid<T> reducer) {
+        return createSeq(new SessionReduceSpliterator<>(get(),reducer, unit.toNanos(gap),
+                                                        t->unit.toNanos(timestamp.applyAsLong(t))), reversible,split);
+    }
+
     @Override
     public final ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingSpliterator<T,List<T>,ListX<T>>(get(),()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize), this.reversible,split);
@@ -1142,6 +1176,23 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
                 Function.identity(),time, t), reversible,split);
     }
 
+    @Override
+    public ReactiveSeq<ListX<T>> groupedByTime(final long time, final TimeUnit unit, final ScheduledExecutorService ex) {
+        return groupedBySizeAndTime(Integer.MAX_VALUE,time,unit,ex,()->ListX.empty(),Function.identity());
+    }
+
+    @Override
+    public ReactiveSeq<ListX<T>> groupedBySizeAndTime(final int size, final long time, final TimeUnit unit, final ScheduledExecutorService ex) {
+        return groupedBySizeAndTime(size,time,unit,ex,()->ListX.empty(),Function.identity());
+    }
+
+    @Override
+    public <C extends Collection<? super T>,R> ReactiveSeq<R> groupedBySizeAndTime(final int size, final long time, final TimeUnit unit,
+                                                                                  final ScheduledExecutorService ex, final Supplier<C> factory,
+                                                                                  final Function<? super C, ? extends R> finalizer) {
+        return createSeq(new ScheduledGroupingSpliterator<>(get(),factory,finalizer,size,time,unit,ex), reversible,split);
+    }
+
     @Override
     public T foldRight(final T identity, final BinaryOperator<T> accumulator) {
         return reverse().foldLeft(identity, accumulator);
@@ -0,0 +1,92 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Immutable PVector view over a slice of an array. The array slots covered by the view must never be written again,
+ * SlidingSpliterator guarantees this by only ever appending to its buffer. Modifying operations return a new
+ * TreePVector.
+ *
+ * @param <T> Element type
+ */
+final class ArrayWindow<T> extends AbstractList<T> implements PVector<T>, RandomAccess {
+
+    private final Object[] array;
+    private final int offset;
+    private final int size;
+
+    ArrayWindow(final Object[] array, final int offset, final int size) {
+        this.array = array;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public T get(final int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return (T) array[offset + index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public PVector<T> subList(final int start, final int end) {
+        if (start < 0 || end > size || start > end)
+            throw new IndexOutOfBoundsException();
+        return new ArrayWindow<>(
+                                 array, offset + start, end - start);
+    }
+
+    private PVector<T> copy() {
+        return TreePVector.from(this);
+    }
+
+    @Override
+    public PVector<T> plus(final T e) {
+        return copy().plus(e);
+    }
+
+    @Override
+    public PVector<T> plusAll(final Collection<? extends T> list) {
+        return copy().plusAll(list);
+    }
+
+    @Override
+    public PVector<T> with(final int i, final T e) {
+        return copy().with(i, e);
+    }
+
+    @Override
+    public PVector<T> plus(final int i, final T e) {
+        return copy().plus(i, e);
+    }
+
+    @Override
+    public PVector<T> plusAll(final int i, final Collection<? extends T> list) {
+        return copy().plusAll(i, list);
+    }
+
+    @Override
+    public PVector<T> minus(final Object e) {
+        return copy().minus(e);
+    }
+
+    @Override
+    public PVector<T> minusAll(final Collection<?> list) {
+        return copy().minusAll(list);
+    }
+
+    @Override
+    public PVector<T> minus(final int i) {
+        return copy().minus(i);
+    }
+}
@@ -38,8 +38,7 @@ public class FillSpliterator<T> implements Spliterator<T> {
 
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        return null; //ordered / stateful, traverse sequentially
     }
 
     
@@ -48,6 +48,23 @@ public class FilteringSpliterator<T> extends Spliterators.AbstractSpliterator<T>
         return new FilteringSpliterator<T>(CopyableSpliterator.copy(source),mapper);
     }
 
+    /**
+     * Split the source, so that filtering a balanced source (e.g. an array or range) parallelises evenly.
+     * Falls back to the default batching split if the source cannot be split.
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        final Spliterator<T> split = source.trySplit();
+        if (split == null)
+            return super.trySplit();
+        return new FilteringSpliterator<T>(split,mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
     @Override
     public Spliterator<T> compose() {
         if(source instanceof FilteringSpliterator){
@@ -50,8 +50,7 @@ public class IterateSpliterator<T> implements Spliterator<T>, CopyableSpliterato
 
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        return null; //ordered / stateful, traverse sequentially
     }
 
 
@@ -16,7 +16,7 @@ public class MappingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
     Spliterator<T> source;
     Function<? super T, ? extends R> mapper;
     public MappingSpliterator(final Spliterator<T> source,Function<? super T, ? extends R> mapper) {
-        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+        super(source.estimateSize(),source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
 
         this.source = source;
         this.mapper = mapper;
@@ -58,6 +58,23 @@ public class MappingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         return new MappingSpliterator<T, R>(CopyableSpliterator.copy(source),mapper);
     }
 
+    /**
+     * Split the source, so that mapping over a balanced source (e.g. an array or range) parallelises evenly.
+     * Falls back to the default batching split if the source cannot be split.
+     */
+    @Override
+    public Spliterator<R> trySplit() {
+        final Spliterator<T> split = source.trySplit();
+        if (split == null)
+            return super.trySplit();
+        return new MappingSpliterator<T, R>(split,mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
 
     @Override
     public Spliterator<T> source() {
@@ -48,7 +48,10 @@ public class RecoverSpliterator<T, X extends Throwable> implements CopyableSplit
 
     @Override
     public Spliterator<T> trySplit() {
-        return this;
+        final Spliterator<T> split = source.trySplit();
+        if (split == null)
+            return null;
+        return new RecoverSpliterator<T, X>(split,fn,type);
     }
 
 
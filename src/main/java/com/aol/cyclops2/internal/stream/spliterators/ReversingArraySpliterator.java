@@ -30,12 +30,12 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     @Override
     public long estimateSize() {
-        return max;
+        return Math.max(0, reverse ? index - start + 1 : max - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
     @Override
@@ -97,10 +97,28 @@ public class ReversingArraySpliterator<T> implements Spliterator<T>, ReversableS
 
     }
 
+    /**
+     * Balanced split, the returned spliterator covers the first half (in encounter order) of the remaining elements
+     */
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        if (!reverse) {
+            final int lo = index;
+            final int mid = (lo + max) >>> 1;
+            if (lo >= mid)
+                return null;
+            start = index = mid;
+            return new ReversingArraySpliterator<T>(
+                                                array, lo, mid, false);
+        }
+        final int hi = index + 1;
+        final int mid = (start + hi) >>> 1;
+        if (mid <= start)
+            return null;
+        max = mid;
+        index = mid - 1;
+        return new ReversingArraySpliterator<T>(
+                                            array, mid, hi, true);
     }
 
     @Override
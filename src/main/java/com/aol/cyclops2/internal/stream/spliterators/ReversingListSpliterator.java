@@ -3,6 +3,7 @@ package com.aol.cyclops2.internal.stream.spliterators;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 
@@ -13,7 +14,7 @@ import lombok.Setter;
 @AllArgsConstructor
 public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSpliterator<T> {
 
-    private final List<T> list;
+    private List<T> list;
     private ListIterator<T> it;
     @Getter
     @Setter
@@ -45,12 +46,12 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     @Override
     public long estimateSize() {
-        return list.size();
+        return reverse ? it.nextIndex() : list.size() - it.nextIndex();
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
     @Override
@@ -74,10 +75,33 @@ public class ReversingListSpliterator<T> implements Spliterator<T>, ReversableSp
 
     }
 
+    /**
+     * Balanced split for RandomAccess Lists, the returned spliterator covers the first half (in encounter order) of the
+     * remaining elements and this spliterator continues over a view of the rest
+     */
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        if (!(list instanceof RandomAccess))
+            return null;
+        final int position = it.nextIndex();
+        if (!reverse) {
+            final int mid = (position + list.size()) >>> 1;
+            if (position >= mid)
+                return null;
+            final List<T> prefix = list.subList(position, mid);
+            list = list.subList(mid, list.size());
+            it = list.listIterator();
+            return new ReversingListSpliterator<T>(
+                                                   prefix, false);
+        }
+        final int mid = position >>> 1;
+        if (mid == 0)
+            return null;
+        final List<T> prefix = list.subList(mid, position);
+        list = list.subList(0, mid);
+        it = list.listIterator(mid);
+        return new ReversingListSpliterator<T>(
+                                               prefix, true);
     }
 
 }
@@ -53,7 +53,7 @@ public class ScanLeftSpliterator<T,U> implements CopyableSpliterator<U> {
 
     @Override
     public Spliterator<U> trySplit() {
-        return this;
+        return null; //ordered / stateful, traverse sequentially
     }
 
     @Override
@@ -0,0 +1,252 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import com.aol.cyclops2.react.ThreadPools;
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Groups by size and time, where the time based flush is driven by a timer rather than by arriving elements. A
+ * partial group is emitted at most one period after its first element arrives, even if the source goes quiet.
+ *
+ * The supplied ScheduledExecutorService only runs the (short) flush tick at a fixed rate. The source is drained by a
+ * task on {@link ThreadPools#getVirtualThreadExecutor()}, which holds its own (virtual where supported) thread for the
+ * life of the Stream, so a partial group is handed over even while the source blocks. Completed groups are handed to
+ * the consuming thread through a queue. No clock is read per element. If the drain gets more than MAX_PENDING groups
+ * ahead of the consumer it waits, and it stops altogether if this Spliterator is no longer reachable (e.g. after
+ * limit / findFirst).
+ */
+public class ScheduledGroupingSpliterator<T, C extends Collection<? super T>, R> implements CopyableSpliterator<R> {
+
+    static final int MAX_PENDING = 16;
+    private static final Object COMPLETE = new Object();
+
+    private final Spliterator<T> source;
+    private final Supplier<? extends C> factory;
+    private final Function<? super C, ? extends R> finalizer;
+    private final int groupSize;
+    private final long period;
+    private final TimeUnit unit;
+    private final ScheduledExecutorService scheduler;
+
+    private Batcher<T, C, R> batcher;
+    private boolean done = false;
+
+    public ScheduledGroupingSpliterator(final Spliterator<T> source, final Supplier<? extends C> factory,
+                                        final Function<? super C, ? extends R> finalizer, final int groupSize, final long period,
+                                        final TimeUnit unit, final ScheduledExecutorService scheduler) {
+        if (groupSize <= 0)
+            throw new IllegalArgumentException("Group size must be greater than 0");
+        if (period <= 0)
+            throw new IllegalArgumentException("Period must be greater than 0");
+        this.source = source;
+        this.factory = factory;
+        this.finalizer = finalizer;
+        this.groupSize = groupSize;
+        this.period = period;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        if (done)
+            return false;
+        if (batcher == null)
+            batcher = new Batcher<>(
+                                    this);
+        final Object next = batcher.take();
+        if (next == COMPLETE) {
+            done = true;
+            batcher.stop();
+            return false;
+        }
+        if (next instanceof Failure) {
+            done = true;
+            batcher.stop();
+            throw ExceptionSoftener.throwSoftenedException(((Failure) next).error);
+        }
+        action.accept((R) next);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super R> action) {
+        while (tryAdvance(action)) {
+        }
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<R> copy() {
+        return new ScheduledGroupingSpliterator<>(
+                                                  CopyableSpliterator.copy(source), factory, finalizer, groupSize, period,
+                                                  unit, scheduler);
+    }
+
+    private static final class Failure {
+        final Throwable error;
+
+        Failure(final Throwable error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Drains the source and flushes on each tick. Only holds its owning Spliterator weakly, so an abandoned Stream
+     * does not keep the drain task or the tick alive.
+     */
+    private static final class Batcher<T, C extends Collection<? super T>, R> {
+        private final WeakReference<ScheduledGroupingSpliterator<T, C, R>> owner;
+        private final Supplier<? extends C> factory;
+        private final Function<? super C, ? extends R> finalizer;
+        private final int groupSize;
+        private final Spliterator<T> source;
+        private final LinkedBlockingQueue<Object> ready = new LinkedBlockingQueue<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ScheduledFuture<?> ticker;
+        private C collection;
+        private volatile boolean stopped = false;
+
+        Batcher(final ScheduledGroupingSpliterator<T, C, R> owner) {
+            this.owner = new WeakReference<>(
+                                             owner);
+            this.factory = owner.factory;
+            this.finalizer = owner.finalizer;
+            this.groupSize = owner.groupSize;
+            this.source = owner.source;
+            this.collection = factory.get();
+            this.ticker = owner.scheduler.scheduleAtFixedRate(this::tick, owner.period, owner.period, owner.unit);
+            ThreadPools.getVirtualThreadExecutor()
+                       .execute(this::drain);
+        }
+
+        private void flush() {
+            if (collection.size() > 0) {
+                final C full = collection;
+                collection = factory.get();
+                ready.add(finalizer.apply(full));
+            }
+        }
+
+        private void tick() {
+            if (owner.get() == null) {
+                stop();
+                return;
+            }
+            lock.lock();
+            try {
+                if (!stopped)
+                    flush();
+            } catch (final Throwable t) {
+                //rethrowing would silently cancel the fixed rate task, hand the error to the consumer instead
+                stop();
+                ready.add(new Failure(
+                                      t));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void add(final T next) {
+            awaitCapacity();
+            lock.lock();
+            try {
+                collection.add(next);
+                if (collection.size() >= groupSize)
+                    flush();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!stopped && source.tryAdvance(this::add)) {
+                }
+                finish(COMPLETE);
+            } catch (final Throwable t) {
+                finish(new Failure(
+                                   t));
+            }
+        }
+
+        private void finish(final Object signal) {
+            ticker.cancel(false);
+            lock.lock();
+            try {
+                flush();
+                ready.add(signal);
+            } catch (final Throwable t) {
+                ready.add(new Failure(
+                                      t));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void stop() {
+            stopped = true;
+            if (ticker != null)
+                ticker.cancel(false);
+            synchronized (ready) {
+                ready.notifyAll();
+            }
+        }
+
+        private void awaitCapacity() {
+            synchronized (ready) {
+                while (ready.size() >= MAX_PENDING && !stopped) {
+                    try {
+                        ready.wait(1_000);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread()
+                              .interrupt();
+                        stop();
+                    }
+                    if (owner.get() == null)
+                        stop();
+                }
+            }
+        }
+
+        Object take() {
+            try {
+                final Object next = ready.take();
+                synchronized (ready) {
+                    ready.notifyAll();
+                }
+                return next;
+            } catch (final InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                stop();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Monoid;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reduces sessions, runs of elements where each arrives within gap nanoseconds of the previous one. A session is
+ * emitted when an element arrives after the gap has elapsed, or when the source completes. Timestamps are read from
+ * a clock function, which may return the processing time or an event time carried by the element.
+ */
+public class SessionReduceSpliterator<T> extends Spliterators.AbstractSpliterator<T>
+                                implements CopyableSpliterator<T> {
+    private final Spliterator<T> source;
+    private final Monoid<T> monoid;
+    private final long gapNanos;
+    private final ToLongFunction<? super T> clock;
+
+    public SessionReduceSpliterator(final Spliterator<T> source, final Monoid<T> monoid, final long gapNanos,
+                                    final ToLongFunction<? super T> clock) {
+        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+        this.source = source;
+        this.monoid = monoid;
+        this.gapNanos = gapNanos;
+        this.clock = clock;
+        this.session = monoid.zero();
+    }
+
+    T session;
+    T closed;
+    long last;
+    boolean data = false;
+
+    /**
+     * @return true if t started a new session, the previous one is then held in closed
+     */
+    private boolean next(final T t) {
+        final long now = clock.applyAsLong(t);
+        boolean ended = false;
+        if (data && now - last > gapNanos) {
+            closed = session;
+            session = monoid.zero();
+            ended = true;
+        }
+        session = monoid.apply(session, t);
+        last = now;
+        data = true;
+        return ended;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(t -> {
+            if (next(t))
+                action.accept(closed);
+        });
+        if (data) {
+            data = false;
+            action.accept(session);
+        }
+    }
+
+    boolean ended = false;
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        for (;;) {
+            ended = false;
+            if (!source.tryAdvance(t -> ended = next(t))) {
+                if (!data)
+                    return false;
+                data = false;
+                action.accept(session);
+                return true;
+            }
+            if (ended) {
+                action.accept(closed);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new SessionReduceSpliterator<T>(CopyableSpliterator.copy(source), monoid, gapNanos, clock);
+    }
+}
@@ -0,0 +1,55 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Monoid;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * For each element emits the reduction of every element whose timestamp falls within the preceding window (the
+ * element itself included). Timestamps (in nanoseconds) are read from a clock function, which may return the
+ * processing time or an event time carried by the element; they are expected to be non decreasing.
+ */
+public class SlidingReduceByTimeSpliterator<T> extends Spliterators.AbstractSpliterator<T>
+                                implements CopyableSpliterator<T> {
+    private final Spliterator<T> source;
+    private final Monoid<T> monoid;
+    private final long windowNanos;
+    private final ToLongFunction<? super T> clock;
+    private final WindowAggregate<T> window;
+
+    public SlidingReduceByTimeSpliterator(final Spliterator<T> source, final Monoid<T> monoid, final long windowNanos,
+                                          final ToLongFunction<? super T> clock) {
+        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+        this.source = source;
+        this.monoid = monoid;
+        this.windowNanos = windowNanos;
+        this.clock = clock;
+        this.window = WindowAggregate.of(monoid);
+    }
+
+    private T next(final T t) {
+        final long now = clock.applyAsLong(t);
+        window.add(t, now);
+        while (now - window.oldestTime() >= windowNanos && window.size() > 1)
+            window.evict();
+        return window.get();
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(t -> action.accept(next(t)));
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return source.tryAdvance(t -> action.accept(next(t)));
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new SlidingReduceByTimeSpliterator<T>(CopyableSpliterator.copy(source), monoid, windowNanos, clock);
+    }
+}
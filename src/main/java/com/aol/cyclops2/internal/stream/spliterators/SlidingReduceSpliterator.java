@@ -0,0 +1,83 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Monoid;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Emits the reduction of each count based sliding window, with the same windows as SlidingSpliterator (including a
+ * trailing partial window) but maintained incrementally by a WindowAggregate
+ */
+public class SlidingReduceSpliterator<T> extends Spliterators.AbstractSpliterator<T>
+                                implements CopyableSpliterator<T> {
+    private final Spliterator<T> source;
+    private final Monoid<T> monoid;
+    private final int windowSize;
+    private final int increment;
+    private final WindowAggregate<T> window;
+
+    public SlidingReduceSpliterator(final Spliterator<T> source, final Monoid<T> monoid, final int windowSize, final int increment) {
+        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+        if (windowSize <= 0 || increment <= 0)
+            throw new IllegalArgumentException("Window size and increment must be greater than 0");
+        this.source = source;
+        this.monoid = monoid;
+        this.windowSize = windowSize;
+        this.increment = increment;
+        this.window = WindowAggregate.of(monoid);
+    }
+
+    private void slide() {
+        for (int i = 0; i < increment && window.size() > 0; i++)
+            window.evict();
+    }
+
+    boolean sent = false;
+    boolean data = false;
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(t->{
+            data = true;
+            window.add(t, 0);
+            if(window.size()==windowSize){
+                action.accept(window.get());
+                sent = true;
+                slide();
+            }else{
+                sent = false;
+            }
+        });
+        if(!sent && data){
+            action.accept(window.get());
+        }
+    }
+
+    boolean canAdvance = true;
+    boolean received = false;
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if(!canAdvance)
+            return false;
+        data = false;
+        slide();
+        while(window.size() < windowSize && canAdvance){
+            received = false;
+            canAdvance = source.tryAdvance(t -> {
+                received = true;
+                window.add(t, 0);
+            });
+            if(received)
+                data = true;
+        }
+        if(data)
+            action.accept(window.get());
+        return canAdvance;
+    }
+
+    @Override
+    public Spliterator<T> copy() {
+        return new SlidingReduceSpliterator<T>(CopyableSpliterator.copy(source), monoid, windowSize, increment);
+    }
+}
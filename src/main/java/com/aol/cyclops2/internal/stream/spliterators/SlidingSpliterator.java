@@ -1,9 +1,6 @@
 package com.aol.cyclops2.internal.stream.spliterators;
 
-import cyclops.box.Mutable;
 import cyclops.collections.immutable.PVectorX;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -20,7 +17,13 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
     private final Function<? super PVectorX<T>, ? extends R> finalizer;
     private final int windowSize;
     private final int increment;
-    final Mutable<PVector<T>> list = Mutable.of(TreePVector.empty());
+    /**
+     * Append only buffer, the current window is buffer[start, end). Emitted windows are views over the buffer, when it
+     * fills up the current window is copied into a new buffer rather than overwriting slots an earlier view may cover
+     */
+    private Object[] buffer = new Object[0];
+    private int start = 0;
+    private int end = 0;
     public SlidingSpliterator(final Spliterator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
                                 int windowSize, int increment) {
         super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
@@ -38,6 +41,28 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         return new SlidingSpliterator<T,R2>(CopyableSpliterator.copy(source),finalizer.andThen(fn), windowSize,increment);
     }
 
+    private void add(T t){
+        if(end==buffer.length){
+            int size = end-start;
+            //at least as many free slots as carried over, so copying is O(1) amortised per element
+            Object[] next = new Object[Math.max(16, size*2)];
+            System.arraycopy(buffer,start,next,0,size);
+            buffer = next;
+            start = 0;
+            end = size;
+        }
+        buffer[end++]=t;
+    }
+    private int size(){
+        return end-start;
+    }
+    private void slide(){
+        start += Math.min(increment, size());
+    }
+    private R window(){
+        return finalizer.apply(PVectorX.fromIterable(new ArrayWindow<T>(buffer,start,size())));
+    }
+
     boolean sent = false;
     boolean data = false;
     @Override
@@ -46,14 +71,12 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         source.forEachRemaining(t->{
             if(data==false)
                  data = true;
-            list.mutate(var -> var.plus(Math.max(0, var.size()), t));
-            if(list.get().size()==windowSize){
+            add(t);
+            if(size()==windowSize){
 
-                action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                action.accept(window());
                 sent = true;
-                for (int i = 0; i < increment && list.get()
-                        .size() > 0; i++)
-                list.mutate(var -> var.minus(0));
+                slide();
             }else{
                 sent =false;
             }
@@ -61,35 +84,31 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
 
         });
         if(!sent && data){
-            action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+            action.accept(window());
         }
 
     }
     boolean canAdvance = true;
+    boolean received = false;
     @Override
     public boolean tryAdvance(Consumer<? super R> action) {
        if(!canAdvance)
            return false;
        data = false;
-        for (int i = 0; i < increment && list.get()
-                .size() > 0; i++)
-            list.mutate(var -> var.minus(0));
-        for (; list.get()
-                .size() < windowSize
+       slide();
+        for (; size() < windowSize
                 && canAdvance;) {
-            Mutable<T> box = Mutable.of(null);
+            received = false;
             canAdvance = source.tryAdvance(t -> {
-                box.accept(t);
-
+                received = true;
+                add(t);
             });
-            if (box.get()!=null) {
+            if (received)
                 data =true;
-                list.mutate(var -> var.plus(Math.max(0, var.size()), box.get()));
-            }
 
         }
         if(data)
-            action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+            action.accept(window());
 
         return canAdvance;
     }
@@ -51,8 +51,7 @@ public class UnfoldSpliterator<T1,T> implements Spliterator<T>, CopyableSplitera
 
     @Override
     public Spliterator<T> trySplit() {
-
-        return this;
+        return null; //ordered / stateful, traverse sequentially
     }
 
 
@@ -0,0 +1,169 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Group;
+import cyclops.function.Monoid;
+
+/**
+ * Incrementally maintained reduction over a FIFO window of values (each with a timestamp). Values are added at the
+ * newest end and evicted from the oldest end, the reduction of the current window is available in O(1).
+ *
+ * For a Group the evicted value is removed by combining with its inverse. For any other Monoid a two stack
+ * aggregator is used : the oldest values (the front) hold precomputed suffix reductions and newer values are folded
+ * into a single running reduction. When the front is exhausted its suffix reductions are rebuilt from the current
+ * window, each value takes part in one rebuild so the cost is O(1) amortised per value.
+ *
+ * @param <T> Data type of the values
+ */
+abstract class WindowAggregate<T> {
+
+    static <T> WindowAggregate<T> of(final Monoid<T> monoid) {
+        if (monoid instanceof Group)
+            return new Subtracting<>(
+                                     (Group<T>) monoid);
+        return new TwoStack<>(
+                              monoid);
+    }
+
+    private Object[] values = new Object[16];
+    private long[] times = new long[16];
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * @param value Value to add as the newest element
+     * @param time Timestamp of the value (ignored for count based windows)
+     */
+    void add(final T value, final long time) {
+        if (size == values.length)
+            grow();
+        final int index = (head + size) & (values.length - 1);
+        values[index] = value;
+        times[index] = time;
+        size++;
+        added(value);
+    }
+
+    /**
+     * Remove the oldest value
+     */
+    void evict() {
+        final T oldest = value(0);
+        values[head] = null;
+        head = (head + 1) & (values.length - 1);
+        size--;
+        evicted(oldest);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long oldestTime() {
+        return times[head];
+    }
+
+    /**
+     * @param i Position in the window, 0 is the oldest value
+     */
+    T value(final int i) {
+        return (T) values[(head + i) & (values.length - 1)];
+    }
+
+    private void grow() {
+        final Object[] nextValues = new Object[values.length * 2];
+        final long[] nextTimes = new long[values.length * 2];
+        for (int i = 0; i < size; i++) {
+            final int index = (head + i) & (values.length - 1);
+            nextValues[i] = values[index];
+            nextTimes[i] = times[index];
+        }
+        values = nextValues;
+        times = nextTimes;
+        head = 0;
+    }
+
+    abstract void added(T value);
+
+    abstract void evicted(T value);
+
+    /**
+     * @return Reduction of every value in the window, zero if it is empty
+     */
+    abstract T get();
+
+    static final class Subtracting<T> extends WindowAggregate<T> {
+        private final Group<T> group;
+        private T aggregate;
+
+        Subtracting(final Group<T> group) {
+            this.group = group;
+            this.aggregate = group.zero();
+        }
+
+        @Override
+        void added(final T value) {
+            aggregate = group.apply(aggregate, value);
+        }
+
+        @Override
+        void evicted(final T value) {
+            aggregate = group.apply(group.invert(value), aggregate);
+        }
+
+        @Override
+        T get() {
+            return aggregate;
+        }
+    }
+
+    static final class TwoStack<T> extends WindowAggregate<T> {
+        private final Monoid<T> monoid;
+        private T back;
+        private Object[] front = new Object[0];
+        private int frontPos = 0;
+        private int frontEnd = 0;
+
+        TwoStack(final Monoid<T> monoid) {
+            this.monoid = monoid;
+            this.back = monoid.zero();
+        }
+
+        @Override
+        void added(final T value) {
+            back = monoid.apply(back, value);
+        }
+
+        @Override
+        void evict() {
+            if (frontPos == frontEnd)
+                flip();
+            super.evict();
+        }
+
+        @Override
+        void evicted(final T value) {
+            front[frontPos++] = null;
+        }
+
+        private void flip() {
+            final int n = size();
+            if (front.length < n)
+                front = new Object[Math.max(n, front.length * 2)];
+            T suffix = monoid.zero();
+            for (int i = n - 1; i >= 0; i--) {
+                suffix = monoid.apply(value(i), suffix);
+                front[i] = suffix;
+            }
+            frontPos = 0;
+            frontEnd = n;
+            back = monoid.zero();
+        }
+
+        @Override
+        T get() {
+            if (frontPos == frontEnd)
+                return back;
+            return monoid.apply((T) front[frontPos], back);
+        }
+    }
+}
@@ -54,7 +54,7 @@ public class Zipping3Spliterator<T1,T2,T3,R> implements CopyableSpliterator<R>,
 
     @Override
     public Spliterator<R> trySplit() {
-        return this;
+        return null; //ordered / stateful, traverse sequentially
     }
 
 
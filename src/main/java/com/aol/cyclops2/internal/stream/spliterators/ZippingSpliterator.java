@@ -73,7 +73,7 @@ public class ZippingSpliterator<T1,T2,R> implements CopyableSpliterator<R>,
 
     @Override
     public Spliterator<R> trySplit() {
-        return this;
+        return null; //ordered / stateful, traverse sequentially
     }
 
 
@@ -0,0 +1,72 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+
+/**
+ * Primitive filter stage, elements are not boxed. As with DoubleMappingSpliterator the spliterator is its own upstream
+ * consumer.
+ */
+public class DoubleFilteringSpliterator implements Spliterator.OfDouble, CopyableSpliterator<Double>, DoubleConsumer {
+
+    private final Spliterator.OfDouble source;
+    private final DoublePredicate predicate;
+    private DoubleConsumer downstream;
+    private boolean matched;
+
+    public DoubleFilteringSpliterator(final Spliterator.OfDouble source, final DoublePredicate predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void accept(final double t) {
+        if (predicate.test(t)) {
+            matched = true;
+            downstream.accept(t);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        downstream = action;
+        matched = false;
+        while (!matched && source.tryAdvance(this)) {
+        }
+        return matched;
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        final Spliterator.OfDouble split = source.trySplit();
+        if (split == null)
+            return null;
+        return new DoubleFilteringSpliterator(
+                                         split, predicate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<Double> copy() {
+        return new DoubleFilteringSpliterator(
+                                         (Spliterator.OfDouble) CopyableSpliterator.copy(source), predicate);
+    }
+}
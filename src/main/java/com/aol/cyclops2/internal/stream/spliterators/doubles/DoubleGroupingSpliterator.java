@@ -0,0 +1,78 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Groups a primitive spliterator into arrays of groupSize, the final group may be smaller
+ */
+public class DoubleGroupingSpliterator implements CopyableSpliterator<double[]> {
+
+    private final Spliterator.OfDouble source;
+    private final int groupSize;
+    private double[] group;
+    private int count = 0;
+    private final DoubleConsumer sink = v -> group[count++] = v;
+
+    public DoubleGroupingSpliterator(final Spliterator.OfDouble source, final int groupSize) {
+        if (groupSize <= 0)
+            throw new IllegalArgumentException("Group size must be greater than 0");
+        this.source = source;
+        this.groupSize = groupSize;
+        this.group = new double[groupSize];
+    }
+
+    private double[] emit() {
+        final double[] result = count == groupSize ? group : Arrays.copyOf(group, count);
+        group = new double[groupSize];
+        count = 0;
+        return result;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super double[]> action) {
+        source.forEachRemaining((double t) -> {
+            group[count++] = t;
+            if (count == groupSize)
+                action.accept(emit());
+        });
+        if (count > 0)
+            action.accept(emit());
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super double[]> action) {
+        while (count < groupSize && source.tryAdvance(sink)) {
+        }
+        if (count == 0)
+            return false;
+        action.accept(emit());
+        return true;
+    }
+
+    @Override
+    public Spliterator<double[]> trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : (size + groupSize - 1) / groupSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<double[]> copy() {
+        return new DoubleGroupingSpliterator(
+                                        (Spliterator.OfDouble) CopyableSpliterator.copy(source), groupSize);
+    }
+}
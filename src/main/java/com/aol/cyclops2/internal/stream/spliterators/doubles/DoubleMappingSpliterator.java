@@ -0,0 +1,65 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Primitive map stage, elements are not boxed. The spliterator is also the consumer passed upstream, which keeps the
+ * call chain of a fused pipeline shallow enough to be inlined.
+ */
+public class DoubleMappingSpliterator implements Spliterator.OfDouble, CopyableSpliterator<Double>, DoubleConsumer {
+
+    private final Spliterator.OfDouble source;
+    private final DoubleUnaryOperator mapper;
+    private DoubleConsumer downstream;
+
+    public DoubleMappingSpliterator(final Spliterator.OfDouble source, final DoubleUnaryOperator mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void accept(final double t) {
+        downstream.accept(mapper.applyAsDouble(t));
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        downstream = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        final Spliterator.OfDouble split = source.trySplit();
+        if (split == null)
+            return null;
+        return new DoubleMappingSpliterator(
+                                       split, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+    }
+
+    @Override
+    public Spliterator<Double> copy() {
+        return new DoubleMappingSpliterator(
+                                       (Spliterator.OfDouble) CopyableSpliterator.copy(source), mapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Primitive scanLeft, emits the seed followed by each accumulated value
+ */
+public class DoubleScanLeftSpliterator implements Spliterator.OfDouble, CopyableSpliterator<Double>, DoubleConsumer {
+
+    private final Spliterator.OfDouble source;
+    private final double seed;
+    private final DoubleBinaryOperator function;
+    private double current;
+    private boolean seeded = false;
+    private DoubleConsumer downstream;
+
+    public DoubleScanLeftSpliterator(final Spliterator.OfDouble source, final double seed, final DoubleBinaryOperator function) {
+        this.source = source;
+        this.seed = seed;
+        this.function = function;
+    }
+
+    @Override
+    public void accept(final double t) {
+        downstream.accept(current = function.applyAsDouble(current, t));
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current = seed);
+            return true;
+        }
+        downstream = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current = seed);
+        }
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return seeded || size == Long.MAX_VALUE ? size : size + 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED);
+    }
+
+    @Override
+    public Spliterator<Double> copy() {
+        return new DoubleScanLeftSpliterator(
+                                        (Spliterator.OfDouble) CopyableSpliterator.copy(source), seed, function);
+    }
+}
@@ -0,0 +1,114 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Sliding windows over a primitive spliterator. The window is held in a ring buffer, each emitted window is a new
+ * array unless reuse is set, in which case full windows are copied into the same array each time (for consumers
+ * such as DoubleWindowMappingSpliterator that do not retain the window). As with SlidingSpliterator a trailing partial
+ * window is emitted if the source ends mid window.
+ */
+public class DoubleSlidingSpliterator implements CopyableSpliterator<double[]> {
+
+    private final Spliterator.OfDouble source;
+    private final int windowSize;
+    private final int increment;
+    private final double[] ring;
+    private final double[] reused;
+    private int head = 0;
+    private int count = 0;
+    private boolean sent = false;
+    private boolean data = false;
+    private boolean canAdvance = true;
+    private final DoubleConsumer sink = this::add;
+
+    public DoubleSlidingSpliterator(final Spliterator.OfDouble source, final int windowSize, final int increment) {
+        this(source, windowSize, increment, false);
+    }
+
+    public DoubleSlidingSpliterator(final Spliterator.OfDouble source, final int windowSize, final int increment, final boolean reuse) {
+        if (windowSize <= 0 || increment <= 0)
+            throw new IllegalArgumentException("Window size and increment must be greater than 0");
+        this.source = source;
+        this.windowSize = windowSize;
+        this.increment = increment;
+        this.ring = new double[windowSize];
+        this.reused = reuse ? new double[windowSize] : null;
+    }
+
+    private void add(final double value) {
+        ring[(head + count) % windowSize] = value;
+        count++;
+        data = true;
+    }
+
+    private void slide() {
+        final int drop = Math.min(increment, count);
+        head = (head + drop) % windowSize;
+        count -= drop;
+    }
+
+    private double[] window() {
+        final double[] window = reused != null && count == windowSize ? reused : new double[count];
+        final int firstPart = Math.min(count, windowSize - head);
+        System.arraycopy(ring, head, window, 0, firstPart);
+        System.arraycopy(ring, 0, window, firstPart, count - firstPart);
+        return window;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super double[]> action) {
+        source.forEachRemaining((double t) -> {
+            add(t);
+            if (count == windowSize) {
+                action.accept(window());
+                sent = true;
+                slide();
+            } else {
+                sent = false;
+            }
+        });
+        if (!sent && data)
+            action.accept(window());
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super double[]> action) {
+        if (!canAdvance)
+            return false;
+        data = false;
+        slide();
+        while (count < windowSize && canAdvance)
+            canAdvance = source.tryAdvance(sink);
+        if (!data)
+            return false;
+        action.accept(window());
+        return true;
+    }
+
+    @Override
+    public Spliterator<double[]> trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<double[]> copy() {
+        return new DoubleSlidingSpliterator(
+                                       (Spliterator.OfDouble) CopyableSpliterator.copy(source), windowSize, increment,
+                                       reused != null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Reduces each window emitted by a (reusing) DoubleSlidingSpliterator to a single double, e.g. for moving averages
+ */
+public class DoubleWindowMappingSpliterator implements Spliterator.OfDouble, CopyableSpliterator<Double>, Consumer<double[]> {
+
+    private final DoubleSlidingSpliterator windows;
+    private final ToDoubleFunction<? super double[]> fn;
+    private DoubleConsumer downstream;
+
+    public DoubleWindowMappingSpliterator(final DoubleSlidingSpliterator windows, final ToDoubleFunction<? super double[]> fn) {
+        this.windows = windows;
+        this.fn = fn;
+    }
+
+    @Override
+    public void accept(final double[] window) {
+        downstream.accept(fn.applyAsDouble(window));
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        downstream = action;
+        return windows.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        downstream = action;
+        windows.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        return windows.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return windows.characteristics();
+    }
+
+    @Override
+    public Spliterator<Double> copy() {
+        return new DoubleWindowMappingSpliterator(
+                                             (DoubleSlidingSpliterator) windows.copy(), fn);
+    }
+}
@@ -0,0 +1,57 @@
+package com.aol.cyclops2.internal.stream.spliterators.doubles;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Zips two primitive spliterators with a primitive combiner, ending with the shorter source
+ */
+public class DoubleZippingSpliterator implements Spliterator.OfDouble, CopyableSpliterator<Double> {
+
+    private final Spliterator.OfDouble left;
+    private final Spliterator.OfDouble right;
+    private final DoubleBinaryOperator fn;
+    private double leftValue;
+    private double rightValue;
+    private final DoubleConsumer leftSink = v -> leftValue = v;
+    private final DoubleConsumer rightSink = v -> rightValue = v;
+
+    public DoubleZippingSpliterator(final Spliterator.OfDouble left, final Spliterator.OfDouble right, final DoubleBinaryOperator fn) {
+        this.left = left;
+        this.right = right;
+        this.fn = fn;
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        if (!left.tryAdvance(leftSink) || !right.tryAdvance(rightSink))
+            return false;
+        action.accept(fn.applyAsDouble(leftValue, rightValue));
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(left.estimateSize(), right.estimateSize());
+    }
+
+    @Override
+    public int characteristics() {
+        return left.characteristics() & right.characteristics() & (ORDERED | SIZED);
+    }
+
+    @Override
+    public Spliterator<Double> copy() {
+        return new DoubleZippingSpliterator(
+                                       (Spliterator.OfDouble) CopyableSpliterator.copy(left),
+                                       (Spliterator.OfDouble) CopyableSpliterator.copy(right), fn);
+    }
+}
@@ -0,0 +1,72 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Primitive filter stage, elements are not boxed. As with IntMappingSpliterator the spliterator is its own upstream
+ * consumer.
+ */
+public class IntFilteringSpliterator implements Spliterator.OfInt, CopyableSpliterator<Integer>, IntConsumer {
+
+    private final Spliterator.OfInt source;
+    private final IntPredicate predicate;
+    private IntConsumer downstream;
+    private boolean matched;
+
+    public IntFilteringSpliterator(final Spliterator.OfInt source, final IntPredicate predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void accept(final int t) {
+        if (predicate.test(t)) {
+            matched = true;
+            downstream.accept(t);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        downstream = action;
+        matched = false;
+        while (!matched && source.tryAdvance(this)) {
+        }
+        return matched;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        final Spliterator.OfInt split = source.trySplit();
+        if (split == null)
+            return null;
+        return new IntFilteringSpliterator(
+                                         split, predicate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<Integer> copy() {
+        return new IntFilteringSpliterator(
+                                         (Spliterator.OfInt) CopyableSpliterator.copy(source), predicate);
+    }
+}
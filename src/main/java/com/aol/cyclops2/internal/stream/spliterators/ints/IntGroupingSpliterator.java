@@ -0,0 +1,78 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Groups a primitive spliterator into arrays of groupSize, the final group may be smaller
+ */
+public class IntGroupingSpliterator implements CopyableSpliterator<int[]> {
+
+    private final Spliterator.OfInt source;
+    private final int groupSize;
+    private int[] group;
+    private int count = 0;
+    private final IntConsumer sink = v -> group[count++] = v;
+
+    public IntGroupingSpliterator(final Spliterator.OfInt source, final int groupSize) {
+        if (groupSize <= 0)
+            throw new IllegalArgumentException("Group size must be greater than 0");
+        this.source = source;
+        this.groupSize = groupSize;
+        this.group = new int[groupSize];
+    }
+
+    private int[] emit() {
+        final int[] result = count == groupSize ? group : Arrays.copyOf(group, count);
+        group = new int[groupSize];
+        count = 0;
+        return result;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super int[]> action) {
+        source.forEachRemaining((int t) -> {
+            group[count++] = t;
+            if (count == groupSize)
+                action.accept(emit());
+        });
+        if (count > 0)
+            action.accept(emit());
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super int[]> action) {
+        while (count < groupSize && source.tryAdvance(sink)) {
+        }
+        if (count == 0)
+            return false;
+        action.accept(emit());
+        return true;
+    }
+
+    @Override
+    public Spliterator<int[]> trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : (size + groupSize - 1) / groupSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<int[]> copy() {
+        return new IntGroupingSpliterator(
+                                        (Spliterator.OfInt) CopyableSpliterator.copy(source), groupSize);
+    }
+}
@@ -0,0 +1,65 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Primitive map stage, elements are not boxed. The spliterator is also the consumer passed upstream, which keeps the
+ * call chain of a fused pipeline shallow enough to be inlined.
+ */
+public class IntMappingSpliterator implements Spliterator.OfInt, CopyableSpliterator<Integer>, IntConsumer {
+
+    private final Spliterator.OfInt source;
+    private final IntUnaryOperator mapper;
+    private IntConsumer downstream;
+
+    public IntMappingSpliterator(final Spliterator.OfInt source, final IntUnaryOperator mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void accept(final int t) {
+        downstream.accept(mapper.applyAsInt(t));
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        downstream = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        final Spliterator.OfInt split = source.trySplit();
+        if (split == null)
+            return null;
+        return new IntMappingSpliterator(
+                                       split, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+    }
+
+    @Override
+    public Spliterator<Integer> copy() {
+        return new IntMappingSpliterator(
+                                       (Spliterator.OfInt) CopyableSpliterator.copy(source), mapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive scanLeft, emits the seed followed by each accumulated value
+ */
+public class IntScanLeftSpliterator implements Spliterator.OfInt, CopyableSpliterator<Integer>, IntConsumer {
+
+    private final Spliterator.OfInt source;
+    private final int seed;
+    private final IntBinaryOperator function;
+    private int current;
+    private boolean seeded = false;
+    private IntConsumer downstream;
+
+    public IntScanLeftSpliterator(final Spliterator.OfInt source, final int seed, final IntBinaryOperator function) {
+        this.source = source;
+        this.seed = seed;
+        this.function = function;
+    }
+
+    @Override
+    public void accept(final int t) {
+        downstream.accept(current = function.applyAsInt(current, t));
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current = seed);
+            return true;
+        }
+        downstream = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current = seed);
+        }
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return seeded || size == Long.MAX_VALUE ? size : size + 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED);
+    }
+
+    @Override
+    public Spliterator<Integer> copy() {
+        return new IntScanLeftSpliterator(
+                                        (Spliterator.OfInt) CopyableSpliterator.copy(source), seed, function);
+    }
+}
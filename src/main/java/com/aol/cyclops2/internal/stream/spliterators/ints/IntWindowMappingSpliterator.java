@@ -0,0 +1,61 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reduces each window emitted by a (reusing) IntSlidingSpliterator to a single int, e.g. for moving averages
+ */
+public class IntWindowMappingSpliterator implements Spliterator.OfInt, CopyableSpliterator<Integer>, Consumer<int[]> {
+
+    private final IntSlidingSpliterator windows;
+    private final ToIntFunction<? super int[]> fn;
+    private IntConsumer downstream;
+
+    public IntWindowMappingSpliterator(final IntSlidingSpliterator windows, final ToIntFunction<? super int[]> fn) {
+        this.windows = windows;
+        this.fn = fn;
+    }
+
+    @Override
+    public void accept(final int[] window) {
+        downstream.accept(fn.applyAsInt(window));
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        downstream = action;
+        return windows.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        downstream = action;
+        windows.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        return windows.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return windows.characteristics();
+    }
+
+    @Override
+    public Spliterator<Integer> copy() {
+        return new IntWindowMappingSpliterator(
+                                             (IntSlidingSpliterator) windows.copy(), fn);
+    }
+}
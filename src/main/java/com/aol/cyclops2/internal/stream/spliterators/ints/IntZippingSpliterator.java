@@ -0,0 +1,57 @@
+package com.aol.cyclops2.internal.stream.spliterators.ints;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Zips two primitive spliterators with a primitive combiner, ending with the shorter source
+ */
+public class IntZippingSpliterator implements Spliterator.OfInt, CopyableSpliterator<Integer> {
+
+    private final Spliterator.OfInt left;
+    private final Spliterator.OfInt right;
+    private final IntBinaryOperator fn;
+    private int leftValue;
+    private int rightValue;
+    private final IntConsumer leftSink = v -> leftValue = v;
+    private final IntConsumer rightSink = v -> rightValue = v;
+
+    public IntZippingSpliterator(final Spliterator.OfInt left, final Spliterator.OfInt right, final IntBinaryOperator fn) {
+        this.left = left;
+        this.right = right;
+        this.fn = fn;
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        if (!left.tryAdvance(leftSink) || !right.tryAdvance(rightSink))
+            return false;
+        action.accept(fn.applyAsInt(leftValue, rightValue));
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(left.estimateSize(), right.estimateSize());
+    }
+
+    @Override
+    public int characteristics() {
+        return left.characteristics() & right.characteristics() & (ORDERED | SIZED);
+    }
+
+    @Override
+    public Spliterator<Integer> copy() {
+        return new IntZippingSpliterator(
+                                       (Spliterator.OfInt) CopyableSpliterator.copy(left),
+                                       (Spliterator.OfInt) CopyableSpliterator.copy(right), fn);
+    }
+}
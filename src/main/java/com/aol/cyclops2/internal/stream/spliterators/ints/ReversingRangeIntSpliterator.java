@@ -12,8 +12,8 @@ import lombok.Setter;
 
 public class ReversingRangeIntSpliterator implements Spliterator.OfInt, ReversableSpliterator<Integer>, Indexable<Integer> {
 
-    private final int min;
-    private final int max;
+    private int min;
+    private int max;
     private int index;
     private int start;
 
@@ -58,17 +58,35 @@ public class ReversingRangeIntSpliterator implements Spliterator.OfInt, Reversab
 
     @Override
     public long estimateSize() {
-        return max;
+        return Math.max(0, reverse ? (long) index - min : (long) max - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
+    /**
+     * Balanced split, the returned spliterator covers the first half (in encounter order) of the remaining range
+     */
     @Override
     public Spliterator.OfInt trySplit() {
-        return this;
+        if (!reverse) {
+            final int lo = index;
+            final int mid = lo + (int) ((max - (long) lo) / 2);
+            if (lo >= mid)
+                return null;
+            min = start = index = mid;
+            return new ReversingRangeIntSpliterator(
+                                                    lo, mid, false);
+        }
+        final int hi = index;
+        final int mid = min + (int) ((hi - (long) min) / 2);
+        if (mid <= min)
+            return null;
+        max = start = index = mid;
+        return new ReversingRangeIntSpliterator(
+                                                mid, hi, true);
     }
 
     @Override
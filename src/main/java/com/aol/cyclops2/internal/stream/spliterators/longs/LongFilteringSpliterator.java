@@ -0,0 +1,72 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * Primitive filter stage, elements are not boxed. As with LongMappingSpliterator the spliterator is its own upstream
+ * consumer.
+ */
+public class LongFilteringSpliterator implements Spliterator.OfLong, CopyableSpliterator<Long>, LongConsumer {
+
+    private final Spliterator.OfLong source;
+    private final LongPredicate predicate;
+    private LongConsumer downstream;
+    private boolean matched;
+
+    public LongFilteringSpliterator(final Spliterator.OfLong source, final LongPredicate predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void accept(final long t) {
+        if (predicate.test(t)) {
+            matched = true;
+            downstream.accept(t);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        downstream = action;
+        matched = false;
+        while (!matched && source.tryAdvance(this)) {
+        }
+        return matched;
+    }
+
+    @Override
+    public void forEachRemaining(final LongConsumer action) {
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        final Spliterator.OfLong split = source.trySplit();
+        if (split == null)
+            return null;
+        return new LongFilteringSpliterator(
+                                         split, predicate);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<Long> copy() {
+        return new LongFilteringSpliterator(
+                                         (Spliterator.OfLong) CopyableSpliterator.copy(source), predicate);
+    }
+}
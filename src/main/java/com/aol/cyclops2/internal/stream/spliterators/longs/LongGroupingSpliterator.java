@@ -0,0 +1,78 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Groups a primitive spliterator into arrays of groupSize, the final group may be smaller
+ */
+public class LongGroupingSpliterator implements CopyableSpliterator<long[]> {
+
+    private final Spliterator.OfLong source;
+    private final int groupSize;
+    private long[] group;
+    private int count = 0;
+    private final LongConsumer sink = v -> group[count++] = v;
+
+    public LongGroupingSpliterator(final Spliterator.OfLong source, final int groupSize) {
+        if (groupSize <= 0)
+            throw new IllegalArgumentException("Group size must be greater than 0");
+        this.source = source;
+        this.groupSize = groupSize;
+        this.group = new long[groupSize];
+    }
+
+    private long[] emit() {
+        final long[] result = count == groupSize ? group : Arrays.copyOf(group, count);
+        group = new long[groupSize];
+        count = 0;
+        return result;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super long[]> action) {
+        source.forEachRemaining((long t) -> {
+            group[count++] = t;
+            if (count == groupSize)
+                action.accept(emit());
+        });
+        if (count > 0)
+            action.accept(emit());
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super long[]> action) {
+        while (count < groupSize && source.tryAdvance(sink)) {
+        }
+        if (count == 0)
+            return false;
+        action.accept(emit());
+        return true;
+    }
+
+    @Override
+    public Spliterator<long[]> trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return size == Long.MAX_VALUE ? size : (size + groupSize - 1) / groupSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & ORDERED;
+    }
+
+    @Override
+    public Spliterator<long[]> copy() {
+        return new LongGroupingSpliterator(
+                                        (Spliterator.OfLong) CopyableSpliterator.copy(source), groupSize);
+    }
+}
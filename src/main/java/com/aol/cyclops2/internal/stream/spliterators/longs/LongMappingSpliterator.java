@@ -0,0 +1,65 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Primitive map stage, elements are not boxed. The spliterator is also the consumer passed upstream, which keeps the
+ * call chain of a fused pipeline shallow enough to be inlined.
+ */
+public class LongMappingSpliterator implements Spliterator.OfLong, CopyableSpliterator<Long>, LongConsumer {
+
+    private final Spliterator.OfLong source;
+    private final LongUnaryOperator mapper;
+    private LongConsumer downstream;
+
+    public LongMappingSpliterator(final Spliterator.OfLong source, final LongUnaryOperator mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void accept(final long t) {
+        downstream.accept(mapper.applyAsLong(t));
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        downstream = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final LongConsumer action) {
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        final Spliterator.OfLong split = source.trySplit();
+        if (split == null)
+            return null;
+        return new LongMappingSpliterator(
+                                       split, mapper);
+    }
+
+    @Override
+    public long estimateSize() {
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED | SUBSIZED);
+    }
+
+    @Override
+    public Spliterator<Long> copy() {
+        return new LongMappingSpliterator(
+                                       (Spliterator.OfLong) CopyableSpliterator.copy(source), mapper);
+    }
+}
@@ -0,0 +1,74 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Primitive scanLeft, emits the seed followed by each accumulated value
+ */
+public class LongScanLeftSpliterator implements Spliterator.OfLong, CopyableSpliterator<Long>, LongConsumer {
+
+    private final Spliterator.OfLong source;
+    private final long seed;
+    private final LongBinaryOperator function;
+    private long current;
+    private boolean seeded = false;
+    private LongConsumer downstream;
+
+    public LongScanLeftSpliterator(final Spliterator.OfLong source, final long seed, final LongBinaryOperator function) {
+        this.source = source;
+        this.seed = seed;
+        this.function = function;
+    }
+
+    @Override
+    public void accept(final long t) {
+        downstream.accept(current = function.applyAsLong(current, t));
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current = seed);
+            return true;
+        }
+        downstream = action;
+        return source.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final LongConsumer action) {
+        if (!seeded) {
+            seeded = true;
+            action.accept(current = seed);
+        }
+        downstream = action;
+        source.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = source.estimateSize();
+        return seeded || size == Long.MAX_VALUE ? size : size + 1;
+    }
+
+    @Override
+    public int characteristics() {
+        return source.characteristics() & (ORDERED | SIZED);
+    }
+
+    @Override
+    public Spliterator<Long> copy() {
+        return new LongScanLeftSpliterator(
+                                        (Spliterator.OfLong) CopyableSpliterator.copy(source), seed, function);
+    }
+}
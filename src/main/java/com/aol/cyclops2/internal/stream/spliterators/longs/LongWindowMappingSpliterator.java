@@ -0,0 +1,61 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reduces each window emitted by a (reusing) LongSlidingSpliterator to a single long, e.g. for moving averages
+ */
+public class LongWindowMappingSpliterator implements Spliterator.OfLong, CopyableSpliterator<Long>, Consumer<long[]> {
+
+    private final LongSlidingSpliterator windows;
+    private final ToLongFunction<? super long[]> fn;
+    private LongConsumer downstream;
+
+    public LongWindowMappingSpliterator(final LongSlidingSpliterator windows, final ToLongFunction<? super long[]> fn) {
+        this.windows = windows;
+        this.fn = fn;
+    }
+
+    @Override
+    public void accept(final long[] window) {
+        downstream.accept(fn.applyAsLong(window));
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        downstream = action;
+        return windows.tryAdvance(this);
+    }
+
+    @Override
+    public void forEachRemaining(final LongConsumer action) {
+        downstream = action;
+        windows.forEachRemaining(this);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        return windows.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return windows.characteristics();
+    }
+
+    @Override
+    public Spliterator<Long> copy() {
+        return new LongWindowMappingSpliterator(
+                                             (LongSlidingSpliterator) windows.copy(), fn);
+    }
+}
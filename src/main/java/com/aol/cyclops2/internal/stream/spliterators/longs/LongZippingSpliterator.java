@@ -0,0 +1,57 @@
+package com.aol.cyclops2.internal.stream.spliterators.longs;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Zips two primitive spliterators with a primitive combiner, ending with the shorter source
+ */
+public class LongZippingSpliterator implements Spliterator.OfLong, CopyableSpliterator<Long> {
+
+    private final Spliterator.OfLong left;
+    private final Spliterator.OfLong right;
+    private final LongBinaryOperator fn;
+    private long leftValue;
+    private long rightValue;
+    private final LongConsumer leftSink = v -> leftValue = v;
+    private final LongConsumer rightSink = v -> rightValue = v;
+
+    public LongZippingSpliterator(final Spliterator.OfLong left, final Spliterator.OfLong right, final LongBinaryOperator fn) {
+        this.left = left;
+        this.right = right;
+        this.fn = fn;
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        if (!left.tryAdvance(leftSink) || !right.tryAdvance(rightSink))
+            return false;
+        action.accept(fn.applyAsLong(leftValue, rightValue));
+        return true;
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        return null; //ordered / stateful, traverse sequentially
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(left.estimateSize(), right.estimateSize());
+    }
+
+    @Override
+    public int characteristics() {
+        return left.characteristics() & right.characteristics() & (ORDERED | SIZED);
+    }
+
+    @Override
+    public Spliterator<Long> copy() {
+        return new LongZippingSpliterator(
+                                       (Spliterator.OfLong) CopyableSpliterator.copy(left),
+                                       (Spliterator.OfLong) CopyableSpliterator.copy(right), fn);
+    }
+}
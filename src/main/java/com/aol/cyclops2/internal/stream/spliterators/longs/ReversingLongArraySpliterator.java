@@ -34,12 +34,12 @@ public class ReversingLongArraySpliterator<Long> implements Spliterator.OfLong,R
 
     @Override
     public long estimateSize() {
-        return max;
+        return Math.max(0, reverse ? index - start + 1 : max - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
     @Override
@@ -98,9 +98,28 @@ public class ReversingLongArraySpliterator<Long> implements Spliterator.OfLong,R
         }
     }
 
+    /**
+     * Balanced split, the returned spliterator covers the first half (in encounter order) of the remaining elements
+     */
     @Override
     public OfLong trySplit() {
-        return this;
+        if (!reverse) {
+            final int lo = index;
+            final int mid = (lo + max) >>> 1;
+            if (lo >= mid)
+                return null;
+            start = index = mid;
+            return new ReversingLongArraySpliterator<>(
+                                                array, lo, mid, false);
+        }
+        final int hi = index + 1;
+        final int mid = (start + hi) >>> 1;
+        if (mid <= start)
+            return null;
+        max = mid;
+        index = mid - 1;
+        return new ReversingLongArraySpliterator<>(
+                                            array, mid, hi, true);
     }
 
 
@@ -131,17 +150,17 @@ public class ReversingLongArraySpliterator<Long> implements Spliterator.OfLong,R
     public void forEachRemaining(LongConsumer action) {
         Objects.requireNonNull(action);
 
-        int index = this.index; //local index for replayability
-
+        //locals rather than fields in the loop, so the array bounds check can be hoisted
+        final long[] array = this.array;
+        final int lo = start;
+        final int hi = max;
         if (!reverse) {
-            for (;index < max && index > -1;) {
-                action.accept(array[index++]);
-
+            for (int i = index; i < hi && i > -1; i++) {
+                action.accept(array[i]);
             }
         } else {
-            for (;index > (start-1) & index < max;) {
-                action.accept(array[index--]);
-
+            for (int i = index; i > lo - 1 && i < hi; i--) {
+                action.accept(array[i]);
             }
         }
     }
@@ -13,8 +13,8 @@ import java.util.function.LongConsumer;
 
 public class ReversingRangeLongSpliterator implements Spliterator.OfLong, ReversableSpliterator<Long>, Indexable<Long> {
 
-    private final long min;
-    private final long max;
+    private long min;
+    private long max;
     private long index;
     private long start;
 
@@ -59,17 +59,35 @@ public class ReversingRangeLongSpliterator implements Spliterator.OfLong, Revers
 
     @Override
     public long estimateSize() {
-        return max;
+        return Math.max(0, reverse ? index - min : max - index);
     }
 
     @Override
     public int characteristics() {
-        return IMMUTABLE;
+        return IMMUTABLE | ORDERED | SIZED | SUBSIZED;
     }
 
+    /**
+     * Balanced split, the returned spliterator covers the first half (in encounter order) of the remaining range
+     */
     @Override
     public OfLong trySplit() {
-        return this;
+        if (!reverse) {
+            final long lo = index;
+            final long mid = lo + (max - lo) / 2;
+            if (lo >= mid)
+                return null;
+            min = start = index = mid;
+            return new ReversingRangeLongSpliterator(
+                                                    lo, mid, false);
+        }
+        final long hi = index;
+        final long mid = min + (hi - min) / 2;
+        if (mid <= min)
+            return null;
+        max = start = index = mid;
+        return new ReversingRangeLongSpliterator(
+                                                mid, hi, true);
     }
 
     @Override
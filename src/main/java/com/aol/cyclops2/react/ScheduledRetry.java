@@ -0,0 +1,140 @@
+package com.aol.cyclops2.react;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.Wither;
+
+/**
+ * Retry with exponential (optionally jittered) back-off, where each re-attempt is scheduled on a
+ * ScheduledExecutorService rather than sleeping. No thread is held while an attempt is backing off, so any number of
+ * retries can be waiting concurrently.
+ *
+ * <pre>
+ * {@code
+ *  ScheduledRetry retry = ScheduledRetry.exponential(5, 100, TimeUnit.MILLISECONDS)
+ *                                       .withJitter(0.2)
+ *                                       .withMaxDelay(5_000);
+ *
+ *  CompletableFuture<String> result = retry.apply(this::load, url);
+ * }
+ * </pre>
+ *
+ * The first attempt runs on the calling thread, later attempts run on the scheduler. Cancelling the returned future
+ * stops further attempts.
+ */
+@AllArgsConstructor
+@Getter
+@Wither
+public class ScheduledRetry {
+
+    private final ScheduledExecutorService scheduler;
+    /**
+     * Total number of attempts, including the first
+     */
+    private final int maxAttempts;
+    /**
+     * Delay in milliseconds before the first re-attempt
+     */
+    private final long initialDelay;
+    /**
+     * Factor the delay is multiplied by after each re-attempt
+     */
+    private final double multiplier;
+    /**
+     * Upper bound, in milliseconds, on the delay between attempts
+     */
+    private final long maxDelay;
+    /**
+     * Each delay is varied randomly by up to +/- this fraction of itself
+     */
+    private final double jitter;
+
+    /**
+     * Doubling back-off, without jitter, scheduled on the standard retry pool
+     *
+     * @param maxAttempts Total number of attempts
+     * @param initialDelay Delay before the first re-attempt
+     * @param unit Unit for the delay
+     * @return ScheduledRetry
+     */
+    public static ScheduledRetry exponential(final int maxAttempts, final long initialDelay, final TimeUnit unit) {
+        return new ScheduledRetry(
+                                  ThreadPools.getStandardRetry(), maxAttempts, unit.toMillis(initialDelay), 2, Long.MAX_VALUE, 0);
+    }
+
+    /**
+     * @param fn Function to attempt
+     * @param input Input to the function
+     * @return Future completed with the first successful result, or the last failure once all attempts are used up
+     */
+    public <T, R> CompletableFuture<R> apply(final Function<? super T, ? extends R> fn, final T input) {
+        return get(() -> fn.apply(input));
+    }
+
+    /**
+     * @param supplier Supplier to attempt
+     * @return Future completed with the first successful result, or the last failure once all attempts are used up
+     */
+    public <R> CompletableFuture<R> get(final Supplier<? extends R> supplier) {
+        return compose(() -> CompletableFuture.completedFuture(supplier.get()));
+    }
+
+    /**
+     * Retry an asynchronous operation, an attempt fails if the supplier throws or its stage completes exceptionally
+     *
+     * @param attempt Starts an attempt
+     * @return Future completed with the first successful result, or the last failure once all attempts are used up
+     */
+    public <R> CompletableFuture<R> compose(final Supplier<? extends CompletionStage<? extends R>> attempt) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        attempt(attempt, result, 1, initialDelay);
+        return result;
+    }
+
+    private <R> void attempt(final Supplier<? extends CompletionStage<? extends R>> attempt, final CompletableFuture<R> result,
+            final int count, final long delay) {
+        if (result.isDone())
+            return;
+        final CompletionStage<? extends R> stage;
+        try {
+            stage = attempt.get();
+        } catch (final Throwable t) {
+            retryOrFail(attempt, result, count, delay, t);
+            return;
+        }
+        stage.whenComplete((r, t) -> {
+            if (t == null)
+                result.complete(r);
+            else
+                retryOrFail(attempt, result, count, delay, t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+        });
+    }
+
+    private <R> void retryOrFail(final Supplier<? extends CompletionStage<? extends R>> attempt, final CompletableFuture<R> result,
+            final int count, final long delay, final Throwable t) {
+        if (count >= maxAttempts || result.isDone()) {
+            result.completeExceptionally(t);
+            return;
+        }
+        final long next = (long) Math.min(maxDelay, delay * multiplier);
+        scheduler.schedule(() -> attempt(attempt, result, count + 1, next), jittered(Math.min(maxDelay, delay)), TimeUnit.MILLISECONDS);
+    }
+
+    private long jittered(final long delay) {
+        if (jitter <= 0)
+            return delay;
+        final double offset = delay * jitter * (2 * ThreadLocalRandom.current()
+                                                                     .nextDouble()
+                - 1);
+        return Math.max(0, delay + (long) offset);
+    }
+}
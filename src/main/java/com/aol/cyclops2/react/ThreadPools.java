@@ -1,6 +1,8 @@
 package com.aol.cyclops2.react;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
@@ -28,6 +30,11 @@ public class ThreadPools {
     private static final ScheduledExecutorService commonStanardRetry = Executors.newScheduledThreadPool(Runtime.getRuntime()
                                                                                                                .availableProcessors());
 
+    private static final Method newVirtualThreadPerTaskExecutor = virtualThreadFactoryMethod();
+
+    @Getter
+    private static final Executor commonVirtualThreadExecutor = newVirtualThreadExecutor();
+
     public static enum ExecutionMode {
         CURRENT,
         COMMON_FREE,
@@ -79,6 +86,51 @@ public class ThreadPools {
                                     1);
     }
 
+    /**
+     * @return Executor that runs each task on a new virtual thread, so blocking tasks do not tie up platform threads.
+     *         On JVMs without virtual thread support (e.g. Java 8) an elastic pool of platform threads is used instead.
+     *         Executors of this type are unbounded, concurrency should be limited by the caller (e.g. via MaxActive)
+     * 
+     * @see ThreadPools#isVirtualThreadsSupported()
+     */
+    public static Executor getVirtualThreadExecutor() {
+        if (useCommon)
+            return commonVirtualThreadExecutor;
+        return newVirtualThreadExecutor();
+    }
+
+    /**
+     * @return true if this JVM can run tasks on virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return newVirtualThreadPerTaskExecutor != null;
+    }
+
+    private static Executor newVirtualThreadExecutor() {
+        if (newVirtualThreadPerTaskExecutor != null) {
+            try {
+                return (Executor) newVirtualThreadPerTaskExecutor.invoke(null);
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                //fall through to the platform thread pool
+            }
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    /*
+     * Resolved reflectively, so this class still loads (and can be compiled) on Java 8
+     */
+    private static Method virtualThreadFactoryMethod() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            //preview builds declare the method but throw UnsupportedOperationException unless preview features are enabled
+            ((ExecutorService) method.invoke(null)).shutdown();
+            return method;
+        } catch (final ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
     public static boolean isUseCommon() {
         return useCommon;
     }
@@ -0,0 +1,153 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+
+/**
+ * Tracks the FastFutures accepted by a lazy collector, and limits how many may be in flight at once.
+ *
+ * Each future releases its slot and queues itself for collection from its own completion callback, so admission and
+ * collection cost O(1) per element, rather than scanning the active futures whenever MaxActive is exceeded.
+ *
+ * add / awaitCapacity / drain are called from the single collecting thread, completion callbacks from any thread.
+ *
+ * @param <T> Result type
+ */
+public class ActiveLimiter<T> {
+
+    private final Set<FastFuture<T>> active = new LinkedHashSet<>();
+    private final Queue<FastFuture<T>> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger(
+                                                             0);
+    private volatile MaxActive waitingFor;
+    private volatile Thread waiting;
+
+    /**
+     * Start tracking a future, it releases its slot when it completes
+     *
+     * @param future Future to track
+     * @param maxActive Limits in use, if adaptive the completion latency of the future is reported to it
+     */
+    public void add(final FastFuture<T> future, final MaxActive maxActive) {
+        active.add(future);
+        inFlight.incrementAndGet();
+        if (maxActive instanceof AdaptiveMaxActive) {
+            final AdaptiveMaxActive adaptive = (AdaptiveMaxActive) maxActive;
+            final long start = System.nanoTime();
+            future.onComplete(event -> {
+                completed.offer(future);
+                adaptive.sample(System.nanoTime() - start, release());
+            });
+        } else {
+            future.onComplete(event -> {
+                completed.offer(future);
+                release();
+            });
+        }
+    }
+
+    private int release() {
+        final int remaining = inFlight.decrementAndGet();
+        final Thread t = waiting;
+        if (t != null) {
+            final MaxActive limits = waitingFor;
+            if (limits != null && remaining <= limits.getReduceTo())
+                LockSupport.unpark(t);
+        }
+        return remaining;
+    }
+
+    /**
+     * Non-blocking admission check for asynchronous callers
+     *
+     * @param maxActive Limits to apply
+     * @param i Number of futures about to be added
+     * @return true if i more futures can be added without exceeding maxActive
+     */
+    public boolean hasCapacity(final MaxActive maxActive, final int i) {
+        return maxActive.getMaxActive() + i > inFlight.get();
+    }
+
+    /**
+     * If more than maxActive futures are in flight, block the calling thread until no more than reduceTo are
+     *
+     * @param maxActive Limits to apply
+     */
+    public void awaitCapacity(final MaxActive maxActive) {
+        if (inFlight.get() <= maxActive.getMaxActive())
+            return;
+        waitingFor = maxActive;
+        waiting = Thread.currentThread();
+        boolean interrupted = false;
+        try {
+            while (inFlight.get() > maxActive.getReduceTo()) {
+                LockSupport.park(this);
+                if (Thread.interrupted())
+                    interrupted = true;
+            }
+        } finally {
+            waiting = null;
+            waitingFor = null;
+            if (interrupted)
+                Thread.currentThread()
+                      .interrupt();
+        }
+    }
+
+    /**
+     * Stop tracking each future that has completed since the last drain, and pass it to the supplied Consumer
+     *
+     * @param consumer Consumer for completed futures
+     */
+    public void drain(final Consumer<? super FastFuture<T>> consumer) {
+        FastFuture<T> next;
+        while ((next = completed.poll()) != null) {
+            //a pooled future may have been recycled since it queued itself, only hand on futures that are still tracked and done
+            if (next.isDone() && active.remove(next))
+                consumer.accept(next);
+        }
+    }
+
+    /**
+     * @return Tracked futures (completed or not) in the order they were added
+     */
+    public Collection<FastFuture<T>> active() {
+        return active;
+    }
+
+    /**
+     * Stop tracking all futures
+     *
+     * @return Tracked futures in the order they were added
+     */
+    public Collection<FastFuture<T>> clear() {
+        final Collection<FastFuture<T>> all = new ArrayList<>(
+                                                              active);
+        active.clear();
+        completed.clear();
+        return all;
+    }
+
+    /**
+     * @return Number of tracked futures
+     */
+    public int size() {
+        return active.size();
+    }
+
+    /**
+     * @return Number of futures that have yet to complete
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
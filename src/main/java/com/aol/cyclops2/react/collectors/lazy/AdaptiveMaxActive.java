@@ -0,0 +1,226 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Value;
+
+/**
+ * A MaxActive whose limit adapts to the observed per-element completion latency and throughput.
+ *
+ * Lazy collectors report the time from admission to completion of each element. Once a window of samples
+ * (roughly one limit's worth of completions) has been observed, the next limit is calculated from the window's
+ * average latency. reduceTo follows the limit, staying 10% below it.
+ *
+ * <pre>
+ * {@code
+ *  AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(4, 500, 50, TimeUnit.MILLISECONDS);
+ *  new LazyReact().maxActive(limit)
+ *                 .from(urls)
+ *                 .map(this::load)
+ *                 .forEach(System.out::println);
+ *
+ *  limit.metrics();
+ * }
+ * </pre>
+ */
+public abstract class AdaptiveMaxActive extends MaxActive {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private volatile int limit;
+
+    private final AtomicLong completed = new AtomicLong(
+                                                        0);
+    private final AtomicLong minLatency = new AtomicLong(
+                                                         Long.MAX_VALUE);
+    private final LongAdder windowLatency = new LongAdder();
+    private final AtomicInteger windowSamples = new AtomicInteger(
+                                                                  0);
+    private final AtomicBoolean updating = new AtomicBoolean(
+                                                             false);
+    private volatile long windowStart = System.nanoTime();
+    private volatile long latency = 0;
+    private volatile double throughput = 0;
+
+    protected AdaptiveMaxActive(final int minLimit, final int maxLimit, final int initialLimit) {
+        super(initialLimit, reduceTo(initialLimit));
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * Additive increase / multiplicative decrease. While the average latency stays under the target and the limit is
+     * being used, the limit grows by one per window. When it exceeds the target the limit is multiplied by backoffRatio.
+     *
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @param latency Latency target
+     * @param unit Latency target time unit
+     * @return AIMD MaxActive, starting at minLimit
+     */
+    public static AdaptiveMaxActive aimd(final int minLimit, final int maxLimit, final long latency, final TimeUnit unit) {
+        return new Aimd(
+                        minLimit, maxLimit, unit.toNanos(latency), 0.9);
+    }
+
+    /**
+     * Little's law based. The limit follows the ratio of the lowest observed latency (no queueing) to the current
+     * latency, plus headroom of sqrt(limit) to probe for spare capacity.
+     *
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @return Gradient MaxActive, starting at minLimit
+     */
+    public static AdaptiveMaxActive gradient(final int minLimit, final int maxLimit) {
+        return new Gradient(
+                            minLimit, maxLimit);
+    }
+
+    /**
+     * Calculate the next limit at the end of a window of samples
+     *
+     * @param limit Current limit
+     * @param latencyNanos Average latency over the window
+     * @param minLatencyNanos Lowest latency observed
+     * @param inFlight Number of elements in flight when the window closed
+     * @return Next limit (clamped to the configured bounds by the caller)
+     */
+    protected abstract int nextLimit(int limit, long latencyNanos, long minLatencyNanos, int inFlight);
+
+    /**
+     * Record the completion of an element
+     *
+     * @param latencyNanos Time from admission to completion
+     * @param inFlight Number of elements still in flight
+     */
+    public void sample(final long latencyNanos, final int inFlight) {
+        completed.incrementAndGet();
+        windowLatency.add(latencyNanos);
+        long min;
+        while (latencyNanos < (min = minLatency.get()) && !minLatency.compareAndSet(min, latencyNanos)) {
+        }
+        if (windowSamples.incrementAndGet() >= limit && updating.compareAndSet(false, true)) {
+            try {
+                final int samples = windowSamples.getAndSet(0);
+                if (samples == 0)
+                    return;
+                final long now = System.nanoTime();
+                latency = windowLatency.sumThenReset() / samples;
+                throughput = samples * 1_000_000_000d / Math.max(1, now - windowStart);
+                windowStart = now;
+                limit = clamp(nextLimit(limit, latency, minLatency.get(), inFlight));
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    /**
+     * Forget the lowest observed latency, so it is re-learnt from subsequent samples
+     */
+    protected void resetMinLatency() {
+        minLatency.set(Long.MAX_VALUE);
+    }
+
+    @Override
+    public int getMaxActive() {
+        return limit;
+    }
+
+    @Override
+    public int getReduceTo() {
+        return reduceTo(limit);
+    }
+
+    /**
+     * @return Snapshot of the current limit and the measurements it is based on
+     */
+    public Metrics metrics() {
+        final long min = minLatency.get();
+        return new Metrics(
+                           limit, latency, min == Long.MAX_VALUE ? 0 : min, throughput, completed.get());
+    }
+
+    private int clamp(final int next) {
+        return Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    private static int reduceTo(final int limit) {
+        return Math.max(0, limit - Math.max(1, limit / 10));
+    }
+
+    /**
+     * A snapshot of an AdaptiveMaxActive
+     */
+    @Value
+    public static class Metrics {
+        /**
+         * Current in-flight limit
+         */
+        int limit;
+        /**
+         * Average completion latency over the last window, in nanoseconds
+         */
+        long latencyNanos;
+        /**
+         * Lowest completion latency observed, in nanoseconds
+         */
+        long minLatencyNanos;
+        /**
+         * Completions per second over the last window
+         */
+        double throughput;
+        /**
+         * Total number of completions observed
+         */
+        long completed;
+    }
+
+    static class Aimd extends AdaptiveMaxActive {
+        private final long latencyTarget;
+        private final double backoffRatio;
+
+        Aimd(final int minLimit, final int maxLimit, final long latencyTarget, final double backoffRatio) {
+            super(minLimit, maxLimit, minLimit);
+            this.latencyTarget = latencyTarget;
+            this.backoffRatio = backoffRatio;
+        }
+
+        @Override
+        protected int nextLimit(final int limit, final long latencyNanos, final long minLatencyNanos, final int inFlight) {
+            if (latencyNanos > latencyTarget)
+                return (int) (limit * backoffRatio);
+            if (inFlight * 2 >= limit)
+                return limit + 1;
+            return limit;
+        }
+    }
+
+    static class Gradient extends AdaptiveMaxActive {
+        private static final double SMOOTHING = 0.2;
+        private static final int PROBE_WINDOWS = 100;
+        private int windows = 0;
+        private double estimate;
+
+        Gradient(final int minLimit, final int maxLimit) {
+            super(minLimit, maxLimit, minLimit);
+            this.estimate = minLimit;
+        }
+
+        @Override
+        protected int nextLimit(final int limit, final long latencyNanos, final long minLatencyNanos, final int inFlight) {
+            //only called by the thread closing a window
+            final double gradient = Math.max(0.5, Math.min(1.0, (double) minLatencyNanos / Math.max(1, latencyNanos)));
+            final double target = limit * gradient + Math.sqrt(limit);
+            estimate = estimate * (1 - SMOOTHING) + target * SMOOTHING;
+            if (++windows % PROBE_WINDOWS == 0)
+                resetMinLatency();
+            return (int) Math.round(estimate);
+        }
+    }
+}
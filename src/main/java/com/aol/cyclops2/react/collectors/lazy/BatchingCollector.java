@@ -1,11 +1,7 @@
 package com.aol.cyclops2.react.collectors.lazy;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
 import com.aol.cyclops2.types.futurestream.BlockingStream;
@@ -30,7 +26,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
     @Getter
     private final Collection<FastFuture<T>> results;
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final ActiveLimiter<T> active = new ActiveLimiter<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -51,28 +47,9 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
-
-        if (active.size() > maxActive.getMaxActive()) {
-
-            while (active.size() > maxActive.getReduceTo()) {
-
-                final List<FastFuture<T>> toRemove = active.stream()
-                                                           .filter(cf -> cf.isDone())
-                                                           .collect(Collectors.toList());
-                active.removeAll(toRemove);
-                results.addAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-                        promise.complete(true);
-                    } , active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
-            }
-        }
+        active.add(t, maxActive);
+        active.awaitCapacity(maxActive);
+        active.drain(results::add);
 
     }
 
@@ -83,7 +60,8 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     public void block(final Function<FastFuture<T>, T> safeJoin) {
         if (active.size() == 0)
             return;
-        active.stream()
+        active.active()
+              .stream()
               .peek(f -> safeJoin.apply(f))
               .forEach(a -> {
               });
@@ -105,8 +83,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getAllResults() {
-        results.addAll(active);
-        active.clear();
+        results.addAll(active.clear());
         return results;
     }
 
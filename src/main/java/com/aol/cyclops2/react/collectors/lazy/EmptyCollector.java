@@ -2,10 +2,7 @@ package com.aol.cyclops2.react.collectors.lazy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
 
@@ -24,7 +21,7 @@ import lombok.experimental.Wither;
 @AllArgsConstructor
 public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    private final ActiveLimiter<T> active = new ActiveLimiter<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -42,32 +39,14 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
-
-        if (active.size() > maxActive.getMaxActive()) {
-
-            while (active.size() > maxActive.getReduceTo()) {
-
-                final List<FastFuture> toRemove = active.stream()
-                                                        .filter(cf -> cf.isDone())
-                                                        .peek(this::handleExceptions)
-                                                        .collect(Collectors.toList());
-
-                active.removeAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> promise.complete(true), active.toArray(new FastFuture[0]));
-
-                    promise.join();
-                }
-
-            }
-        }
+        active.add(t, maxActive);
+        active.awaitCapacity(maxActive);
+        active.drain(this::handleExceptions);
 
     }
 
     public void add(final FastFuture<T> t) {
-        active.add(t);
+        active.add(t, maxActive);
     }
 
     private void handleExceptions(final FastFuture cf) {
@@ -89,7 +68,8 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
 
         if (active.size() == 0)
             return;
-        active.stream()
+        active.active()
+              .stream()
               .peek(cf -> safeJoin.apply(cf))
               .forEach(a -> {
               });
@@ -102,9 +82,8 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getResults() {
-        active.stream()
+        active.clear()
               .forEach(cf -> safeJoin.apply(cf));
-        active.clear();
         return new ArrayList<>();
     }
 
@@ -118,7 +97,7 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     }
 
     public boolean hasCapacity(final int i) {
-        return maxActive.getMaxActive() + i > active.size();
+        return active.hasCapacity(maxActive, i);
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import com.aol.cyclops2.internal.react.async.future.PipelineBuilder;
 import com.aol.cyclops2.internal.react.exceptions.FilteredExecutionPathException;
 import com.aol.cyclops2.internal.react.stream.LazyStreamWrapper;
 import com.aol.cyclops2.react.SimpleReactFailedStageException;
+import com.aol.cyclops2.react.ScheduledRetry;
 import com.aol.cyclops2.react.async.subscription.Continueable;
 import com.nurkiewicz.asyncretry.RetryExecutor;
 import com.nurkiewicz.asyncretry.policy.AbortRetryException;
@@ -68,7 +69,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
     @Override
     default <R> LazySimpleReactStream<R> then(final Function<? super U, ? extends R> fn, final Executor service) {
 
-        return this.withLastActive(getLastActive().operation((ft) -> ft.thenApplyAsync(LazySimpleReactStream.<U, R> handleExceptions(fn), service)));
+        return this.withLastActive(getLastActive().operation((ft) -> ft.mapAsync(fn, service)));
     }
 
     /* 
@@ -82,7 +83,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
     @SuppressWarnings("unchecked")
     default <R> LazySimpleReactStream<R> thenSync(final Function<? super U, ? extends R> fn) {
 
-        return this.withLastActive(getLastActive().operation((ft) -> ft.thenApply(LazySimpleReactStream.<U, R> handleExceptions(fn))));
+        return this.withLastActive(getLastActive().operation((ft) -> ft.map(fn)));
     }
 
     /**
@@ -93,6 +94,8 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
      * https://github.com/nurkiewicz/async-retry for detailed advice on how to
      * conifugre
      * 
+     * No thread is blocked while an element is waiting to be retried, the next stage
+     * is executed when the retried future completes.
      * 
      * @param fn
      *            Function that will be executed and retried on failure
@@ -102,10 +105,28 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
     @SuppressWarnings("unchecked")
     default <R> LazySimpleReactStream<R> retry(final Function<? super U, ? extends R> fn) {
         final Function<PipelineBuilder, PipelineBuilder> mapper = (
-                ft) -> ft.thenApplyAsync(res -> getRetrier().getWithRetry((Callable) () -> LazySimpleReactStream.<U, R> handleExceptions(fn)
-                                                                                                                .apply((U) res))
-                                                            .join(),
-                                         getTaskExecutor());
+                ft) -> ft.thenComposeAsync(res -> getRetrier().getWithRetry((Callable) () -> LazySimpleReactStream.<U, R> handleExceptions(fn)
+                                                                                                                  .apply((U) res)),
+                                           getTaskExecutor());
+
+        return this.withLastActive(getLastActive().operation(mapper));
+    }
+
+    /**
+     * Retry this phase with the supplied back-off strategy. Re-attempts are scheduled on the strategy's
+     * ScheduledExecutorService, so no thread is blocked while an element is backing off.
+     * 
+     * @param fn
+     *            Function that will be executed and retried on failure
+     * @param retry
+     *            Retry strategy
+     * @return Next Stage in the Stream
+     */
+    @SuppressWarnings("unchecked")
+    default <R> LazySimpleReactStream<R> retry(final Function<? super U, ? extends R> fn, final ScheduledRetry retry) {
+        final Function<PipelineBuilder, PipelineBuilder> mapper = (
+                ft) -> ft.thenComposeAsync(res -> retry.apply(LazySimpleReactStream.<U, R> handleExceptions(fn), (U) res),
+                                           getTaskExecutor());
 
         return this.withLastActive(getLastActive().operation(mapper));
     }
@@ -154,8 +175,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
     default <R> LazySimpleReactStream<R> then(final Function<? super U, ? extends R> fn) {
         if (!isAsync())
             return thenSync(fn);
-        final Function<PipelineBuilder, PipelineBuilder> streamMapper = ft -> ft.thenApplyAsync(LazySimpleReactStream.<U, R> handleExceptions(fn),
-                                                                                                getTaskExecutor());
+        final Function<PipelineBuilder, PipelineBuilder> streamMapper = ft -> ft.mapAsync(fn, getTaskExecutor());
         return (LazySimpleReactStream<R>) this.withLastActive(getLastActive().operation(streamMapper));
     }
 
@@ -172,11 +192,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
     default LazySimpleReactStream<U> peek(final Consumer<? super U> consumer) {
         if (!isAsync())
             return peekSync(consumer);
-        return then((t) -> {
-
-            consumer.accept(t);
-            return t;
-        });
+        return this.withLastActive(getLastActive().operation((ft) -> ft.peekStageAsync(consumer, getTaskExecutor())));
     }
 
     /**
@@ -187,10 +203,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
      */
     @Override
     default LazySimpleReactStream<U> peekSync(final Consumer<? super U> consumer) {
-        return thenSync((t) -> {
-            consumer.accept(t);
-            return t;
-        });
+        return this.withLastActive(getLastActive().operation((ft) -> ft.peekStage(consumer)));
     }
 
     static <U, R> Function<U, R> handleExceptions(final Function<? super U, ? extends R> fn) {
@@ -307,12 +320,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
 
         if (!isAsync())
             return filterSync(p);
-        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.thenApplyAsync((in) -> {
-            if (!p.test((U) in)) {
-                throw new FilteredExecutionPathException();
-            }
-            return in;
-        } , getTaskExecutor());
+        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.filterAsync(p, getTaskExecutor());
         return this.withLastActive(getLastActive().operation(fn));
 
     }
@@ -331,12 +339,7 @@ public interface LazySimpleReactStream<U> extends BlockingStream<U>, Configurabl
      */
     @Override
     default LazySimpleReactStream<U> filterSync(final Predicate<? super U> p) {
-        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.thenApply((in) -> {
-            if (!p.test((U) in)) {
-                throw new FilteredExecutionPathException();
-            }
-            return in;
-        });
+        final Function<PipelineBuilder, PipelineBuilder> fn = ft -> ft.filter(p);
         return this.withLastActive(getLastActive().operation(fn));
 
     }
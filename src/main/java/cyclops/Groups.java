@@ -0,0 +1,56 @@
+package cyclops;
+
+import cyclops.function.Group;
+
+import java.math.BigInteger;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+
+/**
+ * A static class with Groups, Monoids where every element has an inverse.
+ */
+public interface Groups {
+
+    /**
+     * Combine two Integers by summing them, the inverse is negation
+     */
+    static Group<Integer> intSum = Group.of(0, Semigroups.intSum, a -> -a);
+    /**
+     * Combine two Longs by summing them, the inverse is negation
+     */
+    static Group<Long> longSum = Group.of(0l, Semigroups.longSum, a -> -a);
+    /**
+     * Combine two Doubles by summing them, the inverse is negation (subject to floating point rounding)
+     */
+    static Group<Double> doubleSum = Group.of(0d, Semigroups.doubleSum, a -> -a);
+    /**
+     * Combine two BigIntegers by summing them, the inverse is negation
+     */
+    static Group<BigInteger> bigIntSum = Group.of(BigInteger.ZERO, Semigroups.bigIntSum, BigInteger::negate);
+    /**
+     * Combine (sum, count) pairs by summing both, the inverse negates both (subject to floating point rounding).
+     * For rolling averages, map each element to tuple(value, 1l) and each aggregate to {@link Groups#average(Tuple2)}
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1.0,2.0,3.0,4.0)
+     *             .map(d->Tuple.tuple(d,1l))
+     *             .slidingReduce(2,Groups.doubleAverage)
+     *             .map(Groups::average)
+     *             .toList();
+     *  //[1.5,2.5,3.5]
+     * }
+     * </pre>
+     */
+    static Group<Tuple2<Double, Long>> doubleAverage = Group.of(Tuple.tuple(0d, 0l), (a, b) -> Tuple.tuple(a.v1 + b.v1, a.v2 + b.v2),
+                                                                 a -> Tuple.tuple(-a.v1, -a.v2));
+
+    /**
+     * @param sumAndCount (sum, count) aggregate, e.g. from {@link Groups#doubleAverage}
+     * @return sum / count, or 0 if the count is 0
+     */
+    static double average(final Tuple2<Double, Long> sumAndCount) {
+        return sumAndCount.v2 == 0 ? 0 : sumAndCount.v1 / sumAndCount.v2;
+    }
+}
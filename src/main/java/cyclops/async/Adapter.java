@@ -1,5 +1,7 @@
 package cyclops.async;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -48,6 +50,43 @@ public interface Adapter<T> {
      */
     public boolean fromStream(Stream<T> stream);
 
+    /**
+     * Offer all the supplied data to this adapter, in order
+     * 
+     * @param data data to add
+     * @return true if all the data was accepted
+     */
+    default boolean offerAll(final Iterable<? extends T> data) {
+        for (final T next : data) {
+            if (!offer(next))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Offer all the supplied data to this adapter, in order
+     * 
+     * @param data data to add
+     * @return true if all the data was accepted
+     */
+    default boolean offerAll(final T[] data) {
+        return offerAll(Arrays.asList(data));
+    }
+
+    /**
+     * Remove up to max elements that are immediately available from this adapter, without waiting for more data.
+     * Adapters can only be read without waiting if they override this method (as Queue and Topic do), by default no
+     * data is removed.
+     * 
+     * @param collection Collection to add data to
+     * @param max Max number of elements to remove
+     * @return Number of elements added to the collection
+     */
+    default int drainTo(final Collection<? super T> collection, final int max) {
+        return 0;
+    }
+
     /**
      * Generate a LazyFutureStream from the data that is passed to this Adapter using the supplied LazyReact futureStream builder
      * 
@@ -18,6 +18,8 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.agrona.concurrent.AbstractConcurrentArrayQueue;
+import org.agrona.concurrent.Pipe;
 import org.jooq.lambda.Seq;
 
 import cyclops.async.Queue.ClosedQueueException;
@@ -251,20 +253,30 @@ public interface AdaptersModule {
 
         @Override
         public int remainingCapacity() {
-
-            return 0;
+            if (queue instanceof AbstractConcurrentArrayQueue)
+                return ((AbstractConcurrentArrayQueue) queue).remainingCapacity();
+            if (queue instanceof ShardedQueue)
+                return ((ShardedQueue) queue).remainingCapacity();
+            return Integer.MAX_VALUE;
         }
 
         @Override
         public int drainTo(final Collection c) {
 
-            return 0;
+            return drainTo(c, Integer.MAX_VALUE);
         }
 
         @Override
         public int drainTo(final Collection c, final int maxElements) {
-
-            return 0;
+            if (queue instanceof Pipe)
+                return ((Pipe) queue).drainTo(c, maxElements);
+            int drained = 0;
+            Object next;
+            while (drained < maxElements && (next = queue.poll()) != null) {
+                c.add(next);
+                drained++;
+            }
+            return drained;
         }
 
     }
@@ -372,5 +384,97 @@ public interface AdaptersModule {
         
 
     }
+
+    /**
+     * A ClosingSpliterator that pulls data from the Queue in batches, buffering each batch locally and
+     * handing it on element by element. Each split receives its own buffer.
+     *
+     * @param <T> Data type of elements in the Queue
+     */
+    static class BatchingClosingSpliterator<T> implements Spliterator<T> {
+        private long estimate;
+        private final Consumer<Collection<T>> drainer;
+        private final Continueable subscription;
+        private final Queue queue;
+        private final AtomicBoolean closed;
+        private final ArrayList<T> buffer = new ArrayList<>();
+        private int index = 0;
+
+        public BatchingClosingSpliterator(final long estimate, final Consumer<Collection<T>> drainer, final Continueable subscription,
+                final Queue queue) {
+            this(estimate, drainer, subscription, queue, new AtomicBoolean(
+                                                                            false));
+        }
+
+        public BatchingClosingSpliterator(final long estimate, final Consumer<Collection<T>> drainer, final Continueable subscription,
+                final Queue queue, final AtomicBoolean closed) {
+            this.estimate = estimate;
+            this.drainer = drainer;
+            this.subscription = subscription;
+            this.queue = queue;
+            this.subscription.addQueue(queue);
+            this.closed = closed;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return IMMUTABLE;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index == buffer.size() && (closed.get() || !fill()))
+                return false;
+
+            action.accept(buffer.get(index++));
+            subscription.closeQueueIfFinished(queue);
+            if (subscription.closed()) {
+                //the Queue has been closed and cleared, discard anything left over from this batch
+                buffer.clear();
+                index = 0;
+            }
+            return true;
+
+        }
+
+        private boolean fill() {
+            buffer.clear();
+            index = 0;
+            boolean timeoutRetry = false;
+            do {
+                try {
+                    drainer.accept(buffer);
+                    return true;
+                } catch (final ClosedQueueException e) {
+                    if (e.isDataPresent()) {
+                        buffer.addAll(e.getCurrentData());
+                    }
+                    closed.set(true);
+                    return buffer.size() > 0;
+                } catch (final Queue.QueueTimeoutException e) {
+                    timeoutRetry = true;
+                } catch (final Exception e) {
+                    closed.set(true);
+                    return false;
+                }
+            } while (timeoutRetry);
+            return false;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+
+            return new BatchingClosingSpliterator<T>(
+                                                     estimate >>>= 1, drainer, subscription, queue, closed);
+
+        }
+
+    }
    
 }
@@ -0,0 +1,385 @@
+package cyclops.async;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import cyclops.async.AdaptersModule.QueueToBlockingQueueWrapper;
+import cyclops.async.Topic.OverflowPolicy;
+import cyclops.async.wait.WaitStrategy;
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+/**
+ * A pre-allocated, power of two sized ring buffer that backs a ring buffer Topic {@see Topic#ringBufferTopic(int, OverflowPolicy)}
+ *
+ * Each element is written once, and each subscriber reads it via its own independent Cursor (sequence number), so
+ * publishing costs the same regardless of how many subscribers are connected. Producers are serialised on the ring.
+ *
+ * A subscriber that falls a full ring behind is handled according to its OverflowPolicy
+ * <ul>
+ * <li>DROP_OLDEST : the subscriber skips forward to the oldest element still in the ring</li>
+ * <li>DROP_NEWEST : the unread elements are copied out for that subscriber, and new elements are dropped for it until it catches up</li>
+ * <li>BLOCK : the producer waits (using the producer WaitStrategy) until the subscriber frees a slot</li>
+ * <li>DISCONNECT : the subscriber's Queue is closed</li>
+ * </ul>
+ *
+ * @param <T> Data type of elements in the ring
+ */
+class BroadcastRing<T> {
+
+    private static final long WRITING = -1;
+    private static final Object LAPPED = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> values;
+    private final AtomicLongArray sequences;
+    private final AtomicLong published = new AtomicLong(
+                                                        0);
+    private final OverflowPolicy defaultPolicy;
+    private final WaitStrategy<T> strategy;
+
+    private final AtomicReference<Cursor<T>[]> cursors = new AtomicReference<>(
+                                                                              new Cursor[0]);
+    private volatile boolean cursorsChanged = false;
+    private long gatingSequence = Long.MAX_VALUE;
+
+    BroadcastRing(final int capacity, final OverflowPolicy defaultPolicy, final WaitStrategy<T> strategy) {
+        this.capacity = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.values = new AtomicReferenceArray<>(
+                                                 this.capacity);
+        this.sequences = new AtomicLongArray(
+                                             this.capacity);
+        for (int i = 0; i < this.capacity; i++)
+            sequences.set(i, WRITING);
+        this.defaultPolicy = defaultPolicy;
+        this.strategy = strategy;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long published() {
+        return published.get();
+    }
+
+    /**
+     * Create a new subscriber, that will receive all data published from this point on
+     *
+     * @param policy OverflowPolicy for the subscriber (null for the ring default)
+     * @return Queue connected to the new subscriber
+     */
+    Queue<T> subscribe(final OverflowPolicy policy) {
+        final Cursor<T> cursor = new Cursor<>(
+                                              this, policy == null ? defaultPolicy : policy);
+        final Queue<T> queue = new Queue<T>(
+                                            cursor, strategy, strategy);
+        cursor.owner = queue;
+        Cursor<T>[] current;
+        Cursor<T>[] next;
+        do {
+            current = cursors.get();
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = cursor;
+        } while (!cursors.compareAndSet(current, next));
+        cursorsChanged = true;
+        return queue;
+    }
+
+    /**
+     * Stop tracking the subscriber connected to the supplied Queue
+     *
+     * @param queue Queue created by this ring
+     */
+    void unsubscribe(final Queue<T> queue) {
+        final Cursor<T> cursor = cursor(queue);
+        Cursor<T>[] current;
+        Cursor<T>[] next;
+        do {
+            current = cursors.get();
+            int index = -1;
+            for (int i = 0; i < current.length && index == -1; i++) {
+                if (current[i] == cursor)
+                    index = i;
+            }
+            if (index == -1)
+                return;
+            next = new Cursor[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        } while (!cursors.compareAndSet(current, next));
+        cursorsChanged = true;
+    }
+
+    /**
+     * Change the OverflowPolicy of the subscriber connected to the supplied Queue
+     */
+    void policy(final Queue<T> queue, final OverflowPolicy policy) {
+        final Cursor<T> cursor = cursor(queue);
+        cursor.policy = policy;
+        cursorsChanged = true;
+        //read after cursorsChanged is set, any later write will gate on the new policy
+        cursor.policySince = published();
+    }
+
+    /**
+     * @return Number of elements published that the subscriber connected to the supplied Queue has yet to read
+     */
+    long lag(final Queue<T> queue) {
+        final Cursor<T> cursor = cursor(queue);
+        if (cursor.disconnected)
+            return 0;
+        final Backlog b = cursor.backlog;
+        final long read = cursor.sequence.get();
+        if (b != null)
+            return Math.max(0, b.end - read);
+        return Math.min(capacity, published() - read);
+    }
+
+    /**
+     * @return Number of elements the subscriber connected to the supplied Queue has missed by falling a full ring behind
+     */
+    long dropped(final Queue<T> queue) {
+        return cursor(queue).dropped.get();
+    }
+
+    static <T> Cursor<T> cursor(final Queue<T> queue) {
+        return (Cursor<T>) ((QueueToBlockingQueueWrapper) queue.getQueue()).queue;
+    }
+
+    /**
+     * Publish a single element to all subscribers
+     *
+     * @param data Element to publish
+     */
+    void publish(final T data) {
+        synchronized (this) {
+            write(data);
+        }
+        strategy.wakeup();
+    }
+
+    /**
+     * Publish the supplied elements to all subscribers, acquiring the ring and waking subscribers once for the batch
+     *
+     * @param data Elements to publish
+     */
+    void publishAll(final Iterable<? extends T> data) {
+        synchronized (this) {
+            for (final T next : data)
+                write(next);
+        }
+        strategy.wakeup();
+    }
+
+    private void write(final T data) {
+        final Object value = data == null ? Queue.NILL : data;
+        final long sequence = published.get();
+        final long wrap = sequence - capacity;
+        if (wrap >= gatingSequence || cursorsChanged) {
+            cursorsChanged = false;
+            gatingSequence = gate(wrap, sequence);
+        }
+        final int index = (int) sequence & mask;
+        sequences.set(index, WRITING);
+        values.set(index, value);
+        sequences.set(index, sequence);
+        published.set(sequence + 1);
+    }
+
+    /**
+     * Make sure no BLOCK or DROP_NEWEST subscriber still needs the slot about to be overwritten
+     *
+     * @return lowest sequence still needed by a gating subscriber
+     */
+    private long gate(final long wrap, final long sequence) {
+        long min = Long.MAX_VALUE;
+        for (final Cursor<T> cursor : cursors.get()) {
+            final OverflowPolicy policy = cursor.policy;
+            if (cursor.disconnected || !cursor.owner.isOpen())
+                continue;
+            if (policy == OverflowPolicy.BLOCK) {
+                if (cursor.sequence.get() <= wrap) {
+                    try {
+                        strategy.offer(() -> cursor.sequence.get() > wrap || cursor.disconnected || !cursor.owner.isOpen());
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread()
+                              .interrupt();
+                        throw ExceptionSoftener.throwSoftenedException(e);
+                    }
+                }
+            } else if (policy == OverflowPolicy.DROP_NEWEST) {
+                if (cursor.backlog != null)
+                    continue;
+                final long read = cursor.sequence.get();
+                if (read <= wrap) {
+                    cursor.backlog = backlog(read, sequence);
+                    continue;
+                }
+            } else {
+                continue;
+            }
+            min = Math.min(min, cursor.sequence.get());
+        }
+        return min;
+    }
+
+    private Backlog backlog(final long from, final long to) {
+        final Object[] data = new Object[(int) (to - from)];
+        for (long i = from; i < to; i++)
+            data[(int) (i - from)] = values.get((int) i & mask);
+        return new Backlog(
+                           from, data);
+    }
+
+    private Object read(final long sequence) {
+        final int index = (int) sequence & mask;
+        if (sequences.get(index) != sequence)
+            return LAPPED;
+        final Object value = values.get(index);
+        if (sequences.get(index) != sequence)
+            return LAPPED;
+        return value;
+    }
+
+    /**
+     * Elements copied out of the ring for a DROP_NEWEST subscriber that fell a full ring behind
+     */
+    static class Backlog {
+        final long start;
+        final long end;
+        final Object[] data;
+
+        Backlog(final long start, final Object[] data) {
+            this.start = start;
+            this.end = start + data.length;
+            this.data = data;
+        }
+    }
+
+    /**
+     * A single subscriber's view of the ring, exposed as a java.util.Queue so it can back an async.Queue
+     *
+     * Elements offered directly to the Cursor (via the async.Queue rather than the ring) are held locally
+     * and returned once the subscriber has consumed everything published to the ring.
+     *
+     * @param <T> Data type of elements in the ring
+     */
+    static class Cursor<T> extends AbstractQueue<T> {
+        private final BroadcastRing<T> ring;
+        private final java.util.Queue<T> local = new ConcurrentLinkedQueue<>();
+        final AtomicLong sequence;
+        final AtomicLong dropped = new AtomicLong(
+                                                  0);
+        volatile OverflowPolicy policy;
+        //ring.published() when policy took effect, writes up to this sequence may not have been gated by it
+        volatile long policySince;
+        volatile Backlog backlog;
+        volatile boolean disconnected = false;
+        volatile Queue<T> owner;
+
+        Cursor(final BroadcastRing<T> ring, final OverflowPolicy policy) {
+            this.ring = ring;
+            this.policy = policy;
+            this.sequence = new AtomicLong(
+                                           ring.published());
+            this.policySince = sequence.get();
+        }
+
+        @Override
+        public T poll() {
+            for (;;) {
+                if (disconnected)
+                    return local.poll();
+                final long read = sequence.get();
+                final Backlog b = backlog;
+                if (b != null && read >= b.end) {
+                    //caught up with the copied out elements, drop everything published since
+                    final long head = ring.published();
+                    if (sequence.compareAndSet(read, head)) {
+                        dropped.addAndGet(head - read);
+                        backlog = null;
+                        ring.cursorsChanged = true;
+                    }
+                    continue;
+                }
+                final long head = ring.published();
+                if (read >= head) {
+                    //locally offered elements are returned after published data, make sure nothing has been published since
+                    if (local.isEmpty())
+                        return null;
+                    if (ring.published() != head)
+                        continue;
+                    return local.poll();
+                }
+                Object value = ring.read(read);
+                if (value == LAPPED && b != null && read >= b.start)
+                    value = b.data[(int) (read - b.start)];
+                if (value != LAPPED) {
+                    if (sequence.compareAndSet(read, read + 1))
+                        return (T) value;
+                    continue;
+                }
+                if (backlog != b) {
+                    //the producer copied out a backlog (before overwriting the slot) since b was read, read from that
+                    continue;
+                }
+                final OverflowPolicy current = policy;
+                if (current == OverflowPolicy.DISCONNECT) {
+                    disconnect();
+                    continue;
+                }
+                if (current != OverflowPolicy.DROP_OLDEST && read + ring.capacity() > policySince && owner.isOpen()) {
+                    //the gate keeps open BLOCK and DROP_NEWEST subscribers from being lapped, only data lapped before
+                    //the policy took effect is skipped
+                    continue;
+                }
+                final long oldest = ring.published() - ring.capacity();
+                if (sequence.compareAndSet(read, oldest))
+                    dropped.addAndGet(oldest - read);
+            }
+        }
+
+        private void disconnect() {
+            disconnected = true;
+            ring.unsubscribe(owner);
+            owner.close();
+        }
+
+        @Override
+        public T peek() {
+            final long read = sequence.get();
+            if (!disconnected && read < ring.published()) {
+                final Object value = ring.read(read);
+                if (value != LAPPED)
+                    return (T) value;
+            }
+            return local.peek();
+        }
+
+        @Override
+        public boolean offer(final T e) {
+            return local.offer(e);
+        }
+
+        @Override
+        public int size() {
+            if (disconnected)
+                return local.size();
+            return (int) Math.min(ring.capacity(), ring.published() - sequence.get()) + local.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+}
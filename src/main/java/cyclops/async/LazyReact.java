@@ -28,6 +28,7 @@ import com.aol.cyclops2.internal.react.stream.ReactBuilder;
 import com.aol.cyclops2.react.RetryBuilder;
 import com.aol.cyclops2.react.ThreadPools;
 import com.aol.cyclops2.react.async.subscription.Subscription;
+import com.aol.cyclops2.react.collectors.lazy.AdaptiveMaxActive;
 import com.aol.cyclops2.react.collectors.lazy.MaxActive;
 import com.aol.cyclops2.types.stream.reactive.SeqSubscriber;
 import cyclops.function.Cacheable;
@@ -282,6 +283,9 @@ public class LazyReact implements ReactBuilder {
      * Turn objectPooling on for any Streams created by the returned LazyReact builder
      * This improves performance for Streams with very large numbers of elements, by reusing
      * Future instances. By default Object Pooling is Off.
+     * 
+     * Pooling is most effective when Futures are issued and joined by the same thread (e.g. sequential Streams),
+     * as recycled Futures are then kept on that thread's free list. Futures must not be retained once joined.
      * <pre>
      * {@code 
      *  return new LazyReact()
@@ -317,6 +321,29 @@ public class LazyReact implements ReactBuilder {
         return withPoolingActive(false);
     }
 
+    /**
+     * Limit the number of active tasks with an adaptive MaxActive, the limit is adjusted according to the
+     * completion latency and throughput observed by Streams created by the returned LazyReact builder.
+     *
+     * <pre>
+     * {@code
+     *  AdaptiveMaxActive limit = AdaptiveMaxActive.gradient(4, 1000);
+     *  new LazyReact().maxActive(limit)
+    					.from(requests)
+    					.map(this::callService)
+    					.forEach(System.out::println);
+     *
+     *  limit.metrics().getLimit();
+     * }
+     * </pre>
+     *
+     * @param adaptive Adaptive MaxActive to use (see {@link AdaptiveMaxActive#aimd(int, int, long, java.util.concurrent.TimeUnit)} and {@link AdaptiveMaxActive#gradient(int, int)})
+     * @return New LazyReact builder with an adaptive MaxActive
+     */
+    public LazyReact maxActive(final AdaptiveMaxActive adaptive) {
+        return withMaxActive(adaptive);
+    }
+
     /**
      * Turn on automatic threading optimization. Tasks will be 'fanned' out across threads initially
      * and subsequent task completion events will trigger further processing on the same thread. Where
@@ -789,6 +816,64 @@ public class LazyReact implements ReactBuilder {
                         .build();
     }
 
+    /**
+     * Construct a LazyReact builder that executes tasks on virtual threads, suitable for blocking stages (e.g. remote calls)
+     * as a blocked virtual thread does not pin a platform thread. Virtual threads are unbounded, the number of tasks in flight
+     * is limited by MaxActive (MaxActive.IO by default).
+     * 
+     * On JVMs without virtual thread support (e.g. Java 8) an elastic pool of platform threads is used instead.
+     * 
+     * <pre>
+     * {@code 
+     *  LazyReact.virtualThreads()
+     *           .from(urls)
+     *           .map(this::load)
+     *           .forEach(System.out::println);
+     * }
+     * </pre>
+     * 
+     * @see ThreadPools#getVirtualThreadExecutor()
+     * @see ThreadPools#isVirtualThreadsSupported()
+     * 
+     * @return LazyReact builder backed by virtual threads
+     */
+    public static LazyReact virtualThreads() {
+        return virtualThreads(MaxActive.IO);
+    }
+
+    /**
+     * Construct a LazyReact builder that executes tasks on virtual threads, with at most maxActive tasks in flight
+     * 
+     * @see LazyReact#virtualThreads()
+     * 
+     * @param maxActive Max active Future Tasks
+     * @return LazyReact builder backed by virtual threads
+     */
+    public static LazyReact virtualThreads(final int maxActive) {
+        return virtualThreads(new MaxActive(
+                                            maxActive, Math.max(0, maxActive - Math.max(1, maxActive / 10))));
+    }
+
+    /**
+     * Construct a LazyReact builder that executes tasks on virtual threads, with tasks in flight limited by the supplied
+     * MaxActive (e.g. an AdaptiveMaxActive)
+     * 
+     * @see LazyReact#virtualThreads()
+     * 
+     * @param maxActive Limits on the number of active Future Tasks
+     * @return LazyReact builder backed by virtual threads
+     */
+    public static LazyReact virtualThreads(final MaxActive maxActive) {
+        return LazyReact.builder()
+                        .async(true)
+                        .autoOptimize(true)
+                        .maxActive(maxActive)
+                        .executor(ThreadPools.getVirtualThreadExecutor())
+                        .retrier(RetryBuilder.getDefaultInstance()
+                                             .withScheduler(ThreadPools.getCommonFreeThreadRetry()))
+                        .build();
+    }
+
     private static final Object NONE = new Object();
 
     /**
@@ -1,5 +1,7 @@
 package cyclops.async;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -8,6 +10,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import cyclops.control.Eval;
 import cyclops.control.Maybe;
@@ -25,8 +33,9 @@ import com.aol.cyclops2.react.threads.SequentialElasticPools;
 import com.aol.cyclops2.types.stream.reactive.SeqSubscriber;
 import com.aol.cyclops2.types.stream.reactive.ValueSubscriber;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import cyclops.async.Queue.ClosedQueueException;
+
+import lombok.Value;
 
 /**
  * Pipes : Stores and manages cyclops2-react Adapters for cross-thread communication
@@ -74,10 +83,31 @@ import lombok.NoArgsConstructor;
  * @param <V> Value type transferred via managed Adapters
  *
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Pipes<K, V> {
 
-    private final ConcurrentMap<K, Adapter<V>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Registration<V>> registered = new ConcurrentHashMap<>();
+    private final Function<? super K, ? extends Adapter<V>> factory;
+    private final long idleTimeoutNanos;
+    private final int maxSize;
+    private final boolean evicting;
+    private final Executor evictOn;
+    private final AtomicLong lastSweep = new AtomicLong(
+                                                        System.nanoTime());
+    private final AtomicBoolean sweeping = new AtomicBoolean(
+                                                             false);
+
+    private Pipes() {
+        this(null, -1, Integer.MAX_VALUE, null);
+    }
+
+    private Pipes(final Function<? super K, ? extends Adapter<V>> factory, final long idleTimeoutNanos, final int maxSize,
+            final Executor evictOn) {
+        this.factory = factory;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.maxSize = Math.max(1, maxSize);
+        this.evicting = idleTimeoutNanos > 0 || maxSize < Integer.MAX_VALUE;
+        this.evictOn = evictOn;
+    }
 
     /**
      * @return Numer of registered adapters
@@ -87,10 +117,14 @@ public class Pipes<K, V> {
     }
 
     /**
+     * Note this copies the entire registry, use {@link Pipes#get(Object)} or {@link Pipes#metrics(Object)} to inspect individual keys
+     * 
      * @return Persistent map of all registered adapters
      */
     public PMapX<K, Adapter<V>> registered() {
-        return PMapX.fromMap(registered);
+        final Map<K, Adapter<V>> adapters = new HashMap<>();
+        registered.forEach((k, r) -> adapters.put(k, r.adapter));
+        return PMapX.fromMap(adapters);
     }
 
     /**
@@ -100,6 +134,81 @@ public class Pipes<K, V> {
         return new Pipes<>();
     }
 
+    /**
+     * Construct a Pipes instance that creates Adapters on demand, the first time a key is pushed, published or subscribed to.
+     * Looking up a key that has not been created yet (e.g. via {@link Pipes#get(Object)} or {@link Pipes#reactiveSeq(Object)})
+     * does not create it.
+     * 
+     * <pre>
+     * {@code 
+     *   Pipes<String,Integer> bus = Pipes.lazy(key->QueueFactories.<Integer>boundedNonBlockingQueue(1000).build());
+     *   bus.push("tenant-1",10);
+     *   bus.push("tenant-2",20);
+     *   
+     *   bus.size(); //2
+     * }
+     * </pre>
+     * 
+     * @param factory Function to create the Adapter for a key
+     * @return Pipes instance that creates Adapters lazily
+     */
+    public static <K, V> Pipes<K, V> lazy(final Function<? super K, ? extends Adapter<V>> factory) {
+        Objects.requireNonNull(factory);
+        return new Pipes<>(
+                           factory, -1, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Construct a Pipes instance that creates Adapters on demand, and closes and removes Adapters that have not been
+     * used for the idle timeout, or that were least recently used once there are more than maxSize keys. Eviction sweeps
+     * run on the common ForkJoinPool, see {@link Pipes#lazy(Function, long, TimeUnit, int, Executor)}
+     * 
+     * <pre>
+     * {@code 
+     *   Pipes<String,Integer> bus = Pipes.lazy(key->QueueFactories.<Integer>boundedNonBlockingQueue(1000).build(),
+     *                                          10,TimeUnit.MINUTES,100_000);
+     * }
+     * </pre>
+     * 
+     * @param factory Function to create the Adapter for a key
+     * @param idleTimeout Time after which an unused Adapter is evicted (-1 for no idle timeout)
+     * @param unit TimeUnit for idleTimeout
+     * @param maxSize Max number of Adapters to retain
+     * @return Pipes instance that creates Adapters lazily, and evicts idle Adapters
+     */
+    public static <K, V> Pipes<K, V> lazy(final Function<? super K, ? extends Adapter<V>> factory, final long idleTimeout,
+            final TimeUnit unit, final int maxSize) {
+        return lazy(factory, idleTimeout, unit, maxSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a Pipes instance that creates Adapters on demand, and closes and removes Adapters that have not been
+     * used for the idle timeout, or that were least recently used once there are more than maxSize keys.
+     * An Adapter is used when it is pushed to or looked up via this Pipes instance, and when it is read from or
+     * subscribed to - the latter are detected at each sweep, by comparing the Adapter's depth, push count and (for Topics)
+     * subscriber count with the previous sweep.
+     * 
+     * Sweeps are triggered by the thread using the Pipes instance, at most twice per idle timeout or once per maxSize / 10
+     * new keys when over the size limit, and run on the supplied Executor so the scan and least recently used sort stay
+     * off the push path. The registry may exceed maxSize while a sweep is pending.
+     * 
+     * Connected Streams complete once an evicted Adapter has been drained, a later push to the same key creates a new Adapter.
+     * 
+     * @param factory Function to create the Adapter for a key
+     * @param idleTimeout Time after which an unused Adapter is evicted (-1 for no idle timeout)
+     * @param unit TimeUnit for idleTimeout
+     * @param maxSize Max number of Adapters to retain
+     * @param evictOn Executor to run eviction sweeps on
+     * @return Pipes instance that creates Adapters lazily, and evicts idle Adapters
+     */
+    public static <K, V> Pipes<K, V> lazy(final Function<? super K, ? extends Adapter<V>> factory, final long idleTimeout,
+            final TimeUnit unit, final int maxSize, final Executor evictOn) {
+        Objects.requireNonNull(factory);
+        Objects.requireNonNull(evictOn);
+        return new Pipes<>(
+                           factory, idleTimeout > 0 ? unit.toNanos(idleTimeout) : -1, maxSize, evictOn);
+    }
+
     /**
      * Construct a Pipes instance to manage a predefined Map of Adapaters
      * 
@@ -109,7 +218,8 @@ public class Pipes<K, V> {
     public static <K, V> Pipes<K, V> of(final Map<K, Adapter<V>> registered) {
         Objects.requireNonNull(registered);
         final Pipes<K, V> pipes = new Pipes<>();
-        pipes.registered.putAll(registered);
+        registered.forEach((k, a) -> pipes.registered.put(k, new Registration<>(
+                                                                                a)));
         return pipes;
     }
 
@@ -137,8 +247,35 @@ public class Pipes<K, V> {
      * @param value Value to push to Adapter
      */
     public void push(final K key, final V value) {
-        Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.offer(value));
+        Registration<V> registration;
+        while ((registration = registration(key, true)) != null) {
+            try {
+                registration.adapter.offer(value);
+                registration.pushed.increment();
+                return;
+            } catch (final ClosedQueueException e) {
+                //closed by eviction, push to the replacement Adapter
+                if (!registration.evicted)
+                    throw e;
+            }
+        }
+    }
+
+    /**
+     * Depth and throughput counters for the Adapter identified by the supplied key, if it exists.
+     * Looking up metrics does not count as using the Adapter (it does not delay eviction).
+     * 
+     * @param key Adapter key
+     * @return Metrics for the Adapter
+     */
+    public Maybe<Metrics> metrics(final K key) {
+        final Registration<V> registration = registered.get(key);
+        if (registration == null)
+            return Maybe.none();
+        final Adapter<V> adapter = registration.adapter;
+        return Maybe.just(new Metrics(
+                                      adapter.visit(q -> (long) q.size(), t -> t.depth()), registration.pushed.sum(),
+                                      System.nanoTime() - registration.lastAccess));
     }
 
     /**
@@ -160,7 +297,7 @@ public class Pipes<K, V> {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<Adapter<V>> get(final K key) {
-        return Maybe.ofNullable((Adapter) registered.get(key));
+        return Maybe.ofNullable((Adapter) adapter(key));
     }
 
     /**
@@ -555,7 +692,9 @@ public class Pipes<K, V> {
      * 
      */
     public void register(final K key, final Adapter<V> adapter) {
-        registered.put(key, adapter);
+        registered.put(key, new Registration<>(
+                                               adapter));
+        evictIfNeeded();
 
     }
 
@@ -574,9 +713,8 @@ public class Pipes<K, V> {
      * @param subscriber Reactive Streams subscriber for data on this pipe
      */
     public void subscribeTo(final K key, final Subscriber<V> subscriber) {
-        registered.get(key)
-                  .stream()
-                  .subscribe(subscriber);
+        adapterOrCreate(key).stream()
+                            .subscribe(subscriber);
 
     }
 
@@ -607,6 +745,28 @@ public class Pipes<K, V> {
 
     }
 
+    /**
+     * Subscribe asynchronously to a pipe, without blocking a thread while it is empty. Data is delivered on the supplied Executor
+     * in batches of up to batchSize elements (bounded by the Subscriber's demand), and onComplete is signalled once the Adapter
+     * is closed and drained. Subscribing to a Topic registers a new subscriber Queue, that is disconnected when the Subscription ends.
+     * 
+     * @param key for registered simple-react async.Adapter
+     * @param subscriber Reactive Streams subscriber for data on this pipe
+     * @param batchSize Max number of elements to drain from the Adapter at a time
+     * @param deliverOn Executor to deliver data on
+     */
+    public void subscribeTo(final K key, final Subscriber<V> subscriber, final int batchSize, final Executor deliverOn) {
+        adapterOrCreate(key).visit(q -> new QueueSubscription<>(
+                                                               q, subscriber, batchSize, deliverOn, () -> {
+                                                               }),
+                           t -> {
+                               final Queue<V> q = t.subscriberQueue();
+                               return new QueueSubscription<>(
+                                                              q, subscriber, batchSize, deliverOn, () -> t.disconnect(q));
+                           })
+                     .start();
+    }
+
     /**
      * Synchronously publish data to the Adapter specified by the provided Key, blocking the current thread
      * 
@@ -616,10 +776,51 @@ public class Pipes<K, V> {
     public void publishTo(final K key, final Publisher<V> publisher) {
         final SeqSubscriber<V> sub = SeqSubscriber.subscriber();
         publisher.subscribe(sub);
-        registered.get(key)
-                  .fromStream(sub.stream());
+        adapterOrCreate(key).fromStream(sub.stream());
     }
 
+
+    /**
+     * Asynchronously publish data to the Adapter specified by the provided Key, without blocking any threads.
+     * Data is requested from the Publisher in batches of up to prefetch elements, and never more than the target Queue has
+     * free capacity for, so memory use is bounded even for fast Publishers. More data is requested once a quarter of the prefetch remains outstanding.
+     * 
+     * <pre>
+     * {@code 
+     *  Pipes<String,Integer> pipes = Pipes.of();
+     *  pipes.register("hello", QueueFactories.<Integer>boundedNonBlockingQueue(1000).build());
+     *  
+     *  pipes.publishTo("hello",Flux.range(0,1_000_000),256);
+     * }
+     * </pre>
+     * 
+     * @param key for registered cylops-react async.Adapter
+     * @param publisher Reactive Streams publisher  to push data onto this pipe
+     * @param prefetch Max number of elements to request from the Publisher at a time
+     * @return Future that completes once all data from the Publisher has been added to the Adapter
+     */
+    public Future<Void> publishTo(final K key, final Publisher<V> publisher, final int prefetch) {
+        return publishTo(key, publisher, prefetch, prefetch / 4);
+    }
+
+    /**
+     * Asynchronously publish data to the Adapter specified by the provided Key, without blocking any threads.
+     * Data is requested from the Publisher in batches of up to prefetch elements (bounded by the target Queue's free capacity),
+     * with more data requested once the number of outstanding elements falls to the low watermark.
+     * If the Queue is full at that point, the next request is made once a consumer frees space.
+     * 
+     * @param key for registered cylops-react async.Adapter
+     * @param publisher Reactive Streams publisher  to push data onto this pipe
+     * @param prefetch Max number of elements to request from the Publisher at a time
+     * @param lowWatermark Number of outstanding elements at which to request more
+     * @return Future that completes once all data from the Publisher has been added to the Adapter
+     */
+    public Future<Void> publishTo(final K key, final Publisher<V> publisher, final int prefetch, final int lowWatermark) {
+        final Future<Void> result = Future.future();
+        publisher.subscribe(new PrefetchingSubscriber<>(
+                                                        adapterOrCreate(key), prefetch, lowWatermark, result));
+        return result;
+    }
     
     /**
      * Asynchronously publish data to the Adapter specified by the provided Key
@@ -657,8 +858,148 @@ public class Pipes<K, V> {
      */
     public void close(final String key) {
         Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.close());
+                .ifPresent(r -> r.adapter.close());
+
+    }
+
+    private Adapter<V> adapter(final K key) {
+        final Registration<V> registration = registration(key, false);
+        return registration == null ? null : registration.adapter;
+    }
+
+    private Adapter<V> adapterOrCreate(final K key) {
+        final Registration<V> registration = registration(key, true);
+        return registration == null ? null : registration.adapter;
+    }
+
+    /**
+     * @param create true to create the Adapter via the factory (if any) when the key is not registered, only
+     *        pushing, publishing and subscribing create Adapters, lookups do not
+     */
+    private Registration<V> registration(final K key, final boolean create) {
+        Registration<V> registration = registered.get(key);
+        if (registration == null && create && factory != null)
+            registration = registered.computeIfAbsent(key, k -> new Registration<>(
+                                                                                   factory.apply(k)));
+        if (registration != null) {
+            registration.lastAccess = System.nanoTime();
+            evictIfNeeded();
+        }
+        return registration;
+    }
+
+    private void evictIfNeeded() {
+        if (!evicting)
+            return;
+        final boolean full = registered.size() > maxSize;
+        final boolean sweepDue = idleTimeoutNanos > 0 && System.nanoTime() - lastSweep.get() > idleTimeoutNanos / 2;
+        if ((full || sweepDue) && sweeping.compareAndSet(false, true)) {
+            try {
+                evictOn.execute(this::sweep);
+            } catch (final RuntimeException e) {
+                sweeping.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void sweep() {
+        try {
+            evict();
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void evict() {
+        final long now = System.nanoTime();
+        lastSweep.set(now);
+        registered.forEach((k, r) -> {
+            if (r.usedSinceLastSweep())
+                r.lastAccess = now;
+        });
+        if (idleTimeoutNanos > 0) {
+            registered.forEach((k, r) -> {
+                if (now - r.lastAccess > idleTimeoutNanos)
+                    evict(k, r);
+            });
+        }
+        //evict the least recently used down to 90% of maxSize, so the scan is amortised over many new keys
+        final int toEvict = registered.size() - (maxSize - maxSize / 10);
+        if (registered.size() <= maxSize || toEvict <= 0)
+            return;
+        //access times relative to now, as System.nanoTime values may wrap
+        long[] accessed = new long[registered.size()];
+        int count = 0;
+        for (final Registration<V> r : registered.values()) {
+            if (count == accessed.length)
+                accessed = Arrays.copyOf(accessed, count * 2);
+            accessed[count++] = r.lastAccess - now;
+        }
+        Arrays.sort(accessed, 0, count);
+        final long cutoff = accessed[Math.min(toEvict, count) - 1];
+        int evicted = 0;
+        for (final Map.Entry<K, Registration<V>> next : registered.entrySet()) {
+            if (evicted < toEvict && next.getValue().lastAccess - now <= cutoff && evict(next.getKey(), next.getValue()))
+                evicted++;
+        }
+    }
+
+    private boolean evict(final K key, final Registration<V> registration) {
+        if (!registered.remove(key, registration))
+            return false;
+        registration.evicted = true;
+        registration.adapter.close();
+        return true;
+    }
+
+    private static class Registration<V> {
+        final Adapter<V> adapter;
+        final LongAdder pushed = new LongAdder();
+        volatile long lastAccess = System.nanoTime();
+        volatile boolean evicted = false;
+        //only accessed by the (single) active sweep
+        private long sweptDepth = 0;
+        private long sweptPushed = 0;
+        private int sweptSubscribers = 0;
+
+        Registration(final Adapter<V> adapter) {
+            this.adapter = adapter;
+        }
+
+        /**
+         * @return true if the Adapter was read from, written to directly or (re)subscribed to since the last sweep
+         */
+        boolean usedSinceLastSweep() {
+            final long depth = adapter.visit(q -> (long) q.size(), t -> t.depth());
+            final int subscribers = adapter.visit(q -> 0, t -> t.subscriberCount());
+            final long pushed = this.pushed.sum();
+            final boolean used = depth != sweptDepth + (pushed - sweptPushed) || subscribers != sweptSubscribers;
+            sweptDepth = depth;
+            sweptPushed = pushed;
+            sweptSubscribers = subscribers;
+            return used;
+        }
+    }
 
+    /**
+     * A snapshot of the counters for a single key
+     */
+    @Value
+    public static class Metrics {
+        /**
+         * Number of elements waiting to be read (for Topics, by the furthest behind subscriber)
+         */
+        long depth;
+        /**
+         * Total number of elements pushed via {@link Pipes#push(Object, Object)}
+         */
+        long pushed;
+        /**
+         * Time since the Adapter was last pushed to, published to, subscribed to or looked up via this Pipes instance
+         * (or, for evicting Pipes, last read from as detected by a sweep), in nanoseconds
+         */
+        long idleNanos;
     }
 
 }
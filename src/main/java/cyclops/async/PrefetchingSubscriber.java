@@ -0,0 +1,150 @@
+package cyclops.async;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A reactive-streams Subscriber that pushes data into an async.Adapter without ever blocking, by only requesting as many
+ * elements from the Publisher as the target Queue has free capacity for {@see Pipes#publishTo(Object, org.reactivestreams.Publisher, int)}
+ * (Topics are treated as unbounded, so only the prefetch limits demand)
+ *
+ * Up to prefetch elements are requested up front, more are requested once the number outstanding falls to the low watermark.
+ * If the Queue is full at that point, the request is made from the consuming thread once space becomes available.
+ * Elements that do not fit (e.g. because other producers filled the Queue) are held locally and added, in order, once there is space.
+ *
+ * @param <T> Data type of elements
+ */
+class PrefetchingSubscriber<T> implements Subscriber<T> {
+
+    private final Adapter<T> adapter;
+    //null for Topics
+    private final Queue<T> queue;
+    private final long prefetch;
+    private final long lowWatermark;
+    private final Future<Void> result;
+    private final java.util.Queue<T> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicLong outstanding = new AtomicLong(
+                                                          0);
+    private final AtomicInteger wip = new AtomicInteger(
+                                                        0);
+    private final Runnable onSpace = this::onSpace;
+    private volatile Subscription subscription;
+    private volatile boolean waitingForSpace = false;
+    private volatile boolean done = false;
+
+    PrefetchingSubscriber(final Adapter<T> adapter, final int prefetch, final int lowWatermark, final Future<Void> result) {
+        this.adapter = adapter;
+        this.queue = adapter.visit(q -> q, t -> null);
+        this.prefetch = Math.max(1, prefetch);
+        this.lowWatermark = Math.max(0, Math.min(lowWatermark, prefetch - 1));
+        this.result = result;
+    }
+
+    @Override
+    public void onSubscribe(final Subscription s) {
+        Objects.requireNonNull(s);
+        if (subscription != null) {
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        listen(true);
+        replenish();
+    }
+
+    @Override
+    public void onNext(final T t) {
+        Objects.requireNonNull(t);
+        outstanding.decrementAndGet();
+        if (queue != null && !queue.isOpen()) {
+            done = true;
+            subscription.cancel();
+            listen(false);
+            result.completeExceptionally(new Queue.ClosedQueueException());
+            return;
+        }
+        if (!overflow.isEmpty() || !add(t))
+            overflow.offer(t);
+        replenish();
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+        Objects.requireNonNull(t);
+        done = true;
+        listen(false);
+        result.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        replenish();
+    }
+
+    private boolean add(final T t) {
+        return queue != null ? queue.add(t) : adapter.offer(t);
+    }
+
+    private long capacity() {
+        return queue != null ? queue.remainingCapacity() : Integer.MAX_VALUE;
+    }
+
+    private void listen(final boolean listen) {
+        if (queue == null)
+            return;
+        if (listen)
+            queue.addSpaceListener(onSpace);
+        else
+            queue.removeSpaceListener(onSpace);
+    }
+
+    private void onSpace() {
+        if (waitingForSpace)
+            replenish();
+    }
+
+    /**
+     * Flush any locally held elements, and request more if the number outstanding has fallen to the low watermark.
+     * Called from both the Publisher's and the Queue consumer's threads, the work is serialised via wip.
+     */
+    private void replenish() {
+        if (wip.getAndIncrement() != 0)
+            return;
+        int missed = 1;
+        for (;;) {
+            //set before checking for space, so space freed during the check triggers another pass
+            waitingForSpace = true;
+            T next;
+            while ((next = overflow.peek()) != null && add(next))
+                overflow.poll();
+            boolean blocked = !overflow.isEmpty();
+            if (done) {
+                if (!blocked) {
+                    listen(false);
+                    result.complete(null);
+                }
+            } else if (!blocked) {
+                final long out = outstanding.get();
+                if (out <= lowWatermark) {
+                    final long request = Math.min(prefetch - out, capacity() - out);
+                    if (request > 0) {
+                        outstanding.addAndGet(request);
+                        subscription.request(request);
+                    } else
+                        blocked = out == 0;
+                }
+            }
+            waitingForSpace = blocked;
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                break;
+        }
+    }
+
+}
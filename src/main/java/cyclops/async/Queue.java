@@ -5,8 +5,9 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import cyclops.stream.ReactiveSeq;
+import cyclops.async.AdaptersModule.BatchingClosingSpliterator;
 import cyclops.async.AdaptersModule.ClosingSpliterator;
 import cyclops.async.AdaptersModule.QueueToBlockingQueueWrapper;
 import cyclops.async.AdaptersModule.SingleContinuation;
@@ -84,17 +86,17 @@ import lombok.experimental.Wither;
 @AllArgsConstructor
 public class Queue<T> implements Adapter<T> {
 
-    private final static PoisonPill POISON_PILL = new PoisonPill();
-    private final static PoisonPill CLEAR_PILL = new PoisonPill();
+    private final static Runnable[] NO_LISTENERS = new Runnable[0];
 
     private volatile boolean open = true;
-    private final AtomicInteger listeningStreams = new AtomicInteger();
+    private volatile boolean cleared = false;
+    private final BooleanSupplier closed = () -> !open;
     private final int timeout;
     private final TimeUnit timeUnit;
 
     private final long offerTimeout;
     private final TimeUnit offerTimeUnit;
-    private final int maxPoisonPills;
+    private final int drainBatchSize;
 
     @Getter(AccessLevel.PACKAGE)
     private final BlockingQueue<T> queue;
@@ -107,6 +109,12 @@ public class Queue<T> implements Adapter<T> {
     private volatile Continueable sub;
     private ContinuationStrategy continuationStrategy;
     private volatile boolean shuttingDown = false;
+    private final AtomicReference<Runnable[]> dataListeners = new AtomicReference<>(
+                                                                                  NO_LISTENERS);
+    private final AtomicReference<Runnable[]> spaceListeners = new AtomicReference<>(
+                                                                                   NO_LISTENERS);
+    //consumers blocked in the underlying BlockingQueue waiting for data, woken (interrupted) on close
+    private final Set<BlockedTaker> blockedTakers = new HashSet<>();
 
     /**
      * Construct a Queue backed by a LinkedBlockingQueue
@@ -125,9 +133,9 @@ public class Queue<T> implements Adapter<T> {
         this.queue = q.queue;
         timeout = q.timeout;
         timeUnit = q.timeUnit;
-        maxPoisonPills = q.maxPoisonPills;
         offerTimeout = q.offerTimeout;
         offerTimeUnit = q.offerTimeUnit;
+        drainBatchSize = q.drainBatchSize;
 
         this.consumerWait = q.consumerWait;
         this.producerWait = q.producerWait;
@@ -137,9 +145,9 @@ public class Queue<T> implements Adapter<T> {
         this.queue = queue;
         timeout = -1;
         timeUnit = TimeUnit.MILLISECONDS;
-        maxPoisonPills = 90000;
         offerTimeout = Integer.MAX_VALUE;
         offerTimeUnit = TimeUnit.DAYS;
+        drainBatchSize = 1;
 
         this.consumerWait = consumer;
         this.producerWait = producer;
@@ -180,8 +188,7 @@ public class Queue<T> implements Adapter<T> {
      */
     @Override
     public ReactiveSeq<T> stream() {
-        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
-        return ReactiveSeq.fromStream(closingStream(this::get, new AlwaysContinue()));
+        return ReactiveSeq.fromStream(closingStream(new AlwaysContinue()));
     }
     /**
      * Return a standard (unextended) JDK Stream connected to this Queue
@@ -193,21 +200,14 @@ public class Queue<T> implements Adapter<T> {
      *  }
      * </pre>
      * 
-     * @param closeScalingFactor Scaling factor for Queue closed messages to propagate to connected parallel Streams.
-     *              Scaling Factor may need to be high to reach all connect parallel threads.
+     * @param closeScalingFactor No longer used, consumers observe the closed Queue directly so no close messages need to be sent
      * 
      * @return Java 8 Stream connnected to this Queue
+     * @deprecated use {@link Queue#jdkStream()}
      */
+    @Deprecated
     public Stream<T> jdkStream(int closeScalingFactor){
-        int cores = Runtime.getRuntime().availableProcessors();
-        String par = System.getProperty("java.util.concurrent.ForkJoinPool.common.parallelism");
-        int connected = par !=null ? Integer.valueOf(par) : cores;
-        int update = 0;
-        do{
-            update = listeningStreams.get()+ connected*closeScalingFactor;
-        }while(!listeningStreams.compareAndSet(listeningStreams.get(), update));
-        
-        return closingStream(this::get, new AlwaysContinue());
+        return jdkStream();
     }
     
     /**
@@ -219,48 +219,81 @@ public class Queue<T> implements Adapter<T> {
      *        use queue.stream().parallel() to convert to a parallel Stream
      *  }
      * </pre>
-     * @see Queue#jdkStream(int) for an alternative that sends more poision pills for use with parallel Streams.
+     * Closing the Queue terminates all connected consumers (including each thread of a parallel Stream) once the remaining data has been taken
      * 
      * @return Java 8 Stream connnected to this Queue
      */
     public Stream<T> jdkStream() {
-       return jdkStream(2);
+       return closingStream(new AlwaysContinue());
     }
 
     public Stream<T> jdkStream(final Continueable s){
         this.sub = s;
-        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
-        return closingStream(this::get, s);
+        return closingStream(s);
     }
     @Override
     public ReactiveSeq<T> stream(final Continueable s) {
         this.sub = s;
-        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
-        return ReactiveSeq.fromStream(closingStream(this::get, s));
+        return ReactiveSeq.fromStream(closingStream(s));
     }
 
     public ReactiveSeq<Collection<T>> streamBatchNoTimeout(final Continueable s, final Function<Supplier<T>, Supplier<Collection<T>>> batcher) {
         this.sub = s;
-        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStreamBatch(batcher.apply(() -> ensureOpen(this.timeout, this.timeUnit)), s));
     }
 
     public ReactiveSeq<Collection<T>> streamBatch(final Continueable s,
             final Function<BiFunction<Long, TimeUnit, T>, Supplier<Collection<T>>> batcher) {
         this.sub = s;
-        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStreamBatch(batcher.apply((timeout, timeUnit) -> ensureOpen(timeout, timeUnit)), s));
     }
 
+    /**
+     * Stream the data in this Queue in batches. Each batch waits (via the consumer WaitStrategy) for at least one element, and then
+     * contains all further elements immediately available, up to maxBatchSize.
+     * 
+     * <pre>
+     * {@code 
+     *   Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(1000).build();
+     *   q.offerAll(Arrays.asList(1,2,3,4,5));
+     *   q.close();
+     *   
+     *   q.streamBatch(2).toList();
+     *   //[[1,2],[3,4],[5]]
+     * }
+     * </pre>
+     * 
+     * @param maxBatchSize Max number of elements per batch
+     * @return Stream of batches of data from this Queue
+     */
+    public ReactiveSeq<Collection<T>> streamBatch(final int maxBatchSize) {
+        return streamBatch(new AlwaysContinue(), maxBatchSize);
+    }
+
+    /**
+     * Stream the data in this Queue in batches of up to maxBatchSize elements {@see Queue#streamBatch(int)}
+     * 
+     * @param s Subscription that controls how long this Stream remains connected
+     * @param maxBatchSize Max number of elements per batch
+     * @return Stream of batches of data from this Queue
+     */
+    public ReactiveSeq<Collection<T>> streamBatch(final Continueable s, final int maxBatchSize) {
+        this.sub = s;
+        return ReactiveSeq.fromStream(closingStreamBatch(() -> {
+            final List<T> batch = new ArrayList<>(
+                                                  Math.min(maxBatchSize, 64));
+            ensureOpenBatch(batch, maxBatchSize, this.timeout, this.timeUnit);
+            return batch;
+        }, s));
+    }
+
     public ReactiveSeq<T> streamControl(final Continueable s, final Function<Supplier<T>, Supplier<T>> batcher) {
 
-        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStream(batcher.apply(() -> ensureOpen(this.timeout, this.timeUnit)), s));
     }
 
     public ReactiveSeq<CompletableFuture<T>> streamControlFutures(final Continueable s, final Function<Supplier<T>, CompletableFuture<T>> batcher) {
         this.sub = s;
-        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStreamFutures(() -> batcher.apply(() -> ensureOpen(this.timeout, this.timeUnit)), s));
     }
 
@@ -273,6 +306,14 @@ public class Queue<T> implements Adapter<T> {
         return st;
     }
 
+    private Stream<T> closingStream(final Continueable sub) {
+        if (drainBatchSize > 1)
+            return StreamSupport.stream(new BatchingClosingSpliterator<T>(
+                                                                          Long.MAX_VALUE, batch -> ensureOpenBatch(batch, drainBatchSize, this.timeout, this.timeUnit), sub, this),
+                                        false);
+        return closingStream(this::get, sub);
+    }
+
     private Stream<T> closingStream(final Supplier<T> s, final Continueable sub) {
 
         final Stream<T> st = StreamSupport.stream(new ClosingSpliterator<T>(
@@ -315,8 +356,7 @@ public class Queue<T> implements Adapter<T> {
     }
 
     private T ensureOpen(final long timeout, final TimeUnit timeUnit) {
-        if (!open && queue.size() == 0)
-            throw new ClosedQueueException();
+        ensureNotClosed();
         
         final SimpleTimer timer = new SimpleTimer();
         final long timeoutNanos = timeUnit.toNanos(timeout);
@@ -324,7 +364,7 @@ public class Queue<T> implements Adapter<T> {
         try {
             if (this.continuationStrategy != null) {
 
-                while (open && (data = ensureClear(queue.poll())) == null) {
+                while (open && (data = queue.poll()) == null) {
 
                     this.continuationStrategy.handleContinuation();
 
@@ -332,33 +372,19 @@ public class Queue<T> implements Adapter<T> {
                         handleTimeout(timer, timeoutNanos);
 
                 }
-                if (data != null)
-                    return (T) nillSafe(ensureNotPoisonPill(ensureClear(data)));
-            }
-            if (!open && queue.size() == 0)
-                throw new ClosedQueueException();
-
-            if (timeout == -1) {
-                if (this.sub != null && this.sub.timeLimit() > -1) {
-                    data = ensureClear(consumerWait.take(() -> queue.poll(sub.timeLimit(), TimeUnit.NANOSECONDS)));
-                    if (data == null)
-                        throw new QueueTimeoutException();
+                if (data != null) {
+                    spaceAvailable();
+                    return (T) nillSafe(data);
                 }
-
-                else
-                    data = ensureClear(consumerWait.take(() -> queue.take()));
-            } else {
-                data = ensureClear(consumerWait.take(() -> queue.poll(timeout, timeUnit)));
-                if (data == null)
-                    throw new QueueTimeoutException();
             }
+            data = take(timeout, timeUnit);
         } catch (final InterruptedException e) {
             Thread.currentThread()
                   .interrupt();
             throw ExceptionSoftener.throwSoftenedException(e);
         }
 
-        ensureNotPoisonPill(data);
+        spaceAvailable();
         if (sizeSignal != null)
             this.sizeSignal.set(queue.size());
 
@@ -366,32 +392,168 @@ public class Queue<T> implements Adapter<T> {
 
     }
 
-    private void handleTimeout(final SimpleTimer timer, final long timeout) {
-        if (timer.getElapsedNanoseconds() > timeout) {
-
-            throw new QueueTimeoutException();
+    private void ensureNotClosed() {
+        if (!open) {
+            if (cleared)
+                queue.clear();
+            if (cleared || queue.size() == 0)
+                throw new ClosedQueueException();
         }
+    }
 
+    /**
+     * Wait for the next element using the consumer WaitStrategy. WaitStrategies give up once they observe this Queue has been closed,
+     * consumers blocked in the underlying BlockingQueue are woken by {@link Queue#close()}.
+     */
+    private T take(final long timeout, final TimeUnit timeUnit) throws InterruptedException {
+        ensureNotClosed();
+
+        T data;
+        if (timeout == -1) {
+            if (this.sub != null && this.sub.timeLimit() > -1) {
+                data = takeUntilClosed(() -> queue.poll(sub.timeLimit(), TimeUnit.NANOSECONDS));
+                if (data == null)
+                    data = closedOrTimeout();
+            }
+
+            else {
+                data = takeUntilClosed(() -> queue.take());
+                if (data == null)
+                    data = closedOrTimeout();
+            }
+        } else {
+            data = takeUntilClosed(() -> queue.poll(timeout, timeUnit));
+            if (data == null)
+                data = closedOrTimeout();
+        }
+        return data;
     }
 
-    private T ensureClear(T poll) {
-        if (CLEAR_PILL == poll) {
-            if (queue.size() > 0)
-                poll = ensureClear(queue.poll());
+    /**
+     * Take via the consumer WaitStrategy. If the underlying BlockingQueue can block the current thread, and no data is
+     * already available, the thread is registered so that close can interrupt it. Otherwise the WaitStrategy observes
+     * closure itself.
+     * 
+     * @return Data taken, or null if this Queue was closed (or the take timed out)
+     */
+    private T takeUntilClosed(final WaitStrategy.Takeable<T> takeable) throws InterruptedException {
+        if (queue instanceof QueueToBlockingQueueWrapper) //never blocks, WaitStrategies observe close directly
+            return consumerWait.take(takeable, closed);
+        final T available = queue.poll();
+        if (available != null)
+            return available;
+        final BlockedTaker taker = new BlockedTaker(
+                                                    Thread.currentThread());
+        synchronized (blockedTakers) {
+            blockedTakers.add(taker);
+        }
+        boolean interrupted = false;
+        try {
+            if (!open)
+                return null;
+            return consumerWait.take(takeable, closed);
+        } catch (final InterruptedException e) {
+            interrupted = true;
+            if (taker.woken)
+                return null;
+            throw e;
+        } finally {
+            //no interrupt can be sent by close once deregistered
+            synchronized (blockedTakers) {
+                blockedTakers.remove(taker);
+            }
+            if (taker.interruptSent) {
+                //close's interrupt is still pending unless it was consumed as an InterruptedException
+                if (!interrupted)
+                    Thread.interrupted();
+            } else if (taker.woken && interrupted) {
+                //already interrupted when close woke it, restore that interrupt
+                Thread.currentThread()
+                      .interrupt();
+            }
+        }
+    }
 
-            this.queue.clear();
+    private void wakeBlockedTakers() {
+        synchronized (blockedTakers) {
+            for (final BlockedTaker next : blockedTakers) {
+                next.woken = true;
+                //an interrupt that is already pending wakes the taker, and is left for it to restore
+                if (!next.thread.isInterrupted()) {
+                    next.interruptSent = true;
+                    next.thread.interrupt();
+                }
+            }
         }
+    }
+
+    private static final class BlockedTaker {
+        final Thread thread;
+        volatile boolean woken = false;
+        volatile boolean interruptSent = false;
 
-        return poll;
+        BlockedTaker(final Thread thread) {
+            this.thread = thread;
+        }
     }
 
-    private T ensureNotPoisonPill(final T data) {
-        if (data instanceof PoisonPill) {
+    private T closedOrTimeout() {
+        if (open)
+            throw new QueueTimeoutException();
+        //data added before the Queue was closed is still delivered
+        final T data = cleared ? null : queue.poll();
+        if (data == null)
             throw new ClosedQueueException();
-        }
         return data;
     }
 
+    /**
+     * Waits (via the consumer WaitStrategy) for at least one element, then drains up to max - 1 further
+     * elements without waiting, so that the close checks, wakeups and the size signal update are paid once per batch
+     *
+     * @param batch Collection to populate
+     * @param max Max number of elements to add to the batch
+     * @param timeout Max time to wait for the first element (-1 for no limit)
+     * @param timeUnit Unit for timeout
+     */
+    private void ensureOpenBatch(final Collection<? super T> batch, final int max, final long timeout, final TimeUnit timeUnit) {
+        if (this.continuationStrategy != null) {
+            batch.add(ensureOpen(timeout, timeUnit));
+            return;
+        }
+        try {
+            batch.add((T) nillSafe(take(timeout, timeUnit)));
+            drain(batch, max - 1);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+
+        spaceAvailable();
+        if (sizeSignal != null)
+            this.sizeSignal.set(queue.size());
+
+    }
+
+    private int drain(final Collection<? super T> collection, final int max) {
+        int drained = 0;
+        T data;
+        while (drained < max && !cleared && (data = queue.poll()) != null) {
+            collection.add((T) nillSafe(data));
+            drained++;
+        }
+        return drained;
+    }
+
+    private void handleTimeout(final SimpleTimer timer, final long timeout) {
+        if (timer.getElapsedNanoseconds() > timeout) {
+
+            throw new QueueTimeoutException();
+        }
+
+    }
+
     /**
      * Exception thrown if Queue closed
      * 
@@ -435,9 +597,6 @@ public class Queue<T> implements Adapter<T> {
         private static final long serialVersionUID = 1L;
     }
 
-    private static class PoisonPill {
-    }
-
     public T poll(final long time, final TimeUnit unit) throws QueueTimeoutException {
         return this.ensureOpen(time, unit);
     }
@@ -461,6 +620,7 @@ public class Queue<T> implements Adapter<T> {
         try {
             final boolean result = queue.add((T) nullSafe(data));
             if (result) {
+                dataAvailable();
                 if (sizeSignal != null)
                     this.sizeSignal.set(queue.size());
             }
@@ -471,6 +631,65 @@ public class Queue<T> implements Adapter<T> {
         }
     }
 
+    /**
+     * Offer all the supplied data to this Queue, in order. Each element is added directly if there is space, if the Queue is full
+     * the producer WaitStrategy is used (blocking until space comes available or the offer time out is reached) as in {@link Queue#offer(Object)}.
+     * Consumers are woken, and the size signal updated, once for the batch.
+     * 
+     * @param data data to add
+     * @return true if all the data was added, false if an offer timed out (subsequent elements are not offered)
+     */
+    @Override
+    public boolean offerAll(final Iterable<? extends T> data) {
+        if (!open)
+            throw new ClosedQueueException();
+        boolean result = true;
+        try {
+            for (final T next : data) {
+                final T value = (T) nullSafe(next);
+                if (!queue.offer(value)) {
+                    dataAvailable();
+                    if (!producerWait.offer(() -> this.queue.offer(value, this.offerTimeout, this.offerTimeUnit), closed)) {
+                        result = false;
+                        break;
+                    }
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            dataAvailable();
+            if (sizeSignal != null)
+                this.sizeSignal.set(queue.size());
+        }
+        return result;
+    }
+
+    /**
+     * Remove up to max elements that are immediately available from this Queue, adding them to the supplied Collection.
+     * Does not wait for data to arrive.
+     * 
+     * @param collection Collection to add data to
+     * @param max Max number of elements to remove
+     * @return Number of elements added to the collection
+     */
+    @Override
+    public int drainTo(final Collection<? super T> collection, final int max) {
+        if (cleared) {
+            queue.clear();
+            return 0;
+        }
+        final int drained = drain(collection, max);
+        if (drained > 0) {
+            spaceAvailable();
+            if (sizeSignal != null)
+                this.sizeSignal.set(queue.size());
+        }
+        return drained;
+    }
+
     /**
      * Offer a single datapoint to this Queue
      * 
@@ -487,7 +706,9 @@ public class Queue<T> implements Adapter<T> {
         if (!open)
             throw new ClosedQueueException();
         try {
-            final boolean result = producerWait.offer(() -> this.queue.offer((T) nullSafe(data), this.offerTimeout, this.offerTimeUnit));
+            final boolean result = producerWait.offer(() -> this.queue.offer((T) nullSafe(data), this.offerTimeout, this.offerTimeUnit), closed);
+            if (result)
+                dataAvailable();
 
             if (sizeSignal != null)
                 this.sizeSignal.set(queue.size());
@@ -525,49 +746,40 @@ public class Queue<T> implements Adapter<T> {
    
     /**
      * Close this Queue
-     * Poison Pills are used to communicate closure to connected Streams
-     * A Poison Pill is added per connected Stream to the Queue
-     * If a BlockingQueue is backing this async.Queue it will block until
-     * able to add to the Queue.
+     * Connected Streams observe the closed flag via their WaitStrategy (Streams blocked waiting for data are woken), and complete once any remaining data has been taken.
+     * Closing never adds to (or blocks on) the underlying Queue, regardless of how many Streams are connected.
      * 
      * @return true if closed
      */
     @Override
     public boolean close() {
         this.open = false;
-        
-        for (int i = 0; i < listeningStreams.get(); i++) {
-           try{
-              this.queue.offer((T) POISON_PILL);
-           }catch(Exception e){
-                    
-           }
-            
-        }
-        
+        dataAvailable();
+        spaceAvailable();
+        wakeBlockedTakers();
+
         return true;
     }
 
     /**
      * 
-     * @param pillsToSend Number of poison pills to send to connected Streams
+     * @param pillsToSend No longer used, connected Streams observe closure directly
+     * @deprecated closing the Queue disconnects all Streams, {@see Queue#close()}
      */
+    @Deprecated
     public void disconnectStreams(int pillsToSend){
-        for (int i = 0; i < pillsToSend; i++) {
-            try{
-               this.queue.offer((T) POISON_PILL);
-            }catch(Exception e){
-                     
-            }
-             
-         }
     }
     
+    /**
+     * Close this Queue, discarding any data not yet taken by connected Streams
+     */
     public void closeAndClear() {
 
+        this.cleared = true;
         this.open = false;
-
-        add((T) CLEAR_PILL);
+        dataAvailable();
+        spaceAvailable();
+        wakeBlockedTakers();
 
     }
 
@@ -638,8 +850,10 @@ public class Queue<T> implements Adapter<T> {
         public Collection<T> drainToOrBlock() {
 
             final Collection<T> result = new ArrayList<>();
-            if (size() > 0)
+            if (size() > 0) {
                 queue.queue.drainTo(result);
+                queue.spaceAvailable();
+            }
             else {
                 try {
 
@@ -653,7 +867,6 @@ public class Queue<T> implements Adapter<T> {
             }
 
             return result.stream()
-                         .filter(it -> it != POISON_PILL)
                          .collect(Collectors.toList());
         }
     }
@@ -662,6 +875,68 @@ public class Queue<T> implements Adapter<T> {
         return queue.size();
     }
 
+    /**
+     * @return Number of elements that can be added to this Queue without waiting (Integer.MAX_VALUE if unbounded)
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Register a callback to be run on the producing thread whenever data is added to this Queue, and when it is closed
+     */
+    void addDataListener(final Runnable listener) {
+        addListener(dataListeners, listener);
+    }
+
+    void removeDataListener(final Runnable listener) {
+        removeListener(dataListeners, listener);
+    }
+
+    /**
+     * Register a callback to be run on the consuming thread whenever data is taken from this Queue, and when it is closed
+     */
+    void addSpaceListener(final Runnable listener) {
+        addListener(spaceListeners, listener);
+    }
+
+    void removeSpaceListener(final Runnable listener) {
+        removeListener(spaceListeners, listener);
+    }
+
+    private static void addListener(final AtomicReference<Runnable[]> listeners, final Runnable listener) {
+        Runnable[] current;
+        Runnable[] next;
+        do {
+            current = listeners.get();
+            next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = listener;
+        } while (!listeners.compareAndSet(current, next));
+    }
+
+    private static void removeListener(final AtomicReference<Runnable[]> listeners, final Runnable listener) {
+        Runnable[] current;
+        Runnable[] next;
+        do {
+            current = listeners.get();
+            next = Arrays.stream(current)
+                         .filter(r -> r != listener)
+                         .toArray(Runnable[]::new);
+        } while (!listeners.compareAndSet(current, next));
+    }
+
+    private void dataAvailable() {
+        consumerWait.wakeup();
+        for (final Runnable next : dataListeners.get())
+            next.run();
+    }
+
+    private void spaceAvailable() {
+        producerWait.wakeup();
+        for (final Runnable next : spaceListeners.get())
+            next.run();
+    }
+
     public boolean isOpen() {
         return this.open;
     }
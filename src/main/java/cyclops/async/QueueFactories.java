@@ -161,6 +161,83 @@ public class QueueFactories {
                                   strategy, strategy);
     }
 
+    /**
+     * Creates an async.Queue backed by a pre-allocated Agrona ManyToOneConcurrentArrayQueue ring buffer (capacity is rounded up to the next power of two).
+     * Streams connected to the generated Queue drain up to drainBatchSize elements at a time into a local buffer, so closure checks
+     * and size signal updates are paid once per batch rather than once per element.
+     * Wait strategy used is NoWaitRetry by default for both Consumers and Producers.
+     * 
+     * <pre>
+     * {@code
+     *    Queue<String> queue = QueueFactories.<String>ringBufferQueue(1024,128)
+     *                                        .build();
+     * }</pre>
+     * 
+     * @param queueSize upper bound for Queue
+     * @param drainBatchSize Max number of elements to drain from the Queue per call
+     * @return bounded wait free Queue Factory backed by an Agrona ManyToOneConcurrentArrayQueue, that drains elements in batches
+     */
+    public static <T> QueueFactory<T> ringBufferQueue(final int queueSize, final int drainBatchSize) {
+        return ringBufferQueue(queueSize, drainBatchSize, new NoWaitRetry<>());
+    }
+
+    /**
+     * Creates an async.Queue backed by a pre-allocated Agrona ManyToOneConcurrentArrayQueue ring buffer (capacity is rounded up to the next power of two).
+     * Streams connected to the generated Queue drain up to drainBatchSize elements at a time into a local buffer.
+     * The provided WaitStrategy is used to determine behaviour of both producers and consumers when the Queue is full (producer) 
+     * or empty (consumer).
+     * 
+     * @param queueSize upper bound for Queue
+     * @param drainBatchSize Max number of elements to drain from the Queue per call
+     * @param strategy Strategy to be employed by producers when Queue is full, or consumers when Queue is empty
+     * @return bounded wait free Queue Factory backed by an Agrona ManyToOneConcurrentArrayQueue, that drains elements in batches
+     */
+    public static <T> QueueFactory<T> ringBufferQueue(final int queueSize, final int drainBatchSize, final WaitStrategy<T> strategy) {
+        return () -> new Queue<T>(
+                                  new ManyToOneConcurrentArrayQueue<>(
+                                                                      queueSize),
+                                  strategy, strategy).withDrainBatchSize(drainBatchSize);
+    }
+
+    /**
+     * Creates an async.Queue backed by a set of lanes (Agrona ManyToManyConcurrentArrayQueues), where each producer thread
+     * offers to its own lane and consumers take from the lanes round robin. Producers on different lanes do not contend with
+     * each other, so offer throughput scales with the number of producing threads (e.g. LazyReact workers feeding a single Queue).
+     * Elements offered by a single producer thread are taken in order, there is no ordering across producers.
+     * Wait strategy used is NoWaitRetry by default for both Consumers and Producers.
+     * 
+     * <pre>
+     * {@code
+     *    Queue<String> queue = QueueFactories.<String>shardedQueue(Runtime.getRuntime().availableProcessors(),1024)
+     *                                        .build();
+     * }</pre>
+     * 
+     * @param lanes Number of lanes (ideally at least the number of producer threads)
+     * @param laneSize upper bound for each lane
+     * @return Factory for bounded wait free Queues with a lane per producer thread
+     */
+    public static <T> QueueFactory<T> shardedQueue(final int lanes, final int laneSize) {
+        return shardedQueue(lanes, laneSize, new NoWaitRetry<>());
+    }
+
+    /**
+     * Creates an async.Queue backed by a set of lanes, where each producer thread offers to its own lane and consumers
+     * take from the lanes round robin (preserving per-producer order).
+     * The provided WaitStrategy is used to determine behaviour of both producers and consumers when a lane is full (producer) 
+     * or all lanes are empty (consumer).
+     * 
+     * @param lanes Number of lanes (ideally at least the number of producer threads)
+     * @param laneSize upper bound for each lane
+     * @param strategy Strategy to be employed by producers when their lane is full, or consumers when the Queue is empty
+     * @return Factory for bounded wait free Queues with a lane per producer thread
+     */
+    public static <T> QueueFactory<T> shardedQueue(final int lanes, final int laneSize, final WaitStrategy<T> strategy) {
+        return () -> new Queue<T>(
+                                  new ShardedQueue<>(
+                                                     lanes, laneSize),
+                                  strategy, strategy);
+    }
+
     /**
      * Creates an async.Queue backed by an Agrona OneToOneConcurrentArrayQueue bounded by specified queueSize
      *  Wait strategy used is NoWaitRetry by default for both Consumers and Producers 
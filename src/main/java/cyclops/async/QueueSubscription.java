@@ -0,0 +1,123 @@
+package cyclops.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * A reactive-streams Subscription that delivers data from an async.Queue to a Subscriber without blocking a thread while
+ * the Queue is empty {@see Pipes#subscribeTo(Object, Subscriber, int, Executor)}
+ *
+ * Data is drained from the Queue in batches of up to batchSize elements (bounded by the Subscriber's outstanding demand),
+ * on the supplied Executor. When the Queue is empty the Subscription waits to be notified by producers adding data, rather
+ * than polling. onComplete is signalled once the Queue has been closed and drained.
+ *
+ * @param <T> Data type of elements
+ */
+class QueueSubscription<T> implements Subscription {
+
+    private final Queue<T> queue;
+    private final Subscriber<? super T> subscriber;
+    private final int batchSize;
+    private final Executor executor;
+    private final Runnable onFinish;
+    private final AtomicLong requested = new AtomicLong(
+                                                        0);
+    private final AtomicInteger wip = new AtomicInteger(
+                                                        0);
+    private final Runnable onData = this::onData;
+    private volatile boolean cancelled = false;
+
+    QueueSubscription(final Queue<T> queue, final Subscriber<? super T> subscriber, final int batchSize, final Executor executor,
+            final Runnable onFinish) {
+        this.queue = queue;
+        this.subscriber = subscriber;
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = executor;
+        this.onFinish = onFinish;
+    }
+
+    void start() {
+        queue.addDataListener(onData);
+        subscriber.onSubscribe(this);
+        //the Queue may already be closed and empty
+        schedule();
+    }
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0) {
+            cancel();
+            subscriber.onError(new IllegalArgumentException(
+                                                            "3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+            return;
+        }
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            if (current == Long.MAX_VALUE)
+                return;
+            next = current + n;
+            if (next < 0)
+                next = Long.MAX_VALUE;
+        } while (!requested.compareAndSet(current, next));
+        schedule();
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled)
+            return;
+        cancelled = true;
+        queue.removeDataListener(onData);
+        onFinish.run();
+    }
+
+    private void onData() {
+        if (requested.get() > 0 || !queue.isOpen())
+            schedule();
+    }
+
+    private void schedule() {
+        if (wip.getAndIncrement() == 0)
+            executor.execute(this::drain);
+    }
+
+    private void drain() {
+        int missed = 1;
+        final List<T> batch = new ArrayList<>(
+                                              Math.min(batchSize, 256));
+        for (;;) {
+            final long r = requested.get();
+            long emitted = 0;
+            while (emitted != r && !cancelled) {
+                batch.clear();
+                final int n = queue.drainTo(batch, (int) Math.min(batchSize, r - emitted));
+                if (n == 0)
+                    break;
+                for (final T next : batch)
+                    subscriber.onNext(next);
+                emitted += n;
+            }
+            if (cancelled)
+                return;
+            if (!queue.isOpen() && queue.size() == 0) {
+                cancel();
+                subscriber.onComplete();
+                return;
+            }
+            if (emitted != 0 && r != Long.MAX_VALUE)
+                requested.addAndGet(-emitted);
+            missed = wip.addAndGet(-missed);
+            if (missed == 0)
+                break;
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package cyclops.async;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
+/**
+ * A bounded, non-blocking java.util.Queue split into independent lanes, that backs a sharded async.Queue {@see QueueFactories#shardedQueue(int, int)}
+ *
+ * Each producer thread always offers to the same lane (selected by thread id), so producers on different lanes never contend
+ * on a shared tail and the elements from any single producer are taken in the order they were offered.
+ * Consumers take from the lanes round robin. There is no ordering between elements offered by different producers.
+ *
+ * @param <T> Data type of elements in the Queue
+ */
+class ShardedQueue<T> extends AbstractQueue<T> {
+
+    private final ManyToManyConcurrentArrayQueue<T>[] lanes;
+    private volatile int nextLane = 0;
+
+    ShardedQueue(final int laneCount, final int laneSize) {
+        this.lanes = new ManyToManyConcurrentArrayQueue[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++)
+            lanes[i] = new ManyToManyConcurrentArrayQueue<>(
+                                                            Math.max(2, laneSize));
+    }
+
+    int laneCount() {
+        return lanes.length;
+    }
+
+    private ManyToManyConcurrentArrayQueue<T> lane() {
+        return lanes[(int) (Thread.currentThread()
+                                  .getId()
+                % lanes.length)];
+    }
+
+    @Override
+    public boolean offer(final T e) {
+        return lane().offer(e);
+    }
+
+    @Override
+    public T poll() {
+        final int start = nextLane;
+        for (int i = 0; i < lanes.length; i++) {
+            final int index = (start + i) % lanes.length;
+            final T next = lanes[index].poll();
+            if (next != null) {
+                nextLane = index + 1 == lanes.length ? 0 : index + 1;
+                return next;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T peek() {
+        final int start = nextLane;
+        for (int i = 0; i < lanes.length; i++) {
+            final T next = lanes[(start + i) % lanes.length].peek();
+            if (next != null)
+                return next;
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (final ManyToManyConcurrentArrayQueue<T> lane : lanes)
+            size += lane.size();
+        return size;
+    }
+
+    /**
+     * @return Free space across all lanes
+     */
+    int remainingCapacity() {
+        int remaining = 0;
+        for (final ManyToManyConcurrentArrayQueue<T> lane : lanes)
+            remaining += lane.remainingCapacity();
+        return remaining;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (final ManyToManyConcurrentArrayQueue<T> lane : lanes) {
+            if (!lane.isEmpty())
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -1,10 +1,21 @@
 package cyclops.async;
 
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import cyclops.async.wait.SpinWait;
+import cyclops.async.wait.WaitStrategy;
+
 import lombok.Getter;
 
 /**
@@ -20,6 +31,8 @@ import lombok.Getter;
  */
 public class Signal<T> {
 
+    private static final AtomicLongFieldUpdater<Signal> VERSION = AtomicLongFieldUpdater.newUpdater(Signal.class, "version");
+
     private final AtomicReference<T> discreteState = new AtomicReference<>(
                                                                            null);
 
@@ -28,6 +41,11 @@ public class Signal<T> {
     @Getter
     private final Adapter<T> discrete;
 
+    private final boolean conflated;
+    private volatile long version = 0;
+    //published by the increment of version
+    private T latest;
+
     /**
      * 
      * Construct a new Signal
@@ -39,6 +57,51 @@ public class Signal<T> {
 
         this.continuous = continuous;
         this.discrete = discrete;
+        this.conflated = false;
+    }
+
+    private Signal(final WaitStrategy<T> readerWait) {
+        this.continuous = new Queue<T>(
+                                       new ConflatingView<>(
+                                                            this, false),
+                                       readerWait, readerWait);
+        this.discrete = new Queue<T>(
+                                     new ConflatingView<>(
+                                                          this, true),
+                                     readerWait, readerWait);
+        this.conflated = true;
+    }
+
+    /**
+     * A conflating Signal only stores the latest value (and a version counter), setting it costs a single atomic update
+     * regardless of how many readers there are or how far behind they are. Readers can access the current value directly
+     * via {@link Signal#get()} and {@link Signal#version()}, Streams from the continuous and discrete adapters skip any
+     * intermediate values set while they were busy. Discrete changes are detected on the reading side.
+     * 
+     * <pre>
+     * {@code 
+     *   Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(1000).build();
+     *   queue.setSizeSignal(Signal.conflatedSignal());
+     *   
+     *   queue.getSizeSignal().get(); //latest size
+     * }
+     * </pre>
+     * 
+     * @return Signal that conflates updates
+     */
+    public static <T> Signal<T> conflatedSignal() {
+        return conflatedSignal(new SpinWait<>());
+    }
+
+    /**
+     * A conflating Signal {@see Signal#conflatedSignal()}
+     * 
+     * @param readerWait WaitStrategy used by Streams from the continuous and discrete adapters while there is no new value
+     * @return Signal that conflates updates
+     */
+    public static <T> Signal<T> conflatedSignal(final WaitStrategy<T> readerWait) {
+        return new Signal<T>(
+                             readerWait);
     }
 
     /**
@@ -74,12 +137,67 @@ public class Signal<T> {
      * @return newValue
      */
     public T set(final T newValue) {
+        latest = newValue;
+        VERSION.incrementAndGet(this);
+        if (conflated)
+            return newValue;
         continuous.offer(newValue);
 
         setDiscreteIfDiff(newValue);
         return newValue;
     }
 
+    /**
+     * Set this Signal to each of the supplied values in turn. The continuous and discrete adapters each receive their
+     * share of the values as a single batch.
+     * 
+     * @param values Values to set
+     */
+    public void offerAll(final Iterable<? extends T> values) {
+        final List<T> all = new ArrayList<>();
+        final List<T> changes = new ArrayList<>();
+        for (final T next : values) {
+            all.add(next);
+            if (!conflated && !Objects.equals(discreteState.getAndSet(next), next))
+                changes.add(next);
+        }
+        if (all.isEmpty())
+            return;
+        latest = all.get(all.size() - 1);
+        VERSION.addAndGet(this, all.size());
+        if (conflated)
+            return;
+        continuous.offerAll(all);
+        discrete.offerAll(changes);
+    }
+
+    /**
+     * Remove up to max values that are immediately available from the continuous flow of this Signal
+     * 
+     * @param collection Collection to add values to
+     * @param max Max number of values to remove
+     * @return Number of values added to the collection
+     */
+    public int drainTo(final Collection<? super T> collection, final int max) {
+        return continuous.drainTo(collection, max);
+    }
+
+    /**
+     * @return The most recently set value
+     */
+    public T get() {
+        if (version == 0)
+            return null;
+        return latest;
+    }
+
+    /**
+     * @return The number of times this Signal has been set
+     */
+    public long version() {
+        return version;
+    }
+
     private void setDiscreteIfDiff(final T newValue) {
         T oldVal = discreteState.get();
         while (!discreteState.compareAndSet(oldVal, newValue)) {
@@ -101,4 +219,66 @@ public class Signal<T> {
         discrete.close();
     }
 
+    /**
+     * A single reader's view of a conflated Signal, exposed as a java.util.Queue so it can back an async.Queue.
+     * Polling returns the latest value if the Signal has been set since the last poll (and, for discrete views, if it has changed).
+     * Elements offered directly via the async.Queue are returned once there is no new value.
+     *
+     * @param <T> Data type of signal
+     */
+    static class ConflatingView<T> extends AbstractQueue<T> {
+        private static final Object UNSET = new Object();
+
+        private final Signal<T> signal;
+        private final boolean discrete;
+        private final java.util.Queue<T> local = new ConcurrentLinkedQueue<>();
+        private final AtomicLong seen = new AtomicLong(
+                                                       0);
+        private volatile Object last = UNSET;
+
+        ConflatingView(final Signal<T> signal, final boolean discrete) {
+            this.signal = signal;
+            this.discrete = discrete;
+        }
+
+        @Override
+        public T poll() {
+            for (;;) {
+                final long current = signal.version;
+                final long read = seen.get();
+                if (current == read)
+                    return local.poll();
+                final T value = signal.latest;
+                if (!seen.compareAndSet(read, current))
+                    continue;
+                if (discrete && Objects.equals(last, value))
+                    continue;
+                last = value;
+                return value == null ? (T) Queue.NILL : value;
+            }
+        }
+
+        @Override
+        public T peek() {
+            if (signal.version != seen.get())
+                return signal.latest;
+            return local.peek();
+        }
+
+        @Override
+        public boolean offer(final T e) {
+            return local.offer(e);
+        }
+
+        @Override
+        public int size() {
+            return (signal.version != seen.get() ? 1 : 0) + local.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
 }
@@ -362,6 +362,22 @@ public class SimpleReact implements ReactBuilder {
                           .build();
     }
 
+    /**
+     * @return new eager SimpleReact builder that executes tasks on virtual threads, suitable for blocking tasks.
+     * All tasks are started eagerly, so concurrency is bounded only by the size of the input.
+     * On JVMs without virtual thread support (e.g. Java 8) an elastic pool of platform threads is used instead.
+     * 
+     * @see ThreadPools#getVirtualThreadExecutor()
+     */
+    public static SimpleReact virtualThreads() {
+        return SimpleReact.builder()
+                          .executor(ThreadPools.getVirtualThreadExecutor())
+                          .async(true)
+                          .retrier(RetryBuilder.getDefaultInstance()
+                                               .withScheduler(ThreadPools.getCommonFreeThreadRetry()))
+                          .build();
+    }
+
     public SimpleReactStream<Integer> range(final int startInclusive, final int endExclusive) {
         return from(IntStream.range(startInclusive, endExclusive));
     }
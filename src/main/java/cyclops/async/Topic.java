@@ -1,23 +1,25 @@
 package cyclops.async;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.pcollections.HashTreePMap;
-import org.pcollections.PMap;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
-
+import cyclops.async.wait.NoWaitRetry;
+import cyclops.async.wait.WaitStrategy;
 import cyclops.stream.ReactiveSeq;
 import com.aol.cyclops2.react.async.subscription.Continueable;
 
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Synchronized;
 
 /**
  * A class that can accept input streams and generate output streams where data sent in the Topic is guaranteed to be
@@ -30,19 +32,17 @@ import lombok.Synchronized;
 public class Topic<T> implements Adapter<T> {
 
     @Getter(AccessLevel.PACKAGE)
-    private final DistributingCollection<T> distributor = new DistributingCollection<T>();
+    private final DistributingCollection<T> distributor;
     @Getter(AccessLevel.PACKAGE)
-    private volatile PMap<ReactiveSeq<?>, Queue<T>> streamToQueue = HashTreePMap.empty();
-    private final Object lock = new Object();
-    private volatile int index = 0;
+    private final Map<ReactiveSeq<?>, Queue<T>> streamToQueue = new ConcurrentHashMap<>();
+    private final AtomicReference<Queue<T>> unclaimed = new AtomicReference<>();
+    private final BroadcastRing<T> ring;
 
     /**
      * Construct a new Topic
      */
     public Topic() {
-        final Queue<T> q = new Queue<T>();
-
-        distributor.addQueue(q);
+        this(new Queue<T>());
     }
 
     /**
@@ -50,8 +50,77 @@ public class Topic<T> implements Adapter<T> {
      * @param q Queue to back this Topic with
      */
     public Topic(final Queue<T> q) {
+        this.ring = null;
+        this.distributor = new DistributingCollection<T>(
+                                                         null);
+        distributor.addQueue(q);
+        unclaimed.set(q);
+    }
 
+    private Topic(final BroadcastRing<T> ring) {
+        this.ring = ring;
+        this.distributor = new DistributingCollection<T>(
+                                                         ring);
+        final Queue<T> q = ring.subscribe(null);
         distributor.addQueue(q);
+        unclaimed.set(q);
+    }
+
+    /**
+     * Construct a Topic backed by a single, shared ring buffer. Each element is written to the ring once and every subscribing
+     * Stream reads it via its own cursor, so publishing costs the same regardless of the number of subscribers and a slow
+     * subscriber does not hold up the others (unless its OverflowPolicy is BLOCK).
+     * 
+     * <pre>
+     * {@code 
+     *   Topic<Integer> topic = Topic.ringBufferTopic(1024,OverflowPolicy.DROP_OLDEST);
+     *   ReactiveSeq<Integer> fast = topic.stream();
+     *   ReactiveSeq<Integer> slow = topic.stream(OverflowPolicy.DROP_NEWEST);
+     * }
+     * </pre>
+     * 
+     * @param capacity Size of the ring (rounded up to the next power of two)
+     * @param defaultPolicy OverflowPolicy for subscribers that fall a full ring behind
+     * @return Topic backed by a ring buffer
+     */
+    public static <T> Topic<T> ringBufferTopic(final int capacity, final OverflowPolicy defaultPolicy) {
+        return ringBufferTopic(capacity, defaultPolicy, new NoWaitRetry<>());
+    }
+
+    /**
+     * Construct a Topic backed by a single, shared ring buffer {@see Topic#ringBufferTopic(int, OverflowPolicy)}
+     * 
+     * @param capacity Size of the ring (rounded up to the next power of two)
+     * @param defaultPolicy OverflowPolicy for subscribers that fall a full ring behind
+     * @param strategy Strategy to be employed by subscribers when no data is available, or by producers waiting on BLOCK subscribers
+     * @return Topic backed by a ring buffer
+     */
+    public static <T> Topic<T> ringBufferTopic(final int capacity, final OverflowPolicy defaultPolicy, final WaitStrategy<T> strategy) {
+        return new Topic<T>(
+                            new BroadcastRing<T>(
+                                                 capacity, defaultPolicy, strategy));
+    }
+
+    /**
+     * Behaviour of a ring buffer Topic subscriber that falls a full ring behind the producers
+     */
+    public static enum OverflowPolicy {
+        /**
+         * Skip forward to the oldest element still available
+         */
+        DROP_OLDEST,
+        /**
+         * Keep the unread elements, and drop elements published until the subscriber has caught up
+         */
+        DROP_NEWEST,
+        /**
+         * Producers wait until the subscriber has consumed enough data
+         */
+        BLOCK,
+        /**
+         * Close the subscriber
+         */
+        DISCONNECT
     }
 
     /**
@@ -61,24 +130,82 @@ public class Topic<T> implements Adapter<T> {
      * 
      * @param stream
      */
-    @Synchronized("lock")
     public void disconnect(final Stream<T> stream) {
+        final Queue<T> queue = streamToQueue.remove(stream);
+        if (queue == null)
+            return;
+        disconnect(queue);
+    }
 
-        distributor.removeQueue(streamToQueue.get(stream));
+    /**
+     * @return A new subscriber Queue, for subscribers that are not Streams
+     */
+    Queue<T> subscriberQueue() {
+        return getNextQueue(null);
+    }
 
-        this.streamToQueue = streamToQueue.minus(stream);
-        this.index--;
+    void disconnect(final Queue<T> queue) {
+        distributor.removeQueue(queue);
+        if (ring != null)
+            ring.unsubscribe(queue);
     }
 
-    @Synchronized("lock")
     private <R> ReactiveSeq<R> connect(final Function<Queue<T>, ReactiveSeq<R>> streamCreator) {
-        final Queue<T> queue = this.getNextQueue();
+        return connect(null, streamCreator);
+    }
+
+    private <R> ReactiveSeq<R> connect(final OverflowPolicy policy, final Function<Queue<T>, ReactiveSeq<R>> streamCreator) {
+        final Queue<T> queue = this.getNextQueue(policy);
         final ReactiveSeq<R> stream = streamCreator.apply(queue);
 
-        this.streamToQueue = streamToQueue.plus(stream, queue);
+        streamToQueue.put(stream, queue);
         return stream;
     }
 
+    /**
+     * @return Number of subscriber Queues currently attached to this Topic (including any Queue that is buffering data for the next Stream to connect)
+     */
+    public int subscriberCount() {
+        return distributor.subscriberArray().length;
+    }
+
+    /**
+     * The number of elements published to this Topic that the supplied (connected) Stream has yet to consume.
+     * 
+     * @param stream Stream connected to this Topic
+     * @return Number of pending elements, or 0 if the Stream is not connected
+     */
+    public long lag(final Stream<T> stream) {
+        final Queue<T> queue = streamToQueue.get(stream);
+        if (queue == null)
+            return 0;
+        return ring == null ? queue.size() : ring.lag(queue);
+    }
+
+    /**
+     * The number of elements the supplied (connected) Stream has missed because it fell a full ring behind.
+     * Only ring buffer backed Topics {@see Topic#ringBufferTopic(int, OverflowPolicy)} drop data, for other Topics this is always 0.
+     * 
+     * @param stream Stream connected to this Topic
+     * @return Number of dropped elements
+     */
+    public long dropped(final Stream<T> stream) {
+        final Queue<T> queue = streamToQueue.get(stream);
+        if (queue == null || ring == null)
+            return 0;
+        return ring.dropped(queue);
+    }
+
+    /**
+     * @return Number of elements the furthest behind subscriber has yet to read
+     */
+    long depth() {
+        long depth = 0;
+        for (final Queue<T> next : distributor.subscriberArray())
+            depth = Math.max(depth, ring == null ? next.size() : ring.lag(next));
+        return depth;
+    }
+
     /**
      * @param stream Input data from provided Stream
      */
@@ -119,16 +246,30 @@ public class Topic<T> implements Adapter<T> {
 
     }
 
-    private Queue<T> getNextQueue() {
+    /**
+     * Generating a stream will register the Stream as a subscriber to this topic.
+     * For ring buffer backed Topics {@see Topic#ringBufferTopic(int, OverflowPolicy)} the supplied OverflowPolicy
+     * determines how this subscriber is handled if it falls a full ring behind, other Topics ignore it.
+     * 
+     * @param policy OverflowPolicy for this subscriber
+     * @return Stream of data
+     */
+    public ReactiveSeq<T> stream(final OverflowPolicy policy) {
 
-        if (index >= this.distributor.getSubscribers()
-                                     .size()) {
+        return connect(policy, q -> q.stream());
 
-            this.distributor.addQueue(new Queue());
+    }
 
+    private Queue<T> getNextQueue(final OverflowPolicy policy) {
+        final Queue<T> queue = unclaimed.getAndSet(null);
+        if (queue != null) {
+            if (ring != null && policy != null)
+                ring.policy(queue, policy);
+            return queue;
         }
-        return this.distributor.getSubscribers()
-                               .get(index++);
+        final Queue<T> next = ring == null ? new Queue<>() : ring.subscribe(policy);
+        this.distributor.addQueue(next);
+        return next;
     }
 
     /**
@@ -138,8 +279,8 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean close() {
-        this.distributor.getSubscribers()
-                        .forEach(it -> it.close());
+        for (final Queue<T> next : distributor.subscriberArray())
+            next.close();
         return true;
 
     }
@@ -167,39 +308,153 @@ public class Topic<T> implements Adapter<T> {
      */
     @Override
     public boolean offer(final T data) {
-        fromStream(Stream.of(data));
+        distributor.add(data);
         return true;
 
     }
 
+    /**
+     * Add all the supplied data to this Topic, each subscriber receives the batch in a single operation
+     * 
+     * @param data data to add
+     * @return true
+     */
+    @Override
+    public boolean offerAll(final Iterable<? extends T> data) {
+        distributor.publishAll(data);
+        return true;
+    }
+
+    /**
+     * Remove up to max elements that are immediately available from the data this Topic is holding for the next Stream to connect
+     * (data published before any Stream connected). No subscriber is registered, once a Stream has connected this returns 0,
+     * use {@link Topic#drainTo(Stream, Collection, int)} to drain on behalf of a connected Stream.
+     * 
+     * @param collection Collection to add data to
+     * @param max Max number of elements to remove
+     * @return Number of elements added to the collection
+     */
+    @Override
+    public int drainTo(final Collection<? super T> collection, final int max) {
+        final Queue<T> queue = unclaimed.get();
+        if (queue == null)
+            return 0;
+        return queue.drainTo(collection, max);
+    }
+
+    /**
+     * Remove up to max elements that are immediately available from the mailbox of the supplied (connected) Stream
+     * 
+     * <pre>
+     * {@code 
+     *   ReactiveSeq<Integer> subscription = topic.stream();
+     *   List<Integer> batch = new ArrayList<>();
+     *   topic.drainTo(subscription,batch,100);
+     * }
+     * </pre>
+     * 
+     * @param stream Stream connected to this Topic
+     * @param collection Collection to add data to
+     * @param max Max number of elements to remove
+     * @return Number of elements added to the collection, 0 if the Stream is not connected
+     */
+    public int drainTo(final Stream<T> stream, final Collection<? super T> collection, final int max) {
+        final Queue<T> queue = streamToQueue.get(stream);
+        if (queue == null)
+            return 0;
+        return queue.drainTo(collection, max);
+    }
+
     static class DistributingCollection<T> extends ArrayList<T> {
 
         private static final long serialVersionUID = 1L;
-        @Getter
-        private volatile PVector<Queue<T>> subscribers = TreePVector.empty();
+        private static final Queue[] EMPTY = new Queue[0];
 
-        private final Object lock = new Object();
+        //copy on write, so publishers can iterate a stable snapshot without locking or allocating
+        private final AtomicReference<Queue<T>[]> subscribers = new AtomicReference<>(
+                                                                                      EMPTY);
+        private final BroadcastRing<T> ring;
+
+        DistributingCollection(final BroadcastRing<T> ring) {
+            this.ring = ring;
+        }
+
+        /**
+         * @return Snapshot of the current subscribers
+         */
+        public List<Queue<T>> getSubscribers() {
+            return Collections.unmodifiableList(Arrays.asList(subscribers.get()));
+        }
+
+        Queue<T>[] subscriberArray() {
+            return subscribers.get();
+        }
 
-        @Synchronized("lock")
         public void addQueue(final Queue<T> q) {
-            subscribers = subscribers.plus(q);
+            Queue<T>[] current;
+            Queue<T>[] next;
+            do {
+                current = subscribers.get();
+                next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = q;
+            } while (!subscribers.compareAndSet(current, next));
         }
 
-        @Synchronized("lock")
         public void removeQueue(final Queue<T> q) {
-            subscribers = subscribers.minus(q);
+            Queue<T>[] current;
+            Queue<T>[] next;
+            do {
+                current = subscribers.get();
+                final int index = indexOf(current, q);
+                if (index == -1)
+                    return;
+                next = new Queue[current.length - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            } while (!subscribers.compareAndSet(current, next));
+
+        }
 
+        private int indexOf(final Queue<T>[] queues, final Queue<T> q) {
+            for (int i = 0; i < queues.length; i++) {
+                if (queues[i] == q)
+                    return i;
+            }
+            return -1;
         }
 
         @Override
         public boolean add(final T e) {
-            subscribers.forEach(it -> it.offer(e));
+            if (ring != null) {
+                ring.publish(e);
+                return true;
+            }
+            for (final Queue<T> next : subscribers.get())
+                next.offer(e);
             return true;
         }
 
+        private List<T> copy(final Iterable<? extends T> c) {
+            final List<T> list = new ArrayList<>();
+            for (final T next : c)
+                list.add(next);
+            return list;
+        }
+
         @Override
         public boolean addAll(final Collection<? extends T> c) {
-            subscribers.forEach(it -> c.forEach(next -> it.offer(next)));
+            return publishAll(c);
+        }
+
+        public boolean publishAll(final Iterable<? extends T> c) {
+            if (ring != null) {
+                ring.publishAll(c);
+                return true;
+            }
+            //each subscriber iterates the batch, so a one-shot Iterable is copied once up front
+            final Iterable<? extends T> batch = c instanceof Collection ? c : copy(c);
+            for (final Queue<T> next : subscribers.get())
+                next.offerAll(batch);
             return true;
         }
 
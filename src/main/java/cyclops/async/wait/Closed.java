@@ -0,0 +1,11 @@
+package cyclops.async.wait;
+
+/**
+ * Marker returned from a Takeable to end a wait when the data source has been closed
+ */
+final class Closed {
+    static final Object SIGNAL = new Object();
+
+    private Closed() {
+    }
+}
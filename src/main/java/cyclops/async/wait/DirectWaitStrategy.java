@@ -1,5 +1,7 @@
 package cyclops.async.wait;
 
+import java.util.function.BooleanSupplier;
+
 /**
  * Will try to access the queue once, and return the result directly from the Queue
  * 
@@ -27,4 +29,20 @@ public class DirectWaitStrategy<T> implements WaitStrategy<T> {
         return o.offer();
     }
 
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t, final BooleanSupplier closed) throws InterruptedException {
+        return t.take();
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o, final BooleanSupplier closed) throws InterruptedException {
+        return o.offer();
+    }
+
 }
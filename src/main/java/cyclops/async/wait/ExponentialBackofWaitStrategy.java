@@ -1,6 +1,7 @@
 package cyclops.async.wait;
 
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 import lombok.AllArgsConstructor;
 
@@ -54,4 +55,37 @@ public class ExponentialBackofWaitStrategy<T> implements WaitStrategy<T> {
         return true;
     }
 
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t, final BooleanSupplier closed) throws InterruptedException {
+        double currentBackoff = backoffNanos;
+        T result;
+
+        while ((result = t.take()) == null) {
+            if (closed.getAsBoolean())
+                return null;
+            LockSupport.parkNanos((long) currentBackoff);
+            currentBackoff = currentBackoff * coefficient;
+        }
+
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o, final BooleanSupplier closed) throws InterruptedException {
+        double currentBackoff = backoffNanos;
+        while (!o.offer()) {
+            if (closed.getAsBoolean())
+                return false;
+            LockSupport.parkNanos((long) currentBackoff);
+            currentBackoff = currentBackoff * coefficient;
+        }
+        return true;
+    }
+
 }
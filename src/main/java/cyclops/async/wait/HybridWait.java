@@ -0,0 +1,118 @@
+package cyclops.async.wait;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Retry to take or offer element to Queue if full or data unavailable, busy spinning for a short time, then yielding,
+ * and finally parking the waiting thread until it is woken by the other side of the Queue (via {@link WaitStrategy#wakeup()}).
+ *
+ * Latency is close to SpinWait when data arrives quickly, while idle consumers (and blocked producers) do not burn a core.
+ * Parking is bounded by maxParkNanos so a thread always rechecks the Queue eventually.
+ *
+ * <pre>
+ * {@code
+ *  WaitStrategy<Integer> wait = WaitStrategy.hybridWait();
+ *  Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(1000,wait)
+ *                                   .build();
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+@AllArgsConstructor
+public class HybridWait<T> implements WaitStrategy<T> {
+
+    private final int spinTries;
+    private final int yieldTries;
+    private final long maxParkNanos;
+    private final AtomicInteger parked = new AtomicInteger(
+                                                           0);
+    private final java.util.Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+    public HybridWait() {
+        this(100, 50, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        return await(t, () -> false);
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        return await(() -> o.offer() ? Boolean.TRUE : null, () -> false) != null;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t, final BooleanSupplier closed) throws InterruptedException {
+        return await(t, closed);
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o, final BooleanSupplier closed) throws InterruptedException {
+        return await(() -> o.offer() ? Boolean.TRUE : null, closed) != null;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#wakeup()
+     */
+    @Override
+    public void wakeup() {
+        if (parked.get() > 0) {
+            for (final Thread next : waiters)
+                LockSupport.unpark(next);
+        }
+    }
+
+    private <R> R await(final WaitStrategy.Takeable<R> t, final BooleanSupplier closed) throws InterruptedException {
+        R result;
+        int attempts = 0;
+        while ((result = t.take()) == null) {
+            if (closed.getAsBoolean())
+                return null;
+            if (attempts < spinTries) {
+                attempts++;
+            } else if (attempts < spinTries + yieldTries) {
+                attempts++;
+                Thread.yield();
+            } else {
+                final Thread current = Thread.currentThread();
+                waiters.offer(current);
+                parked.incrementAndGet();
+                try {
+                    //recheck after registering, so a wakeup between the last attempt and parking is not lost
+                    if ((result = t.take()) != null)
+                        return result;
+                    if (closed.getAsBoolean())
+                        return null;
+                    LockSupport.parkNanos(this, maxParkNanos);
+                    if (Thread.interrupted())
+                        throw new InterruptedException();
+                } finally {
+                    parked.decrementAndGet();
+                    waiters.remove(current);
+                }
+            }
+        }
+        return result;
+    }
+
+}
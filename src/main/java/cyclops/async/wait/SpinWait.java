@@ -1,6 +1,7 @@
 package cyclops.async.wait;
 
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 /**
  * Repeatedly retry to take or offer element to Queue if full or data unavailable,
@@ -37,4 +38,33 @@ public class SpinWait<T> implements WaitStrategy<T> {
         return true;
     }
 
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t, final BooleanSupplier closed) throws InterruptedException {
+        T result;
+
+        while ((result = t.take()) == null) {
+            if (closed.getAsBoolean())
+                return null;
+            LockSupport.parkNanos(1l);
+        }
+
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable, java.util.function.BooleanSupplier)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o, final BooleanSupplier closed) throws InterruptedException {
+        while (!o.offer()) {
+            if (closed.getAsBoolean())
+                return false;
+            LockSupport.parkNanos(1l);
+        }
+        return true;
+    }
+
 }
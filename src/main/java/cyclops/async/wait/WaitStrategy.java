@@ -1,5 +1,7 @@
 package cyclops.async.wait;
 
+import java.util.function.BooleanSupplier;
+
 /**
  * An interface that defines a Waiting strategy to be employed when an async.Queue is full or empty
  * 
@@ -60,6 +62,48 @@ public interface WaitStrategy<T> {
      */
     public boolean offer(Offerable o) throws InterruptedException;
 
+    /**
+     * Attempt to take from Takeable, giving up if the data source is closed while waiting.
+     * The default implementation reports closure to {@link WaitStrategy#take(Takeable)} as a successful take,
+     * built in strategies check for closure directly in their wait loops.
+     * 
+     * @param t Takeable to take next data point from
+     * @param closed true when the data source has been closed
+     * @return Data taken, or null if the data source was closed before data became available
+     * @throws InterruptedException
+     */
+    public default T take(final Takeable<T> t, final BooleanSupplier closed) throws InterruptedException {
+        final T result = take(() -> {
+            final T next = t.take();
+            if (next == null && closed.getAsBoolean())
+                return (T) Closed.SIGNAL;
+            return next;
+        });
+        return result == Closed.SIGNAL ? null : result;
+    }
+
+    /**
+     * Push data into a recievable type using the provided offerable, giving up if the recievable type is closed while waiting
+     * 
+     * @param o Offerable to push data to recievable type
+     * @param closed true when the recievable type has been closed
+     * @return true if data pushed via Offerable, false if closed before it could be accepted
+     * @throws InterruptedException
+     */
+    public default boolean offer(final Offerable o, final BooleanSupplier closed) throws InterruptedException {
+        final boolean[] accepted = { false };
+        offer(() -> (accepted[0] = o.offer()) || closed.getAsBoolean());
+        return accepted[0];
+    }
+
+    /**
+     * Wake any threads waiting in this WaitStrategy. Called by the async.Queue when data is added (to wake consumers),
+     * when data is removed (to wake producers waiting for space) and when the Queue is closed.
+     * Strategies that never park a waiting thread can ignore this.
+     */
+    public default void wakeup() {
+    }
+
     /**
      * @return YieldWait strategy {@see YieldWait}
      */
@@ -67,6 +111,13 @@ public interface WaitStrategy<T> {
         return new YieldWait<>();
     }
 
+    /**
+     * @return HybridWait strategy {@see HybridWait}
+     */
+    static <T> HybridWait<T> hybridWait() {
+        return new HybridWait<>();
+    }
+
     /**
      * @return SpinWait strategy {@see SpinWait}
      */
@@ -6,6 +6,7 @@ import cyclops.control.Try;
 import cyclops.box.MutableInt;
 import com.aol.cyclops2.internal.invokedynamic.CheckedTriFunction;
 import cyclops.monads.WitnessType;
+import com.aol.cyclops2.react.ScheduledRetry;
 import com.aol.cyclops2.util.ExceptionSoftener;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 
 /**
@@ -475,6 +477,26 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * A supplier that retries on failure using an exponential backoff strategy, without blocking a thread between attempts.
+         * Re-attempts are scheduled on the standard retry pool (see ThreadPools#getStandardRetry)
+         *
+         * @param times Number of attempts
+         * @param backoffStartTime Wait time (ms) before first retry
+         * @return Supplier of a CompletableFuture with the eventual result
+         */
+        public FluentSupplier<CompletableFuture<R>> retryAsync(final int times, final int backoffStartTime) {
+            return retryAsync(ScheduledRetry.exponential(times, backoffStartTime, TimeUnit.MILLISECONDS));
+        }
+
+        /**
+         * @param retry Retry strategy
+         * @return Supplier of a CompletableFuture with the eventual result
+         */
+        public FluentSupplier<CompletableFuture<R>> retryAsync(final ScheduledRetry retry) {
+            return FluentFunctions.of(() -> retry.get(fn));
+        }
+
 
 
         /**
@@ -749,6 +771,26 @@ public class FluentFunctions {
 
         }
 
+        /**
+         * A Function that retries on failure using an exponential backoff strategy, without blocking a thread between attempts.
+         * Re-attempts are scheduled on the standard retry pool (see ThreadPools#getStandardRetry)
+         *
+         * @param times Number of attempts
+         * @param backoffStartTime Wait time (ms) before first retry
+         * @return Function returning a CompletableFuture with the eventual result
+         */
+        public FluentFunction<T, CompletableFuture<R>> retryAsync(final int times, final int backoffStartTime) {
+            return retryAsync(ScheduledRetry.exponential(times, backoffStartTime, TimeUnit.MILLISECONDS));
+        }
+
+        /**
+         * @param retry Retry strategy
+         * @return Function returning a CompletableFuture with the eventual result
+         */
+        public FluentFunction<T, CompletableFuture<R>> retryAsync(final ScheduledRetry retry) {
+            return FluentFunctions.of(t -> retry.apply(fn, t));
+        }
+
 
         /**
          * Generate an infinite Stream that iterates from the specified seed using the currently wrapped function
@@ -0,0 +1,39 @@
+package cyclops.function;
+
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A Monoid where every element has an inverse, combining an element with its inverse yields the identity (zero).
+ * Windowed reductions can remove an element from an aggregate by combining with its inverse rather than recomputing
+ * the aggregate.
+ *
+ * @param <T> Data type of elements to be combined
+ */
+public interface Group<T> extends Monoid<T> {
+
+    /**
+     * @param t Element to invert
+     * @return Inverse of t, such that apply(invert(t), t) is zero()
+     */
+    T invert(T t);
+
+    public static <T> Group<T> of(final T zero, final BinaryOperator<T> combiner, final UnaryOperator<T> inverse) {
+        return new Group<T>() {
+            @Override
+            public T zero() {
+                return zero;
+            }
+
+            @Override
+            public T apply(final T t, final T u) {
+                return combiner.apply(t, u);
+            }
+
+            @Override
+            public T invert(final T t) {
+                return inverse.apply(t);
+            }
+        };
+    }
+}
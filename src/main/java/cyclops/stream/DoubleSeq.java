@@ -0,0 +1,322 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleFilteringSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleGroupingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleMappingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleScanLeftSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleSlidingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleZippingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.DoubleWindowMappingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.doubles.ReversingDoubleArraySpliterator;
+
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A replayable sequence of primitive doubles. Each operator is a primitive spliterator, so doubles are not boxed as they
+ * flow between stages (unlike ReactiveSeq.ofDoubles / mapDoubles which box back to Double after every operator). Convert to a
+ * ReactiveSeq with boxed() when Object operators are needed.
+ *
+ * <pre>
+ * {@code
+ *  double total = DoubleSeq.of(1, 2, 3, 4)
+ *                  .map(d -> d * 2)
+ *                  .filter(d -> d > 2)
+ *                  .sum();
+ *  //18.0
+ * }
+ * </pre>
+ *
+ * Like ReactiveSeq, a DoubleSeq built from an array or range can be traversed repeatedly, a DoubleSeq built from a
+ * DoubleStream or an arbitrary Spliterator can be traversed once.
+ *
+ */
+public class DoubleSeq {
+
+    private final Spliterator.OfDouble source;
+    //false if this DoubleSeq (or any upstream stage) is traversing a one shot source, such as a DoubleStream
+    private final boolean replayable;
+
+    private DoubleSeq(final Spliterator.OfDouble source, final boolean replayable) {
+        this.source = source;
+        this.replayable = replayable;
+    }
+
+    /**
+     * @param values doubles to populate the sequence from
+     * @return DoubleSeq of the supplied values
+     */
+    public static DoubleSeq of(final double... values) {
+        return new DoubleSeq(
+                             new ReversingDoubleArraySpliterator<>(values, 0, values.length, false), true);
+    }
+
+    /**
+     * @return An empty DoubleSeq
+     */
+    public static DoubleSeq empty() {
+        return of();
+    }
+
+    /**
+     * @param spliterator Primitive spliterator to construct a DoubleSeq from
+     * @return DoubleSeq over the supplied spliterator
+     */
+    public static DoubleSeq fromSpliterator(final Spliterator.OfDouble spliterator) {
+        return new DoubleSeq(
+                             spliterator, false);
+    }
+
+    /**
+     * @param stream DoubleStream to construct a (one shot) DoubleSeq from
+     * @return DoubleSeq over the supplied Stream
+     */
+    public static DoubleSeq fromDoubleStream(final DoubleStream stream) {
+        return new DoubleSeq(
+                             stream.spliterator(), false);
+    }
+
+    private Spliterator.OfDouble copy() {
+        return (Spliterator.OfDouble) CopyableSpliterator.copy(source);
+    }
+
+    /**
+     * @param fn Mapping function applied to each double
+     * @return DoubleSeq of mapped values
+     */
+    public DoubleSeq map(final DoubleUnaryOperator fn) {
+        return new DoubleSeq(
+                             new DoubleMappingSpliterator(
+                                                          source, fn), replayable);
+    }
+
+    /**
+     * @param predicate Values which do not match the predicate are removed
+     * @return Filtered DoubleSeq
+     */
+    public DoubleSeq filter(final DoublePredicate predicate) {
+        return new DoubleSeq(
+                             new DoubleFilteringSpliterator(
+                                                            source, predicate), replayable);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1, 2, 3)
+     *       .scanLeft(0, (a, b) -> a + b);
+     *  //[0.0, 1.0, 3.0, 6.0]
+     * }
+     * </pre>
+     *
+     * @param seed Initial value, emitted first
+     * @param fn Accumulator
+     * @return DoubleSeq of running accumulations
+     */
+    public DoubleSeq scanLeft(final double seed, final DoubleBinaryOperator fn) {
+        return new DoubleSeq(
+                             new DoubleScanLeftSpliterator(
+                                                           source, seed, fn), replayable);
+    }
+
+    /**
+     * Combine this DoubleSeq with another, position by position. The result is as long as the shorter of the two.
+     *
+     * @param other DoubleSeq to zip with
+     * @param fn Combiner
+     * @return DoubleSeq of combined values
+     */
+    public DoubleSeq zip(final DoubleSeq other, final DoubleBinaryOperator fn) {
+        return new DoubleSeq(
+                             new DoubleZippingSpliterator(
+                                                          source, other.source, fn), replayable && other.replayable);
+    }
+
+    /**
+     * @param windowSize Size of each window
+     * @return ReactiveSeq of sliding windows (moving one element at a time)
+     */
+    public ReactiveSeq<double[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1, 2, 3, 4, 5)
+     *       .sliding(3, 2);
+     *  //[[1.0, 2.0, 3.0], [3.0, 4.0, 5.0]]
+     * }
+     * </pre>
+     *
+     * @param windowSize Size of each window
+     * @param increment Number of elements the window moves by
+     * @return ReactiveSeq of sliding windows, each window is a new array
+     */
+    public ReactiveSeq<double[]> sliding(final int windowSize, final int increment) {
+        return ReactiveSeq.fromSpliterator(new DoubleSlidingSpliterator(
+                                                                        source, windowSize, increment));
+    }
+
+    /**
+     * @param windowSize Size of each window
+     * @param fn Reduces each window to a single value
+     * @return DoubleSeq with one value per window (moving one element at a time)
+     */
+    public DoubleSeq slidingMap(final int windowSize, final ToDoubleFunction<? super double[]> fn) {
+        return slidingMap(windowSize, 1, fn);
+    }
+
+    /**
+     * Apply a function to each sliding window, for rolling computations such as moving averages
+     *
+     * <pre>
+     * {@code
+     *  DoubleSeq.of(1, 2, 3, 4)
+     *       .slidingMap(2, w -> w[0] + w[1]);
+     *  //[3.0, 5.0, 7.0]
+     * }
+     * </pre>
+     *
+     * The window array is reused between calls, so fn must not retain it. Unlike sliding no array is allocated per
+     * window.
+     *
+     * @param windowSize Size of each window
+     * @param increment Number of elements the window moves by
+     * @param fn Reduces each window to a single value
+     * @return DoubleSeq with one value per window
+     */
+    public DoubleSeq slidingMap(final int windowSize, final int increment, final ToDoubleFunction<? super double[]> fn) {
+        return new DoubleSeq(
+                             new DoubleWindowMappingSpliterator(
+                                                                new DoubleSlidingSpliterator(
+                                                                                             source, windowSize, increment, true),
+                                                                fn), replayable);
+    }
+
+    /**
+     * @param groupSize Size of each group, the final group may be smaller
+     * @return ReactiveSeq of double arrays
+     */
+    public ReactiveSeq<double[]> grouped(final int groupSize) {
+        return ReactiveSeq.fromSpliterator(new DoubleGroupingSpliterator(
+                                                                         source, groupSize));
+    }
+
+    /**
+     * @param identity Initial value
+     * @param fn Accumulator
+     * @return Result of folding every value into the identity from left to right
+     */
+    public double foldLeft(final double identity, final DoubleBinaryOperator fn) {
+        final Accumulator accumulator = new Accumulator(
+                                                        identity, fn);
+        copy().forEachRemaining(accumulator);
+        return accumulator.result;
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public double sum() {
+        return foldLeft(0, Double::sum);
+    }
+
+    /**
+     * @return Number of values
+     */
+    public long count() {
+        return doubleStream().count();
+    }
+
+    /**
+     * @return Smallest value, or empty if this DoubleSeq is empty
+     */
+    public OptionalDouble min() {
+        return doubleStream().min();
+    }
+
+    /**
+     * @return Largest value, or empty if this DoubleSeq is empty
+     */
+    public OptionalDouble max() {
+        return doubleStream().max();
+    }
+
+    /**
+     * @param action Invoked with each value
+     */
+    public void forEach(final DoubleConsumer action) {
+        copy().forEachRemaining(action);
+    }
+
+    /**
+     * @return Array of all values
+     */
+    public double[] toArray() {
+        return doubleStream().toArray();
+    }
+
+    /**
+     * @return Primitive iterator over this DoubleSeq
+     */
+    public PrimitiveIterator.OfDouble iterator() {
+        return Spliterators.iterator(copy());
+    }
+
+    /**
+     * @return Sequential DoubleStream over this DoubleSeq
+     */
+    public DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(copy(), false);
+    }
+
+    /**
+     * Values are boxed as they are emitted, upstream DoubleSeq operators remain unboxed
+     *
+     * @return ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Double> boxed() {
+        return ReactiveSeq.fromSpliterator(source);
+    }
+
+    /**
+     * @return The values of this DoubleSeq, or just its type if it is traversing a one shot source (so that calling toString
+     *         never consumes the data)
+     */
+    @Override
+    public String toString() {
+        if (!replayable)
+            return "DoubleSeq[one shot]";
+        return boxed().join(", ", "[", "]");
+    }
+
+    /**
+     * Running result held in a field rather than a captured array, an array could alias the source array and force a
+     * memory round trip per element
+     */
+    private static final class Accumulator implements DoubleConsumer {
+        private final DoubleBinaryOperator fn;
+        private double result;
+
+        Accumulator(final double identity, final DoubleBinaryOperator fn) {
+            this.result = identity;
+            this.fn = fn;
+        }
+
+        @Override
+        public void accept(final double next) {
+            result = fn.applyAsDouble(result, next);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
@@ -61,13 +62,16 @@ import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import cyclops.collections.ListX;
 import com.aol.cyclops2.internal.react.FutureStreamImpl;
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.async.future.KeyedLanes;
 import com.aol.cyclops2.internal.react.stream.CloseableIterator;
 import com.aol.cyclops2.internal.react.stream.LazyStreamWrapper;
+import com.aol.cyclops2.internal.react.stream.ReorderingSpliterator;
 import com.aol.cyclops2.internal.react.stream.traits.future.operators.LazyFutureStreamUtils;
 import com.aol.cyclops2.internal.react.stream.traits.future.operators.OperationsOnFuturesImpl;
 import com.aol.cyclops2.internal.stream.LazyFutureStreamFutureOpterationsImpl;
 import com.aol.cyclops2.react.RetryBuilder;
 import com.aol.cyclops2.react.SimpleReactFailedStageException;
+import com.aol.cyclops2.react.ScheduledRetry;
 import com.aol.cyclops2.react.ThreadPools;
 import com.aol.cyclops2.react.async.subscription.Continueable;
 import com.aol.cyclops2.react.collectors.lazy.LazyResultConsumer;
@@ -1057,6 +1061,106 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return res;
     }
 
+    /**
+     * Partition this Stream by key, each key is routed to one of a fixed number of serial lanes, and the lanes are executed
+     * on a shared work-stealing pool (ThreadPools#getStandard, the ForkJoinPool common pool by default). Subsequent stages,
+     * including asynchronous stages such as flatMapCompletableFuture, run on the element's lane, so elements with the same
+     * key are processed and emitted in the order they reach partitionBy, while different keys are processed in parallel.
+     *
+     * Stages that replace the underlying Stream (e.g. flatMap to a Stream) end the partitioning.
+     *
+     * <pre>
+     * {@code
+     *  new LazyReact().from(events)
+     *                 .partitionBy(Event::getAccountId, 8)
+     *                 .map(this::enrich)
+     *                 .flatMapCompletableFuture(this::save)
+     *                 .forEach(this::publish);
+     * }
+     * </pre>
+     *
+     * @param keyFn
+     *            Function to extract the key that determines ordering
+     * @param parallelism
+     *            Number of lanes
+     * @return Stream whose subsequent stages preserve per-key order
+     */
+    default <K> FutureStream<U> partitionBy(final Function<? super U, ? extends K> keyFn, final int parallelism) {
+        return partitionBy(keyFn, parallelism, ThreadPools.getStandard());
+    }
+
+    /**
+     * Partition this Stream by key, with lanes executed on the supplied pool
+     *
+     * @see FutureStream#partitionBy(Function, int)
+     *
+     * @param keyFn
+     *            Function to extract the key that determines ordering
+     * @param parallelism
+     *            Number of lanes
+     * @param pool
+     *            Executor to run the lanes on
+     * @return Stream whose subsequent stages preserve per-key order
+     */
+    default <K> FutureStream<U> partitionBy(final Function<? super U, ? extends K> keyFn, final int parallelism, final Executor pool) {
+        final KeyedLanes lanes = new KeyedLanes(
+                                                pool, parallelism, keyFn);
+        //elements are routed as they enter the Stream, so start a new Stream from the results of any existing stages
+        final FutureStream<U> source = getLastActive().isStageless() ? this : fromStream(stream());
+        return source.withLastActive(source.getLastActive()
+                                           .withLanes(lanes));
+    }
+
+    /**
+     * Apply a function to each element asynchronously on the task executor, emitting the results in the order the
+     * elements arrive at this stage. Up to the MaxActive limit of this Stream are processed concurrently.
+     *
+     * @see FutureStream#mapAsyncOrdered(int, Function)
+     *
+     * @param fn
+     *            Function to apply
+     * @return Stream of results in input order
+     */
+    default <R> FutureStream<R> mapAsyncOrdered(final Function<? super U, ? extends R> fn) {
+        return mapAsyncOrdered(getMaxActive().getMaxActive(), fn);
+    }
+
+    /**
+     * Apply a function to each element asynchronously on the task executor, emitting the results in the order the
+     * elements arrive at this stage.
+     *
+     * Up to parallelism elements are in flight at once, results that complete early are held in a bounded reorder
+     * buffer until all earlier results have been emitted. Subsequent stages run synchronously so that order is
+     * preserved through to the terminal operation (calling async() will reintroduce completion ordering).
+     *
+     * <pre>
+     * {@code
+     *  new LazyReact().from(urls)
+     *                 .mapAsyncOrdered(16, this::download)
+     *                 .map(this::parse)
+     *                 .toList();
+     *
+     *  //results in the same order as urls
+     * }
+     * </pre>
+     *
+     * @param parallelism
+     *            Maximum number of elements processed concurrently (and so held in the reorder buffer)
+     * @param fn
+     *            Function to apply
+     * @return Stream of results in input order
+     */
+    default <R> FutureStream<R> mapAsyncOrdered(final int parallelism, final Function<? super U, ? extends R> fn) {
+        //without prior stages elements arrive in source order, otherwise in the order earlier stages complete
+        final Stream<U> input = getLastActive().isStageless() ? getLastActive().stream() : stream();
+        final Stream<CompletableFuture<R>> ordered = StreamSupport.stream(new ReorderingSpliterator<U, R>(
+                                                                                                        input.spliterator(),
+                                                                                                        fn, getTaskExecutor(),
+                                                                                                        parallelism),
+                                                                          false);
+        return ((FutureStream<R>) this.withLastActive(getLastActive().withNewStreamFutures(ordered))).sync();
+    }
+
     /**
      * Can be used to debounce (accept a single data point from a unit of time)
      * data. This drops data. For a method that slows emissions and keeps data
@@ -1372,6 +1476,45 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
                 .groupedByTime(time, unit, factory,finalizer));
 
     }
+
+    /**
+     * Batch elements by time, with batches flushed by a timer on the supplied executor.
+     * See {@link ReactiveSeq#groupedByTime(long, TimeUnit, ScheduledExecutorService)}
+     *
+     * @param time Period between timed flushes
+     * @param unit time unit for the period
+     * @param ex Executor that runs the flush timer
+     * @return Stream of Lists
+     */
+    @Override
+    default FutureStream<ListX<U>> groupedByTime(final long time, final TimeUnit unit, final ScheduledExecutorService ex) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .groupedByTime(time, unit, ex));
+    }
+
+    /**
+     * Batch elements by size and time, with batches flushed when full or by a timer on the supplied executor.
+     * See {@link ReactiveSeq#groupedBySizeAndTime(int, long, TimeUnit, ScheduledExecutorService)}
+     *
+     * @param size Max size of a batch
+     * @param time Period between timed flushes
+     * @param unit time unit for the period
+     * @param ex Executor that runs the flush timer
+     * @return Stream of Lists
+     */
+    @Override
+    default FutureStream<ListX<U>> groupedBySizeAndTime(final int size, final long time, final TimeUnit unit, final ScheduledExecutorService ex) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .groupedBySizeAndTime(size, time, unit, ex));
+    }
+
+    @Override
+    default <C extends Collection<? super U>,R> FutureStream<R> groupedBySizeAndTime(final int size, final long time, final TimeUnit unit,
+                                                                                    final ScheduledExecutorService ex, final Supplier<C> factory,
+                                                                                    final Function<? super C, ? extends R> finalizer) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                .groupedBySizeAndTime(size, time, unit, ex, factory, finalizer));
+    }
     /*
      *
      * React to new events with the supplied function on the supplied
@@ -1607,12 +1750,14 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
      * </pre>
      * In this example the result of the flatMapCompletableFuture is 'flattened' to the raw integer values
      *
+     * No thread is blocked while the returned CompletableFutures are in flight, the next stage is executed
+     * when each CompletableFuture completes.
      *
      * @param flatFn flatMap function
      * @return Flatten Stream with flatFn applied
      */
     default <R> FutureStream<R> flatMapCompletableFuture(final Function<? super U, CompletableFuture<? extends R>> flatFn) {
-        return fromStream(Streams.flatMapCompletableFuture(stream(), flatFn));
+        return (FutureStream<R>) LazySimpleReactStream.super.flatMapToCompletableFuture(flatFn);
     }
 
     /*
@@ -1628,6 +1773,19 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return (FutureStream) LazySimpleReactStream.super.retry(fn);
     }
 
+    /*
+     * (non-Javadoc)
+     *
+     * @see
+     * com.aol.cyclops2.types.futurestream.LazySimpleReactStream#retry(java.util.function.Function,
+     * com.aol.cyclops2.react.ScheduledRetry)
+     */
+    @Override
+    default <R> FutureStream<R> retry(final Function<? super U, ? extends R> fn, final ScheduledRetry retry) {
+
+        return (FutureStream) LazySimpleReactStream.super.retry(fn, retry);
+    }
+
     /*
      * Convert the specified Stream to a FutureStream, using the configuration
      * of this FutureStream (task executors, current config settings)
@@ -1923,6 +2081,70 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
 
     }
 
+    /**
+     * Reduce each sliding window with the supplied Monoid.
+     * See {@link ReactiveSeq#slidingReduce(int, Monoid)}
+     *
+     * @param size Number of elements in each window
+     * @param reducer Monoid (or Group) to combine elements with
+     * @return Stream of the reduction of each window
+     */
+    @Override
+    default FutureStream<U> slidingReduce(final int size, final Monoid<U> reducer) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .slidingReduce(size, reducer));
+    }
+
+    @Override
+    default FutureStream<U> slidingReduce(final int size, final int increment, final Monoid<U> reducer) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .slidingReduce(size, increment, reducer));
+    }
+
+    /**
+     * Emit the reduction of the elements received within the preceding time window for each element.
+     * See {@link ReactiveSeq#slidingReduceByTime(long, TimeUnit, Monoid)}
+     *
+     * @param time Length of the window
+     * @param unit Unit for the window length
+     * @param reducer Monoid (or Group) to combine elements with
+     * @return Stream with the reduction of the current window for each element
+     */
+    @Override
+    default FutureStream<U> slidingReduceByTime(final long time, final TimeUnit unit, final Monoid<U> reducer) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .slidingReduceByTime(time, unit, reducer));
+    }
+
+    @Override
+    default FutureStream<U> slidingReduceByTime(final long time, final TimeUnit unit, final ToLongFunction<? super U> timestamp,
+                                                final Monoid<U> reducer) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .slidingReduceByTime(time, unit, timestamp, reducer));
+    }
+
+    /**
+     * Reduce sessions of activity, a session ends when no element arrives for longer than the gap.
+     * See {@link ReactiveSeq#sessionReduce(long, TimeUnit, Monoid)}
+     *
+     * @param gap Inactivity period that ends a session
+     * @param unit Unit for the gap
+     * @param reducer Monoid to combine the elements in a session with
+     * @return Stream of the reduction of each session
+     */
+    @Override
+    default FutureStream<U> sessionReduce(final long gap, final TimeUnit unit, final Monoid<U> reducer) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .sessionReduce(gap, unit, reducer));
+    }
+
+    @Override
+    default FutureStream<U> sessionReduce(final long gap, final TimeUnit unit, final ToLongFunction<? super U> timestamp,
+                                          final Monoid<U> reducer) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .sessionReduce(gap, unit, timestamp, reducer));
+    }
+
 
 
     /*
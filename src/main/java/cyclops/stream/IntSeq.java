@@ -0,0 +1,333 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntFilteringSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntGroupingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntMappingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntScanLeftSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntSlidingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntZippingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.IntWindowMappingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
+
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A replayable sequence of primitive ints. Each operator is a primitive spliterator, so ints are not boxed as they
+ * flow between stages (unlike ReactiveSeq.ofInts / mapInts which box back to Integer after every operator). Convert to a
+ * ReactiveSeq with boxed() when Object operators are needed.
+ *
+ * <pre>
+ * {@code
+ *  int total = IntSeq.of(1, 2, 3, 4)
+ *                  .map(i -> i * 2)
+ *                  .filter(i -> i > 2)
+ *                  .sum();
+ *  //18
+ * }
+ * </pre>
+ *
+ * Like ReactiveSeq, an IntSeq built from an array or range can be traversed repeatedly, an IntSeq built from an
+ * IntStream or an arbitrary Spliterator can be traversed once.
+ *
+ */
+public class IntSeq {
+
+    private final Spliterator.OfInt source;
+    //false if this IntSeq (or any upstream stage) is traversing a one shot source, such as a IntStream
+    private final boolean replayable;
+
+    private IntSeq(final Spliterator.OfInt source, final boolean replayable) {
+        this.source = source;
+        this.replayable = replayable;
+    }
+
+    /**
+     * @param values ints to populate the sequence from
+     * @return IntSeq of the supplied values
+     */
+    public static IntSeq of(final int... values) {
+        return new IntSeq(
+                          new ReversingIntArraySpliterator<>(values, 0, values.length, false), true);
+    }
+
+    /**
+     * @param start Inclusive start of the range
+     * @param end Exclusive end of the range
+     * @return IntSeq of the ints from start to end
+     */
+    public static IntSeq range(final int start, final int end) {
+        return new IntSeq(
+                          new ReversingRangeIntSpliterator(start, end, false), true);
+    }
+
+    /**
+     * @return An empty IntSeq
+     */
+    public static IntSeq empty() {
+        return of();
+    }
+
+    /**
+     * @param spliterator Primitive spliterator to construct an IntSeq from
+     * @return IntSeq over the supplied spliterator
+     */
+    public static IntSeq fromSpliterator(final Spliterator.OfInt spliterator) {
+        return new IntSeq(
+                          spliterator, false);
+    }
+
+    /**
+     * @param stream IntStream to construct a (one shot) IntSeq from
+     * @return IntSeq over the supplied Stream
+     */
+    public static IntSeq fromIntStream(final IntStream stream) {
+        return new IntSeq(
+                          stream.spliterator(), false);
+    }
+
+    private Spliterator.OfInt copy() {
+        return (Spliterator.OfInt) CopyableSpliterator.copy(source);
+    }
+
+    /**
+     * @param fn Mapping function applied to each int
+     * @return IntSeq of mapped values
+     */
+    public IntSeq map(final IntUnaryOperator fn) {
+        return new IntSeq(
+                          new IntMappingSpliterator(
+                                                    source, fn), replayable);
+    }
+
+    /**
+     * @param predicate Values which do not match the predicate are removed
+     * @return Filtered IntSeq
+     */
+    public IntSeq filter(final IntPredicate predicate) {
+        return new IntSeq(
+                          new IntFilteringSpliterator(
+                                                      source, predicate), replayable);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  IntSeq.of(1, 2, 3)
+     *       .scanLeft(0, (a, b) -> a + b);
+     *  //[0, 1, 3, 6]
+     * }
+     * </pre>
+     *
+     * @param seed Initial value, emitted first
+     * @param fn Accumulator
+     * @return IntSeq of running accumulations
+     */
+    public IntSeq scanLeft(final int seed, final IntBinaryOperator fn) {
+        return new IntSeq(
+                          new IntScanLeftSpliterator(
+                                                     source, seed, fn), replayable);
+    }
+
+    /**
+     * Combine this IntSeq with another, position by position. The result is as long as the shorter of the two.
+     *
+     * @param other IntSeq to zip with
+     * @param fn Combiner
+     * @return IntSeq of combined values
+     */
+    public IntSeq zip(final IntSeq other, final IntBinaryOperator fn) {
+        return new IntSeq(
+                          new IntZippingSpliterator(
+                                                    source, other.source, fn), replayable && other.replayable);
+    }
+
+    /**
+     * @param windowSize Size of each window
+     * @return ReactiveSeq of sliding windows (moving one element at a time)
+     */
+    public ReactiveSeq<int[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  IntSeq.of(1, 2, 3, 4, 5)
+     *       .sliding(3, 2);
+     *  //[[1, 2, 3], [3, 4, 5]]
+     * }
+     * </pre>
+     *
+     * @param windowSize Size of each window
+     * @param increment Number of elements the window moves by
+     * @return ReactiveSeq of sliding windows, each window is a new array
+     */
+    public ReactiveSeq<int[]> sliding(final int windowSize, final int increment) {
+        return ReactiveSeq.fromSpliterator(new IntSlidingSpliterator(
+                                                                     source, windowSize, increment));
+    }
+
+    /**
+     * @param windowSize Size of each window
+     * @param fn Reduces each window to a single value
+     * @return IntSeq with one value per window (moving one element at a time)
+     */
+    public IntSeq slidingMap(final int windowSize, final ToIntFunction<? super int[]> fn) {
+        return slidingMap(windowSize, 1, fn);
+    }
+
+    /**
+     * Apply a function to each sliding window, for rolling computations such as moving averages
+     *
+     * <pre>
+     * {@code
+     *  IntSeq.of(1, 2, 3, 4)
+     *       .slidingMap(2, w -> w[0] + w[1]);
+     *  //[3, 5, 7]
+     * }
+     * </pre>
+     *
+     * The window array is reused between calls, so fn must not retain it. Unlike sliding no array is allocated per
+     * window.
+     *
+     * @param windowSize Size of each window
+     * @param increment Number of elements the window moves by
+     * @param fn Reduces each window to a single value
+     * @return IntSeq with one value per window
+     */
+    public IntSeq slidingMap(final int windowSize, final int increment, final ToIntFunction<? super int[]> fn) {
+        return new IntSeq(
+                          new IntWindowMappingSpliterator(
+                                                          new IntSlidingSpliterator(
+                                                                                    source, windowSize, increment, true),
+                                                          fn), replayable);
+    }
+
+    /**
+     * @param groupSize Size of each group, the final group may be smaller
+     * @return ReactiveSeq of int arrays
+     */
+    public ReactiveSeq<int[]> grouped(final int groupSize) {
+        return ReactiveSeq.fromSpliterator(new IntGroupingSpliterator(
+                                                                      source, groupSize));
+    }
+
+    /**
+     * @param identity Initial value
+     * @param fn Accumulator
+     * @return Result of folding every value into the identity from left to right
+     */
+    public int foldLeft(final int identity, final IntBinaryOperator fn) {
+        final Accumulator accumulator = new Accumulator(
+                                                        identity, fn);
+        copy().forEachRemaining(accumulator);
+        return accumulator.result;
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public int sum() {
+        return foldLeft(0, Integer::sum);
+    }
+
+    /**
+     * @return Number of values
+     */
+    public long count() {
+        return intStream().count();
+    }
+
+    /**
+     * @return Smallest value, or empty if this IntSeq is empty
+     */
+    public OptionalInt min() {
+        return intStream().min();
+    }
+
+    /**
+     * @return Largest value, or empty if this IntSeq is empty
+     */
+    public OptionalInt max() {
+        return intStream().max();
+    }
+
+    /**
+     * @param action Invoked with each value
+     */
+    public void forEach(final IntConsumer action) {
+        copy().forEachRemaining(action);
+    }
+
+    /**
+     * @return Array of all values
+     */
+    public int[] toArray() {
+        return intStream().toArray();
+    }
+
+    /**
+     * @return Primitive iterator over this IntSeq
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return Spliterators.iterator(copy());
+    }
+
+    /**
+     * @return Sequential IntStream over this IntSeq
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(copy(), false);
+    }
+
+    /**
+     * Values are boxed as they are emitted, upstream IntSeq operators remain unboxed
+     *
+     * @return ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Integer> boxed() {
+        return ReactiveSeq.fromSpliterator(source);
+    }
+
+    /**
+     * @return The values of this IntSeq, or just its type if it is traversing a one shot source (so that calling toString
+     *         never consumes the data)
+     */
+    @Override
+    public String toString() {
+        if (!replayable)
+            return "IntSeq[one shot]";
+        return boxed().join(", ", "[", "]");
+    }
+
+    /**
+     * Running result held in a field rather than a captured array, an array could alias the source array and force a
+     * memory round trip per element
+     */
+    private static final class Accumulator implements IntConsumer {
+        private final IntBinaryOperator fn;
+        private int result;
+
+        Accumulator(final int identity, final IntBinaryOperator fn) {
+            this.result = identity;
+            this.fn = fn;
+        }
+
+        @Override
+        public void accept(final int next) {
+            result = fn.applyAsInt(result, next);
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.spliterators.CopyableSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongFilteringSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongGroupingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongMappingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.ReversingRangeLongSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongScanLeftSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongSlidingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongZippingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.LongWindowMappingSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.ReversingLongArraySpliterator;
+
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A replayable sequence of primitive longs. Each operator is a primitive spliterator, so longs are not boxed as they
+ * flow between stages (unlike ReactiveSeq.ofLongs / mapLongs which box back to Long after every operator). Convert to a
+ * ReactiveSeq with boxed() when Object operators are needed.
+ *
+ * <pre>
+ * {@code
+ *  long total = LongSeq.of(1, 2, 3, 4)
+ *                  .map(l -> l * 2)
+ *                  .filter(l -> l > 2)
+ *                  .sum();
+ *  //18
+ * }
+ * </pre>
+ *
+ * Like ReactiveSeq, a LongSeq built from an array or range can be traversed repeatedly, a LongSeq built from a
+ * LongStream or an arbitrary Spliterator can be traversed once.
+ *
+ */
+public class LongSeq {
+
+    private final Spliterator.OfLong source;
+    //false if this LongSeq (or any upstream stage) is traversing a one shot source, such as a LongStream
+    private final boolean replayable;
+
+    private LongSeq(final Spliterator.OfLong source, final boolean replayable) {
+        this.source = source;
+        this.replayable = replayable;
+    }
+
+    /**
+     * @param values longs to populate the sequence from
+     * @return LongSeq of the supplied values
+     */
+    public static LongSeq of(final long... values) {
+        return new LongSeq(
+                           new ReversingLongArraySpliterator<>(values, 0, values.length, false), true);
+    }
+
+    /**
+     * @param start Inclusive start of the range
+     * @param end Exclusive end of the range
+     * @return LongSeq of the longs from start to end
+     */
+    public static LongSeq range(final long start, final long end) {
+        return new LongSeq(
+                           new ReversingRangeLongSpliterator(start, end, false), true);
+    }
+
+    /**
+     * @return An empty LongSeq
+     */
+    public static LongSeq empty() {
+        return of();
+    }
+
+    /**
+     * @param spliterator Primitive spliterator to construct a LongSeq from
+     * @return LongSeq over the supplied spliterator
+     */
+    public static LongSeq fromSpliterator(final Spliterator.OfLong spliterator) {
+        return new LongSeq(
+                           spliterator, false);
+    }
+
+    /**
+     * @param stream LongStream to construct a (one shot) LongSeq from
+     * @return LongSeq over the supplied Stream
+     */
+    public static LongSeq fromLongStream(final LongStream stream) {
+        return new LongSeq(
+                           stream.spliterator(), false);
+    }
+
+    private Spliterator.OfLong copy() {
+        return (Spliterator.OfLong) CopyableSpliterator.copy(source);
+    }
+
+    /**
+     * @param fn Mapping function applied to each long
+     * @return LongSeq of mapped values
+     */
+    public LongSeq map(final LongUnaryOperator fn) {
+        return new LongSeq(
+                           new LongMappingSpliterator(
+                                                      source, fn), replayable);
+    }
+
+    /**
+     * @param predicate Values which do not match the predicate are removed
+     * @return Filtered LongSeq
+     */
+    public LongSeq filter(final LongPredicate predicate) {
+        return new LongSeq(
+                           new LongFilteringSpliterator(
+                                                        source, predicate), replayable);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  LongSeq.of(1, 2, 3)
+     *       .scanLeft(0, (a, b) -> a + b);
+     *  //[0, 1, 3, 6]
+     * }
+     * </pre>
+     *
+     * @param seed Initial value, emitted first
+     * @param fn Accumulator
+     * @return LongSeq of running accumulations
+     */
+    public LongSeq scanLeft(final long seed, final LongBinaryOperator fn) {
+        return new LongSeq(
+                           new LongScanLeftSpliterator(
+                                                       source, seed, fn), replayable);
+    }
+
+    /**
+     * Combine this LongSeq with another, position by position. The result is as long as the shorter of the two.
+     *
+     * @param other LongSeq to zip with
+     * @param fn Combiner
+     * @return LongSeq of combined values
+     */
+    public LongSeq zip(final LongSeq other, final LongBinaryOperator fn) {
+        return new LongSeq(
+                           new LongZippingSpliterator(
+                                                      source, other.source, fn), replayable && other.replayable);
+    }
+
+    /**
+     * @param windowSize Size of each window
+     * @return ReactiveSeq of sliding windows (moving one element at a time)
+     */
+    public ReactiveSeq<long[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  LongSeq.of(1, 2, 3, 4, 5)
+     *       .sliding(3, 2);
+     *  //[[1, 2, 3], [3, 4, 5]]
+     * }
+     * </pre>
+     *
+     * @param windowSize Size of each window
+     * @param increment Number of elements the window moves by
+     * @return ReactiveSeq of sliding windows, each window is a new array
+     */
+    public ReactiveSeq<long[]> sliding(final int windowSize, final int increment) {
+        return ReactiveSeq.fromSpliterator(new LongSlidingSpliterator(
+                                                                      source, windowSize, increment));
+    }
+
+    /**
+     * @param windowSize Size of each window
+     * @param fn Reduces each window to a single value
+     * @return LongSeq with one value per window (moving one element at a time)
+     */
+    public LongSeq slidingMap(final int windowSize, final ToLongFunction<? super long[]> fn) {
+        return slidingMap(windowSize, 1, fn);
+    }
+
+    /**
+     * Apply a function to each sliding window, for rolling computations such as moving averages
+     *
+     * <pre>
+     * {@code
+     *  LongSeq.of(1, 2, 3, 4)
+     *       .slidingMap(2, w -> w[0] + w[1]);
+     *  //[3, 5, 7]
+     * }
+     * </pre>
+     *
+     * The window array is reused between calls, so fn must not retain it. Unlike sliding no array is allocated per
+     * window.
+     *
+     * @param windowSize Size of each window
+     * @param increment Number of elements the window moves by
+     * @param fn Reduces each window to a single value
+     * @return LongSeq with one value per window
+     */
+    public LongSeq slidingMap(final int windowSize, final int increment, final ToLongFunction<? super long[]> fn) {
+        return new LongSeq(
+                           new LongWindowMappingSpliterator(
+                                                            new LongSlidingSpliterator(
+                                                                                       source, windowSize, increment, true),
+                                                            fn), replayable);
+    }
+
+    /**
+     * @param groupSize Size of each group, the final group may be smaller
+     * @return ReactiveSeq of long arrays
+     */
+    public ReactiveSeq<long[]> grouped(final int groupSize) {
+        return ReactiveSeq.fromSpliterator(new LongGroupingSpliterator(
+                                                                       source, groupSize));
+    }
+
+    /**
+     * @param identity Initial value
+     * @param fn Accumulator
+     * @return Result of folding every value into the identity from left to right
+     */
+    public long foldLeft(final long identity, final LongBinaryOperator fn) {
+        final Accumulator accumulator = new Accumulator(
+                                                        identity, fn);
+        copy().forEachRemaining(accumulator);
+        return accumulator.result;
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public long sum() {
+        return foldLeft(0, Long::sum);
+    }
+
+    /**
+     * @return Number of values
+     */
+    public long count() {
+        return longStream().count();
+    }
+
+    /**
+     * @return Smallest value, or empty if this LongSeq is empty
+     */
+    public OptionalLong min() {
+        return longStream().min();
+    }
+
+    /**
+     * @return Largest value, or empty if this LongSeq is empty
+     */
+    public OptionalLong max() {
+        return longStream().max();
+    }
+
+    /**
+     * @param action Invoked with each value
+     */
+    public void forEach(final LongConsumer action) {
+        copy().forEachRemaining(action);
+    }
+
+    /**
+     * @return Array of all values
+     */
+    public long[] toArray() {
+        return longStream().toArray();
+    }
+
+    /**
+     * @return Primitive iterator over this LongSeq
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return Spliterators.iterator(copy());
+    }
+
+    /**
+     * @return Sequential LongStream over this LongSeq
+     */
+    public LongStream longStream() {
+        return StreamSupport.longStream(copy(), false);
+    }
+
+    /**
+     * Values are boxed as they are emitted, upstream LongSeq operators remain unboxed
+     *
+     * @return ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Long> boxed() {
+        return ReactiveSeq.fromSpliterator(source);
+    }
+
+    /**
+     * @return The values of this LongSeq, or just its type if it is traversing a one shot source (so that calling toString
+     *         never consumes the data)
+     */
+    @Override
+    public String toString() {
+        if (!replayable)
+            return "LongSeq[one shot]";
+        return boxed().join(", ", "[", "]");
+    }
+
+    /**
+     * Running result held in a field rather than a captured array, an array could alias the source array and force a
+     * memory round trip per element
+     */
+    private static final class Accumulator implements LongConsumer {
+        private final LongBinaryOperator fn;
+        private long result;
+
+        Accumulator(final long identity, final LongBinaryOperator fn) {
+            this.result = identity;
+            this.fn = fn;
+        }
+
+        @Override
+        public void accept(final long next) {
+            result = fn.applyAsLong(result, next);
+        }
+    }
+}
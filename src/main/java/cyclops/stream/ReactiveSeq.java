@@ -730,6 +730,9 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     }
     default <R> R foldParallel(Function<? super Stream<T>,? extends R> fn){
 
+        final Spliterator<T> split = this.spliterator();
+        if(split.hasCharacteristics(Spliterator.SUBSIZED)) //balanced splits (e.g. array, list or range sources and stateless stages)
+            return fn.apply(StreamSupport.stream(split,true));
 
         cyclops.async.Queue<T> queue = QueueFactories.<T>unboundedNonBlockingQueue().build().withTimeout(1);
 
@@ -1144,6 +1147,105 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<PVectorX<T>> sliding(int windowSize, int increment);
 
+    /**
+     * Reduce each sliding window with the supplied Monoid. The windows are those of sliding(windowSize), but the
+     * reduction is maintained incrementally, costing O(1) amortised per element rather than O(windowSize).
+     * If the Monoid is a Group (e.g. from cyclops.Groups) elements leaving the window are removed by combining with
+     * their inverse, otherwise a two stack aggregator is used (suitable for max / min and other non-invertible
+     * Monoids).
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingReduce(3, Monoids.intMax);
+     *  //[3, 4, 5]
+     *
+     *  ReactiveSeq.of(1.0, 2.0, 3.0, 4.0)
+     *             .slidingReduce(2, Groups.doubleSum)
+     *             .map(sum -> sum / 2);
+     *  //moving average [1.5, 2.5, 3.5]
+     * }
+     * </pre>
+     *
+     * @param windowSize Number of elements in each window
+     * @param reducer Monoid (or Group) to combine elements with
+     * @return ReactiveSeq of the reduction of each window
+     */
+    ReactiveSeq<T> slidingReduce(int windowSize, Monoid<T> reducer);
+
+    /**
+     * Reduce each sliding window with the supplied Monoid, see slidingReduce(int,Monoid)
+     *
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements the window moves by
+     * @param reducer Monoid (or Group) to combine elements with
+     * @return ReactiveSeq of the reduction of each window
+     */
+    ReactiveSeq<T> slidingReduce(int windowSize, int increment, Monoid<T> reducer);
+
+    /**
+     * For each element, emit the reduction of every element received within the preceding time window (measured
+     * from arrival). The reduction is maintained incrementally, elements are evicted as they age out of the window.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.fromPublisher(requests)
+     *             .map(r -> 1l)
+     *             .slidingReduceByTime(1, TimeUnit.MINUTES, Groups.longSum);
+     *  //requests in the last minute, updated per request
+     * }
+     * </pre>
+     *
+     * @param time Length of the window
+     * @param unit Unit for the window length
+     * @param reducer Monoid (or Group) to combine elements with
+     * @return ReactiveSeq with the reduction of the current window for each element
+     */
+    ReactiveSeq<T> slidingReduceByTime(long time, TimeUnit unit, Monoid<T> reducer);
+
+    /**
+     * As slidingReduceByTime(long,TimeUnit,Monoid), with the window measured using a timestamp carried by each
+     * element. Timestamps should be non decreasing.
+     *
+     * @param time Length of the window
+     * @param unit Unit for both the window length and the timestamps
+     * @param timestamp Extracts the timestamp from an element
+     * @param reducer Monoid (or Group) to combine elements with
+     * @return ReactiveSeq with the reduction of the current window for each element
+     */
+    ReactiveSeq<T> slidingReduceByTime(long time, TimeUnit unit, ToLongFunction<? super T> timestamp, Monoid<T> reducer);
+
+    /**
+     * Reduce sessions of activity, a session ends when no element arrives for longer than the gap. Each session is
+     * emitted when the first element after the gap arrives, or when this Stream completes.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.fromPublisher(clicks)
+     *             .map(c -> 1)
+     *             .sessionReduce(30, TimeUnit.MINUTES, Monoids.intSum);
+     *  //clicks per visit
+     * }
+     * </pre>
+     *
+     * @param gap Inactivity period that ends a session
+     * @param unit Unit for the gap
+     * @param reducer Monoid to combine the elements in a session with
+     * @return ReactiveSeq of the reduction of each session
+     */
+    ReactiveSeq<T> sessionReduce(long gap, TimeUnit unit, Monoid<T> reducer);
+
+    /**
+     * As sessionReduce(long,TimeUnit,Monoid), with the gap measured using a timestamp carried by each element
+     *
+     * @param gap Inactivity period that ends a session
+     * @param unit Unit for both the gap and the timestamps
+     * @param timestamp Extracts the timestamp from an element
+     * @param reducer Monoid to combine the elements in a session with
+     * @return ReactiveSeq of the reduction of each session
+     */
+    ReactiveSeq<T> sessionReduce(long gap, TimeUnit unit, ToLongFunction<? super T> timestamp, Monoid<T> reducer);
+
     /**
      * Group elements in a Stream
      * 
@@ -1285,6 +1387,69 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     <C extends Collection<? super T>> ReactiveSeq<C> groupedByTime(long time, TimeUnit unit, Supplier<C> factory);
 
+    /**
+     * Batch elements by time, with batches flushed by a timer on the supplied executor rather than when the next element
+     * arrives. A partial batch is emitted within roughly one time period even if the Stream goes quiet, and no clock is
+     * read per element.
+     *
+     * <pre>
+     * {@code
+     * ScheduledExecutorService ex = Executors.newSingleThreadScheduledExecutor();
+     * ReactiveSeq.fromIterable(slowSource)
+     *            .groupedByTime(100,TimeUnit.MILLISECONDS,ex)
+     *            .forEach(System.out::println);
+     * }
+     * </pre>
+     *
+     * The executor only runs the flush timer, so a single thread is enough. The Stream is drained on a dedicated thread
+     * (see {@link com.aol.cyclops2.react.ThreadPools#getVirtualThreadExecutor()}), held for the life of the Stream and
+     * running at most a bounded number of batches ahead of the consumer.
+     *
+     * @param time Period between timed flushes
+     * @param unit time unit for the period
+     * @param ex Executor that runs the flush timer
+     * @return ReactiveSeq batched into lists by time period
+     */
+    ReactiveSeq<ListX<T>> groupedByTime(long time, TimeUnit unit, ScheduledExecutorService ex);
+
+    /**
+     * Batch elements by size and time, with batches flushed either when full or by a timer on the supplied executor.
+     * See {@link ReactiveSeq#groupedByTime(long, TimeUnit, ScheduledExecutorService)}
+     *
+     * <pre>
+     * {@code
+     * ReactiveSeq.of(1,2,3,4,5,6)
+     *              .groupedBySizeAndTime(3,10,TimeUnit.SECONDS,ex)
+     *              .toList();
+     *
+     * //[[1,2,3],[4,5,6]]
+     * }
+     * </pre>
+     *
+     * @param size Max size of a batch
+     * @param time Period between timed flushes
+     * @param unit time unit for the period
+     * @param ex Executor that runs the flush timer
+     * @return ReactiveSeq batched by size and time
+     */
+    ReactiveSeq<ListX<T>> groupedBySizeAndTime(int size, long time, TimeUnit unit, ScheduledExecutorService ex);
+
+    /**
+     * Batch elements by size and time into collections created by the supplied factory, with batches flushed either when
+     * full or by a timer on the supplied executor.
+     * See {@link ReactiveSeq#groupedByTime(long, TimeUnit, ScheduledExecutorService)}
+     *
+     * @param size Max size of a batch
+     * @param time Period between timed flushes
+     * @param unit time unit for the period
+     * @param ex Executor that runs the flush timer
+     * @param factory Collection factory
+     * @param finalizer Function applied to each completed batch
+     * @return ReactiveSeq batched by size and time
+     */
+    <C extends Collection<? super T>,R> ReactiveSeq<R> groupedBySizeAndTime(int size, long time, TimeUnit unit, ScheduledExecutorService ex,
+                                                                           Supplier<C> factory, Function<? super C, ? extends R> finalizer);
+
     /**
      * Batch elements in a Stream by size into a collection created by the
      * supplied factory
@@ -161,6 +161,13 @@ public class FluentFunctionTest {
 					   .retry(2,500)
 					   .apply("hello"),equalTo("hello world"));
 	}
+	@Test
+	public void retryAsync(){
+		assertThat(FluentFunctions.ofChecked(this::exceptionalFirstTime)
+					   .retryAsync(2,500)
+					   .apply("hello")
+					   .join(),equalTo("hello world"));
+	}
 	
 	@Test
 	public void fluentFunctionVisitEvent(){
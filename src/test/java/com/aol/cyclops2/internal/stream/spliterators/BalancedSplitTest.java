@@ -0,0 +1,148 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import com.aol.cyclops2.internal.stream.spliterators.ints.ReversingIntArraySpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.ints.ReversingRangeIntSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.longs.ReversingRangeLongSpliterator;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BalancedSplitTest {
+
+    Integer[] array = IntStream.range(0, 1000).boxed().toArray(Integer[]::new);
+    List<Integer> expected = Arrays.asList(array);
+
+    private <T> List<T> parallel(Spliterator<T> split){
+        return StreamSupport.stream(split, true).collect(Collectors.toList());
+    }
+    private <T> List<T> reversed(List<T> list){
+        List<T> result = new ArrayList<>(list);
+        java.util.Collections.reverse(result);
+        return result;
+    }
+
+    @Test
+    public void arraySplitsInHalf(){
+        ReversingArraySpliterator<Integer> split = new ReversingArraySpliterator<>(array, 0, array.length, false);
+        Spliterator<Integer> prefix = split.trySplit();
+        assertThat(prefix.estimateSize(), equalTo(500l));
+        assertThat(split.estimateSize(), equalTo(500l));
+        List<Integer> result = new ArrayList<>();
+        prefix.forEachRemaining(result::add);
+        split.forEachRemaining(result::add);
+        assertThat(result, equalTo(expected));
+    }
+    @Test
+    public void arrayParallel(){
+        assertThat(parallel(new ReversingArraySpliterator<>(array, 0, array.length, false)), equalTo(expected));
+    }
+    @Test
+    public void reversedArrayParallel(){
+        assertThat(parallel(new ReversingArraySpliterator<>(array, 0, array.length, false).invert()), equalTo(reversed(expected)));
+    }
+    @Test
+    public void singleElementDoesNotSplit(){
+        assertThat(new ReversingArraySpliterator<>(new Integer[]{1}, 0, 1, false).trySplit(), nullValue());
+    }
+    @Test
+    public void intArrayParallel(){
+        int[] ints = IntStream.range(0, 1000).toArray();
+        assertThat(StreamSupport.intStream(new ReversingIntArraySpliterator<>(ints, 0, ints.length, false), true).boxed()
+                                .collect(Collectors.toList()), equalTo(expected));
+    }
+    @Test
+    public void listParallel(){
+        assertThat(parallel(new ReversingListSpliterator<>(new ArrayList<>(expected), false)), equalTo(expected));
+    }
+    @Test
+    public void reversedListParallel(){
+        assertThat(parallel(new ReversingListSpliterator<>(new ArrayList<>(expected), false).invert()), equalTo(reversed(expected)));
+    }
+    @Test
+    public void linkedListDoesNotSplit(){
+        assertThat(new ReversingListSpliterator<>(new LinkedList<>(expected), false).trySplit(), nullValue());
+    }
+    @Test
+    public void rangeParallel(){
+        assertThat(StreamSupport.intStream(new ReversingRangeIntSpliterator(0, 1000, false), true).boxed()
+                                .collect(Collectors.toList()), equalTo(expected));
+        assertThat(StreamSupport.longStream(new ReversingRangeLongSpliterator(-500, 500, false), true).boxed()
+                                .collect(Collectors.toList()),
+                   equalTo(LongStream.range(-500, 500).boxed().collect(Collectors.toList())));
+    }
+    @Test
+    public void reversedRangeParallel(){
+        List<Integer> sequential = new ArrayList<>();
+        Spliterator.OfInt reversed = (Spliterator.OfInt)new ReversingRangeIntSpliterator(0, 1000, true);
+        reversed.forEachRemaining((Integer i) -> sequential.add(i));
+        assertThat(StreamSupport.intStream((Spliterator.OfInt)new ReversingRangeIntSpliterator(0, 1000, true), true).boxed()
+                                .collect(Collectors.toList()), equalTo(sequential));
+    }
+    @Test
+    public void mapAndFilterSplitWithSource(){
+        Spliterator<Integer> mapped = new FilteringSpliterator<Integer>(new MappingSpliterator<Integer, Integer>(
+                                            new ReversingArraySpliterator<Integer>(array, 0, array.length, false), i -> i * 2), i -> i % 3 == 0);
+        Spliterator<Integer> prefix = mapped.trySplit();
+        assertTrue(prefix instanceof FilteringSpliterator);
+        assertThat(parallel(new MappingSpliterator<Integer, Integer>(new ReversingArraySpliterator<Integer>(array, 0, array.length, false), i -> i * 2)),
+                   equalTo(expected.stream().map(i -> i * 2).collect(Collectors.toList())));
+    }
+    @Test
+    public void limitLastOnSizedSources(){
+        assertThat(ReactiveSeq.of(1,2,3,4,5).limitLast(1).toArray(), equalTo(new Object[]{5}));
+        assertThat(ReactiveSeq.fromList(Arrays.asList(1,2,3,4,5)).limitLast(1).toArray(), equalTo(new Object[]{5}));
+        assertThat(ReactiveSeq.reversedListOf(Arrays.asList(1,2,3,4,5)).limitLast(1).toArray(), equalTo(new Object[]{1}));
+        assertThat(ReactiveSeq.ofInts(1,2,3,4,5).limitLast(1).toArray(), equalTo(new Object[]{5}));
+        assertThat(ReactiveSeq.range(0,5).limitLast(1).toArray(), equalTo(new Object[]{4}));
+        assertThat(ReactiveSeq.of(1,2,3,4,5).map(i->i*2).limitLast(1).toArray(), equalTo(new Object[]{10}));
+        assertThat(ReactiveSeq.of(1,2,3,4,5).recover(e->-1).limitLast(1).toArray(), equalTo(new Object[]{5}));
+        assertThat(ReactiveSeq.of(1,2,3,4,5).zip(ReactiveSeq.of(1,2,3,4,5),(a,b)->a+b).limitLast(1).toArray(), equalTo(new Object[]{10}));
+        assertThat(ReactiveSeq.of(1,2,3,4,5).limitLast(1).foldParallel(s->s.toArray()), equalTo(new Object[]{5}));
+    }
+    @Test
+    public void sizeChangingStagesOnSizedSources(){
+        List<Function<ReactiveSeq<Integer>, ReactiveSeq<?>>> stages = Arrays.asList(
+                s -> s.limitLast(1), s -> s.limitLast(3), s -> s.skipLast(1), s -> s.skipLast(3),
+                s -> s.limit(3), s -> s.skip(2), s -> s.filter(i -> i % 2 == 0), s -> s.distinct(),
+                s -> s.limitWhile(i -> i < 3), s -> s.skipWhile(i -> i < 3), s -> s.zip(ReactiveSeq.of(1, 2)),
+                s -> s.scanLeft(0, (a, b) -> a + b), s -> s.sliding(2), s -> s.grouped(2),
+                s -> s.flatMap(i -> ReactiveSeq.of(i, i)), s -> s.append(9), s -> s.prepend(9),
+                s -> s.cycle(2), s -> s.recover(e -> -1), s -> s.map(i -> i + 1),
+                s -> s.slidingReduce(2, cyclops.Monoids.intSum));
+        List<Supplier<ReactiveSeq<Integer>>> sources = Arrays.asList(() -> ReactiveSeq.of(1, 2, 3, 4, 5),
+                () -> ReactiveSeq.fromList(Arrays.asList(1, 2, 3, 4, 5)), () -> ReactiveSeq.reversedListOf(Arrays.asList(1, 2, 3, 4, 5)),
+                () -> ReactiveSeq.ofInts(1, 2, 3, 4, 5), () -> ReactiveSeq.range(1, 6));
+        for(int i=0;i<sources.size();i++){
+            for(int j=0;j<stages.size();j++){
+                Supplier<ReactiveSeq<Integer>> source = sources.get(i);
+                Function<ReactiveSeq<Integer>, ReactiveSeq<?>> stage = stages.get(j);
+                Object[] expected = stage.apply(source.get()).toList().toArray();
+                assertThat("source " + i + " stage " + j, stage.apply(source.get()).toArray(), equalTo(expected));
+                assertThat("source " + i + " stage " + j, stage.apply(source.get()).foldParallel(s -> s.toArray()), equalTo(expected));
+            }
+        }
+    }
+    @Test
+    public void foldParallelSplitsSource(){
+        List<Integer> result = ReactiveSeq.of(array)
+                                          .map(i -> i + 1)
+                                          .foldParallel(s -> s.collect(Collectors.toList()));
+        assertThat(result, equalTo(expected.stream().map(i -> i + 1).collect(Collectors.toList())));
+    }
+}
@@ -0,0 +1,135 @@
+package com.aol.cyclops2.react;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+public class ScheduledRetryTest {
+
+	ScheduledExecutorService scheduler;
+	ScheduledRetry retry;
+
+	@Before
+	public void setup() {
+		scheduler = Executors.newScheduledThreadPool(1);
+		retry = ScheduledRetry.exponential(3, 10, TimeUnit.MILLISECONDS)
+							  .withScheduler(scheduler);
+	}
+	@After
+	public void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	public void succeedsAfterFailures() {
+		AtomicInteger attempts = new AtomicInteger(0);
+		CompletableFuture<String> result = retry.get(() -> {
+			if (attempts.incrementAndGet() < 3)
+				throw new RuntimeException("fail");
+			return "hello";
+		});
+		assertThat(result.join(), equalTo("hello"));
+		assertThat(attempts.get(), equalTo(3));
+	}
+
+	@Test
+	public void failsWithLastErrorWhenExhausted() {
+		AtomicInteger attempts = new AtomicInteger(0);
+		CompletableFuture<String> result = retry.apply(i -> {
+			throw ExceptionSoftener.throwSoftenedException(new IOException("attempt " + attempts.incrementAndGet()));
+		}, 1);
+		try {
+			result.join();
+			fail("exception expected");
+		} catch (CompletionException e) {
+			assertThat(e.getCause(), instanceOf(IOException.class));
+			assertThat(e.getCause().getMessage(), equalTo("attempt 3"));
+		}
+	}
+
+	@Test
+	public void retriesAsyncStages() {
+		AtomicInteger attempts = new AtomicInteger(0);
+		CompletableFuture<Integer> result = retry.compose(() -> {
+			CompletableFuture<Integer> f = new CompletableFuture<>();
+			if (attempts.incrementAndGet() == 1)
+				f.completeExceptionally(new RuntimeException("fail"));
+			else
+				f.complete(10);
+			return f;
+		});
+		assertThat(result.join(), equalTo(10));
+	}
+
+	@Test
+	public void backingOffHoldsNoThreads() {
+		ScheduledRetry slow = retry.withInitialDelay(200);
+		List<CompletableFuture<Integer>> results = new ArrayList<>();
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < 500; i++) {
+			AtomicInteger attempts = new AtomicInteger(0);
+			int value = i;
+			results.add(slow.get(() -> {
+				if (attempts.incrementAndGet() == 1)
+					throw new RuntimeException("fail");
+				return value;
+			}));
+		}
+		for (int i = 0; i < 500; i++)
+			assertThat(results.get(i).join(), equalTo(i));
+		//500 concurrent back-offs on a single scheduler thread complete in roughly one delay period
+		assertThat(System.currentTimeMillis() - start, lessThan(5_000L));
+	}
+
+	@Test
+	public void delaysCappedAndJittered() {
+		ScheduledRetry capped = retry.withMaxAttempts(4)
+									 .withInitialDelay(1_000)
+									 .withMaxDelay(20)
+									 .withJitter(0.5);
+		AtomicInteger attempts = new AtomicInteger(0);
+		long start = System.currentTimeMillis();
+		CompletableFuture<Integer> result = capped.get(() -> {
+			if (attempts.incrementAndGet() < 4)
+				throw new RuntimeException("fail");
+			return 1;
+		});
+		assertThat(result.join(), equalTo(1));
+		assertThat(System.currentTimeMillis() - start, lessThan(1_000L));
+	}
+
+	@Test
+	public void cancelStopsRetrying() throws InterruptedException {
+		AtomicInteger attempts = new AtomicInteger(0);
+		CompletableFuture<Integer> result = retry.withMaxAttempts(100)
+												 .withInitialDelay(50)
+												 .withMultiplier(1)
+												 .get(() -> {
+													 attempts.incrementAndGet();
+													 throw new RuntimeException("fail");
+												 });
+		result.cancel(false);
+		Thread.sleep(200);
+		assertTrue(result.isCancelled());
+		assertThat(attempts.get(), lessThan(3));
+	}
+}
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -436,6 +437,33 @@ public class FastFutureTest {
 		}
 
 	}
+	@Test
+	public void onComplete_allListenersCalledOnce() {
+		AtomicInteger first = new AtomicInteger(0);
+		AtomicInteger second = new AtomicInteger(0);
+		FastFuture f = future.<Integer, Integer> thenApply(i -> i + 2).build();
+		f.onComplete(event -> first.incrementAndGet());
+		f.essential(event -> second.incrementAndGet());
+		f.set(10);
+		f.onComplete(event -> first.incrementAndGet());
+		assertThat(first.get(), equalTo(2));
+		assertThat(second.get(), equalTo(1));
+	}
+
+	@Test
+	public void join_wokenOnCompletion() throws InterruptedException {
+		for (int i = 0; i < TIMES; i++) {
+			FastFuture f = future.<Integer, Integer> thenApply(x -> x + 2)
+					.build();
+			AtomicInteger result = new AtomicInteger(0);
+			Thread t1 = new Thread(() -> result.set((Integer) f.join()));
+			t1.start();
+			f.set(i);
+			t1.join();
+			assertThat(result.get(), equalTo(i + 2));
+		}
+	}
+
 	volatile boolean complete= false;
 	@Test
 	public void testAllOf() throws InterruptedException {
@@ -0,0 +1,92 @@
+package com.aol.cyclops2.react.async.future;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+import com.aol.cyclops2.internal.react.async.future.FinalPipeline;
+import com.aol.cyclops2.internal.react.async.future.FuturePool;
+
+public class FuturePoolTest {
+
+	FuturePool pool;
+	Supplier<FastFuture<Integer>> factory;
+
+	@Before
+	public void setup() {
+		pool = new FuturePool(10);
+		factory = () -> new FastFuture<>(FinalPipeline.empty(), f -> pool.done(f));
+	}
+
+	@Test
+	public void recycledOnIssuingThread() {
+		FastFuture<Integer> f = pool.next(factory);
+		f.set(10);
+		assertThat(f.join(), equalTo(10));
+		FastFuture<Integer> next = pool.next(factory);
+		assertThat(next, sameInstance(f));
+		assertFalse(next.isDone());
+	}
+
+	@Test
+	public void recycledOnOtherThread() throws InterruptedException {
+		FastFuture<Integer> f = pool.next(factory);
+		f.set(10);
+		Thread t = new Thread(() -> f.join());
+		t.start();
+		t.join();
+		assertThat(pool.next(factory), sameInstance(f));
+	}
+
+	@Test
+	public void recycledOncePerUse() {
+		FastFuture<Integer> f = pool.next(factory);
+		f.set(10);
+		f.join();
+		f.markComplete();
+		assertThat(pool.next(factory), sameInstance(f));
+		assertThat(pool.next(factory), not(sameInstance(f)));
+	}
+
+	@Test
+	public void notRecycledUntilComplete() {
+		FastFuture<Integer> f = pool.next(factory);
+		f.markComplete();
+		assertThat(pool.next(factory), not(sameInstance(f)));
+	}
+
+	@Test
+	public void releaseGuard() {
+		FastFuture<Integer> f = new FastFuture<>();
+		assertFalse(f.release());
+		f.set(1);
+		assertTrue(f.release());
+		assertFalse(f.release());
+		f.clearFast();
+		f.set(2);
+		assertTrue(f.release());
+	}
+
+	@Test
+	public void reissuedFutureRunsPipeline() {
+		FastFuture<Integer> f = pool.next(factory);
+		f.set(10);
+		f.join();
+		FastFuture<Integer> next = pool.next(factory);
+		AtomicReference<Object> result = new AtomicReference<>();
+		next.onComplete(c -> result.set(c.result));
+		next.set(20);
+		assertThat(result.get(), equalTo(20));
+		assertThat(next.join(), equalTo(20));
+	}
+}
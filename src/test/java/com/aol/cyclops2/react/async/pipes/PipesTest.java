@@ -14,6 +14,7 @@ import java.util.NoSuchElementException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import cyclops.async.*;
 import cyclops.control.Eval;
@@ -27,6 +28,8 @@ import cyclops.collections.ListX;
 import com.aol.cyclops2.types.stream.reactive.SeqSubscriber;
 
 import lombok.val;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import reactor.core.publisher.Flux;
 public class PipesTest {
     Pipes<String,String> pipes;
@@ -36,6 +39,158 @@ public class PipesTest {
 		pipes = Pipes.of(new HashMap<>());
 	}
 	
+	@Test
+	public void publishToWithPrefetchNeverBlocks(){
+		Pipes<String,Integer> bus = Pipes.of();
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(16).build();
+		bus.register("reactor", queue);
+		cyclops.async.Future<Void> done = bus.publishTo("reactor",Flux.range(0,1000),8);
+		assertThat(queue.size(),equalTo(16));
+		assertFalse(done.isDone());
+		List<Integer> result = queue.stream().limit(1000).toList();
+		assertThat(result,equalTo(ReactiveSeq.range(0,1000).toList()));
+		assertTrue(done.isDone());
+	}
+	@Test
+	public void publishToWithPrefetchCompletesExceptionally(){
+		Pipes<String,Integer> bus = Pipes.of();
+		bus.register("reactor", new Queue<>());
+		cyclops.async.Future<Void> done = bus.publishTo("reactor",Flux.<Integer>error(new IllegalStateException()),8);
+		assertTrue(done.isFailed());
+	}
+	@Test
+	public void subscribeToInBatches() throws InterruptedException{
+		Pipes<String,Integer> bus = Pipes.of();
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		bus.register("reactor", queue);
+		List<Integer> result = new java.util.concurrent.CopyOnWriteArrayList<>();
+		java.util.concurrent.CountDownLatch complete = new java.util.concurrent.CountDownLatch(1);
+		bus.subscribeTo("reactor",new Subscriber<Integer>() {
+			Subscription s;
+			@Override
+			public void onSubscribe(Subscription s) {
+				this.s = s;
+				s.request(2);
+			}
+			@Override
+			public void onNext(Integer t) {
+				result.add(t);
+				if(result.size()%2==0)
+					s.request(2);
+			}
+			@Override
+			public void onError(Throwable t) {
+			}
+			@Override
+			public void onComplete() {
+				complete.countDown();
+			}
+		},10,ForkJoinPool.commonPool());
+		queue.offerAll(Arrays.asList(1,2,3,4,5));
+		queue.close();
+		assertTrue(complete.await(5,TimeUnit.SECONDS));
+		assertThat(result,equalTo(Arrays.asList(1,2,3,4,5)));
+	}
+	@Test
+	public void lazyCreatesOnPush(){
+		Pipes<String,Integer> bus = Pipes.lazy(k->QueueFactories.<Integer>boundedNonBlockingQueue(100).build());
+		assertThat(bus.size(),equalTo(0));
+		bus.push("a",1);
+		bus.push("a",2);
+		bus.push("b",3);
+		assertThat(bus.size(),equalTo(2));
+		assertThat(bus.metrics("a").get().getDepth(),equalTo(2l));
+		assertThat(bus.metrics("a").get().getPushed(),equalTo(2l));
+		assertThat(bus.metrics("c").isPresent(),equalTo(false));
+		bus.close("a");
+		assertThat(bus.reactiveSeq("a").get().toList(),equalTo(Arrays.asList(1,2)));
+	}
+	@Test
+	public void lazyLookupsDoNotCreate(){
+		Pipes<String,Integer> bus = Pipes.lazy(k->QueueFactories.<Integer>boundedNonBlockingQueue(100).build());
+		assertThat(bus.get("a").isPresent(),equalTo(false));
+		assertThat(bus.reactiveSeq("a").isPresent(),equalTo(false));
+		assertThat(bus.xValues("a",1).size(),equalTo(0));
+		assertThat(bus.size(),equalTo(0));
+		SeqSubscriber<Integer> sub = SeqSubscriber.subscriber();
+		bus.subscribeTo("a",sub,ForkJoinPool.commonPool());
+		bus.push("a",1);
+		bus.close("a");
+		assertThat(sub.stream().toList(),equalTo(Arrays.asList(1)));
+		assertThat(bus.size(),equalTo(1));
+	}
+	@Test
+	public void idleTimeTrackedWithoutEviction() throws InterruptedException{
+		Pipes<String,Integer> bus = Pipes.lazy(k->QueueFactories.<Integer>boundedNonBlockingQueue(100).build());
+		bus.push("a",1);
+		Thread.sleep(100);
+		bus.push("a",2);
+		assertThat(bus.metrics("a").get().getIdleNanos()<TimeUnit.MILLISECONDS.toNanos(100),equalTo(true));
+	}
+	@Test
+	public void idleAdaptersEvicted() throws InterruptedException{
+		Pipes<String,Integer> bus = Pipes.lazy(k->QueueFactories.<Integer>boundedNonBlockingQueue(100).build(),
+												50,TimeUnit.MILLISECONDS,Integer.MAX_VALUE,Runnable::run);
+		bus.push("idle",1);
+		Adapter<Integer> idle = bus.get("idle").get();
+		Thread.sleep(100);
+		bus.push("active",2);
+		assertThat(bus.size(),equalTo(1));
+		assertThat(bus.metrics("idle").isPresent(),equalTo(false));
+		assertThat(idle.stream().toList(),equalTo(Arrays.asList(1)));
+	}
+	@Test
+	public void leastRecentlyUsedEvictedOnSizePressure(){
+		Pipes<Integer,Integer> bus = Pipes.lazy(k->QueueFactories.<Integer>boundedNonBlockingQueue(100).build(),
+												-1,TimeUnit.MILLISECONDS,100,Runnable::run);
+		for(int i=0;i<100;i++)
+			bus.push(i,i);
+		bus.push(0,0);
+		bus.push(100,100);
+		assertThat(bus.size(),equalTo(90));
+		assertThat(bus.metrics(0).isPresent(),equalTo(true));
+		assertThat(bus.metrics(1).isPresent(),equalTo(false));
+		assertThat(bus.metrics(100).isPresent(),equalTo(true));
+	}
+	@Test
+	public void consumedAdaptersNotEvicted() throws InterruptedException{
+		Pipes<String,Integer> bus = Pipes.lazy(k->QueueFactories.<Integer>boundedQueue(100).build(),
+												100,TimeUnit.MILLISECONDS,Integer.MAX_VALUE,Runnable::run);
+		bus.push("busy",1);
+		bus.push("busy",2);
+		bus.push("busy",3);
+		Queue<Integer> busy = (Queue<Integer>)bus.get("busy").get();
+		List<Integer> read = new ArrayList<>();
+		for(int i=0;i<3;i++){
+			Thread.sleep(60);
+			read.add(busy.get());
+			bus.push("other",i);
+			Thread.sleep(60);
+			bus.push("other",i);
+		}
+		assertThat(read,equalTo(Arrays.asList(1,2,3)));
+		assertThat(bus.metrics("busy").isPresent(),equalTo(true));
+		assertTrue(busy.isOpen());
+	}
+	@Test
+	public void evictionSweepsRunOnExecutor(){
+		List<Runnable> sweeps = new ArrayList<>();
+		Pipes<Integer,Integer> bus = Pipes.lazy(k->QueueFactories.<Integer>boundedNonBlockingQueue(100).build(),
+												-1,TimeUnit.MILLISECONDS,10,sweeps::add);
+		for(int i=0;i<12;i++)
+			bus.push(i,i);
+		assertThat(bus.size(),equalTo(12));
+		assertThat(sweeps.size(),equalTo(1));
+		sweeps.get(0).run();
+		assertThat(bus.size(),equalTo(9));
+		assertThat(bus.metrics(0).isPresent(),equalTo(false));
+		assertThat(bus.metrics(11).isPresent(),equalTo(true));
+		bus.push(12,12);
+		assertThat(sweeps.size(),equalTo(1));
+		bus.push(13,13);
+		bus.push(14,14);
+		assertThat(sweeps.size(),equalTo(2));
+	}
 	@Test
 	public void evalIssue(){
 	    
@@ -0,0 +1,80 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import cyclops.async.LazyReact;
+
+public class AdaptiveMaxActiveTest {
+
+	@Test
+	public void aimdIncreasesWhileUnderTarget() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(2, 100, 10, TimeUnit.MILLISECONDS);
+		for(int i=0;i<1000;i++){
+			limit.sample(TimeUnit.MILLISECONDS.toNanos(1), limit.getMaxActive());
+		}
+		assertThat(limit.getMaxActive(),greaterThan(2));
+		assertThat(limit.getReduceTo(),lessThan(limit.getMaxActive()));
+	}
+	@Test
+	public void aimdBacksOffOverTarget() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(2, 100, 10, TimeUnit.MILLISECONDS);
+		for(int i=0;i<1000;i++){
+			limit.sample(TimeUnit.MILLISECONDS.toNanos(1), limit.getMaxActive());
+		}
+		int grown = limit.getMaxActive();
+		for(int i=0;i<1000;i++){
+			limit.sample(TimeUnit.MILLISECONDS.toNanos(50), limit.getMaxActive());
+		}
+		assertThat(limit.getMaxActive(),lessThan(grown));
+		assertThat(limit.getMaxActive(),equalTo(2));
+	}
+	@Test
+	public void aimdStaysWithinBounds() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(2, 10, 10, TimeUnit.MILLISECONDS);
+		for(int i=0;i<10_000;i++){
+			limit.sample(TimeUnit.MILLISECONDS.toNanos(1), limit.getMaxActive());
+		}
+		assertThat(limit.getMaxActive(),equalTo(10));
+	}
+	@Test
+	public void gradientFollowsLatency() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.gradient(4, 1000);
+		for(int i=0;i<5_000;i++){
+			limit.sample(TimeUnit.MILLISECONDS.toNanos(1), limit.getMaxActive());
+		}
+		int grown = limit.getMaxActive();
+		assertThat(grown,greaterThan(4));
+		for(int i=0;i<500;i++){
+			limit.sample(TimeUnit.MILLISECONDS.toNanos(10), limit.getMaxActive());
+		}
+		assertThat(limit.getMaxActive(),lessThan(grown));
+	}
+	@Test
+	public void metrics() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.aimd(1, 100, 10, TimeUnit.MILLISECONDS);
+		for(int i=0;i<10;i++){
+			limit.sample(TimeUnit.MILLISECONDS.toNanos(i+1), 1);
+		}
+		AdaptiveMaxActive.Metrics metrics = limit.metrics();
+		assertThat(metrics.getCompleted(),equalTo(10l));
+		assertThat(metrics.getMinLatencyNanos(),equalTo(TimeUnit.MILLISECONDS.toNanos(1)));
+		assertThat(metrics.getLimit(),equalTo(limit.getMaxActive()));
+	}
+	@Test
+	public void lazyReactReportsCompletions() {
+		AdaptiveMaxActive limit = AdaptiveMaxActive.gradient(2, 50);
+		assertThat(new LazyReact().maxActive(limit)
+								  .range(0,1000)
+								  .map(i->i*2)
+								  .toList()
+								  .size(),equalTo(1000));
+		assertThat(limit.metrics().getCompleted(),equalTo(1000l));
+	}
+}
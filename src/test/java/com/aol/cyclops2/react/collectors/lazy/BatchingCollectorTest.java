@@ -1,13 +1,16 @@
 package com.aol.cyclops2.react.collectors.lazy;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 
 import cyclops.stream.FutureStream;
 import org.junit.Before;
@@ -31,44 +34,49 @@ public class BatchingCollectorTest {
 		}
 	}
 	@Test
-	public void testAcceptMock() {
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+	public void testAcceptCompletedHandedOn() {
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(10l));
 		}
-		verify(cf,atLeastOnce()).isDone();
+		assertThat(collector.getResults().size(),equalTo(1000));
 	}
 	@Test
-	public void testAcceptMock495() {
-		collector = new BatchingCollector(new MaxActive(500,5), FutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+	public void testAcceptBlocksUntilReduceTo() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(5,2), FutureStream.of(1)).withResults(new ArrayList<>());
+		List<FastFuture> futures = new ArrayList<>();
+		for(int i=0;i<6;i++){
+			futures.add(new FastFuture());
 		}
-		verify(cf,times(501)).isDone();
+		Thread t = new Thread(()->futures.forEach(collector::accept));
+		t.start();
+		t.join(100);
+		assertTrue(t.isAlive());
+		for(int i=0;i<3;i++){
+			futures.get(i).set(i);
+		}
+		t.join(100);
+		assertTrue(t.isAlive());
+		futures.get(3).set(3);
+		t.join(5000);
+		assertFalse(t.isAlive());
+		assertThat(collector.getAllResults().size(),equalTo(6));
 	}
 	@Test
 	public void testAcceptMock50() {
 		collector = new BatchingCollector(new MaxActive(500,450), FutureStream.of(1)).withResults(new ArrayList<>());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		verify(cf,times(501)).isDone();
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 
 	@Test
 	public void testBuilder() {
 		collector = BatchingCollector.builder().blocking(FutureStream.of(1)).maxActive(new MaxActive(2,1)).results(new ArrayList<>()).build();
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		verify(cf,times(999)).isDone();
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 
 	@Test
@@ -85,12 +93,10 @@ public class BatchingCollectorTest {
 	@Test
 	public void testBatchingCollectorMaxActive() {
 		collector = new BatchingCollector(new MaxActive(10,5), FutureStream.of(1)).withResults(new HashSet<>());
-		FastFuture cf = Mockito.mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		verify(cf,times(990)).isDone();
+		assertThat(collector.getAllResults().size(),equalTo(1000));
 	}
 
 
@@ -1,13 +1,13 @@
 package com.aol.cyclops2.react.collectors.lazy;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.atLeastOnce;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -28,33 +28,41 @@ public class EmptyCollectorTest {
 		}
 	}
 	@Test
-	public void testAcceptMock() {
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
+	public void testAcceptFailedJoined() {
+		AtomicInteger joined = new AtomicInteger(0);
+		collector = new EmptyCollector<>(MaxActive.IO,cf -> joined.incrementAndGet());
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(i%2==0 ? FastFuture.completedFuture(i) : FastFuture.failedFuture(new RuntimeException()));
 		}
-		verify(cf,atLeastOnce()).isDone();
+		assertThat(joined.get(),is(500));
 	}
 	@Test
-	public void testAcceptMock495() {
-		collector = new EmptyCollector<>(new MaxActive(500,5),cf -> cf.join());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
-		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+	public void testAcceptBlocksUntilReduceTo() throws InterruptedException {
+		collector = new EmptyCollector<>(new MaxActive(5,2),cf -> cf.join());
+		List<FastFuture> futures = new ArrayList<>();
+		for(int i=0;i<6;i++){
+			futures.add(new FastFuture());
+		}
+		Thread t = new Thread(()->futures.forEach(collector::accept));
+		t.start();
+		t.join(100);
+		assertTrue(t.isAlive());
+		for(int i=0;i<3;i++){
+			futures.get(i).set(i);
 		}
-		verify(cf,times(501)).isDone();
+		t.join(100);
+		assertTrue(t.isAlive());
+		futures.get(3).set(3);
+		t.join(5000);
+		assertFalse(t.isAlive());
 	}
 	@Test
 	public void testAcceptMock50() {
 		collector = new EmptyCollector<>(new MaxActive(500,450),cf -> cf.join());
-		FastFuture cf = mock(FastFuture.class);
-		given(cf.isDone()).willReturn(true);
 		for(int i=0;i<1000;i++){
-			collector.accept(cf);
+			collector.accept(FastFuture.completedFuture(i));
 		}
-		verify(cf,times(501)).isDone();
+		assertTrue(collector.hasCapacity(1));
 	}
 
 	@Test
@@ -4,10 +4,16 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import com.aol.cyclops2.react.collectors.lazy.MaxActive;
+
 import cyclops.async.LazyReact;
 
 public class FlatMapTest {
@@ -34,4 +40,43 @@ public class FlatMapTest {
 										.flatMapToCompletableFutureSync(i->CompletableFuture.completedFuture(i))
 										.block(),equalTo(Arrays.asList(1,2,3)));
 	}
+	@Test
+	public void flatMapCfDoesNotBlockPoolThreads(){
+		List<CompletableFuture<Integer>> pending = new CopyOnWriteArrayList<>();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->new LazyReact(Executors.newFixedThreadPool(1))
+										.withMaxActive(new MaxActive(1100,1000))
+										.range(0,1000)
+										.flatMapCompletableFuture(i->{
+											CompletableFuture<Integer> cf = new CompletableFuture<>();
+											pending.add(cf);
+											return cf;
+										})
+										.map(i->i*2)
+										.toList());
+		while(pending.size()<1000)
+			Thread.yield();
+		pending.forEach(cf->cf.complete(1));
+		assertThat(result.join().size(),equalTo(1000));
+		assertThat(result.join().stream().distinct().collect(Collectors.toList()),equalTo(Arrays.asList(2)));
+	}
+	@Test
+	public void flatMapCfSyncThenMap(){
+		assertThat( new LazyReact()
+										.of(1,2,3)
+										.sync()
+										.map(i->i+1)
+										.flatMapCompletableFuture(i->CompletableFuture.supplyAsync(()->i*10))
+										.map(i->i+1)
+										.block(),equalTo(Arrays.asList(21,31,41)));
+	}
+	@Test
+	public void flatMapCfRecoversAsyncFailure(){
+		CompletableFuture<Integer> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new RuntimeException("boom"));
+		assertThat( new LazyReact()
+										.of(1)
+										.flatMapCompletableFuture(i->failed)
+										.onFail(e->-1)
+										.block(),equalTo(Arrays.asList(-1)));
+	}
 }
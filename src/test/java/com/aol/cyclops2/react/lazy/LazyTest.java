@@ -2,14 +2,20 @@ package com.aol.cyclops2.react.lazy;
 
 
 import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import cyclops.stream.FutureStream;
@@ -17,6 +23,7 @@ import org.junit.Test;
 
 import cyclops.Semigroups;
 import cyclops.async.LazyReact;
+import cyclops.async.SimpleReact;
 import cyclops.collections.ListX;
 
 public class LazyTest {
@@ -272,4 +279,64 @@ public class LazyTest {
 		assertThat(LazyReact.parallelBuilder().react(asList(() -> 1))
 				.map(list -> 1 + 2).block(),equalTo(Arrays.asList(3)));
 	}
+
+	@Test
+	public void fusedStagesApplyInOrder() {
+		List<Integer> peeked = new CopyOnWriteArrayList<>();
+		assertThat(new LazyReact().of(1,2,3,4,5,6)
+				.map(i -> i + 1)
+				.filter(i -> i % 2 == 0)
+				.peek(peeked::add)
+				.map(i -> i * 10)
+				.filter(i -> i > 20)
+				.toList(),containsInAnyOrder(40,60));
+		assertThat(peeked,containsInAnyOrder(2,4,6));
+	}
+	@Test
+	public void fusedStageFailureHoldsInput() {
+		assertThat(new LazyReact().of(1,2,3)
+				.map(i -> i * 2)
+				.map(i -> {
+					if (i == 4)
+						throw new RuntimeException("boo!");
+					return i;
+				})
+				.map(i -> i + 1)
+				.onFail(e -> -(Integer)e.getValue())
+				.toList(),containsInAnyOrder(3,-4,7));
+	}
+	@Test
+	public void fusedStagesAfterFlatMap() {
+		assertThat(new LazyReact().of(1,2,3)
+				.map(i -> i + 1)
+				.flatMapCompletableFuture(i -> CompletableFuture.supplyAsync(() -> i * 2))
+				.filter(i -> i > 4)
+				.map(i -> i + 1)
+				.toList(),containsInAnyOrder(7,9));
+	}
+	@Test
+	public void virtualThreadsLimitedByMaxActive() {
+		AtomicInteger active = new AtomicInteger(0);
+		AtomicInteger peak = new AtomicInteger(0);
+		assertThat(LazyReact.virtualThreads(4).range(0,100)
+				.map(i -> {
+					peak.accumulateAndGet(active.incrementAndGet(),Math::max);
+					try {
+						Thread.sleep(5);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					active.decrementAndGet();
+					return i;
+				})
+				.toList().size(),equalTo(100));
+		assertThat(peak.get(),greaterThan(1));
+		assertThat(peak.get(),lessThanOrEqualTo(5));
+	}
+	@Test
+	public void virtualThreadsSimpleReact() {
+		assertThat(SimpleReact.virtualThreads().from(asList(1,2,3))
+				.then(i -> i * 2)
+				.block(),containsInAnyOrder(2,4,6));
+	}
 }
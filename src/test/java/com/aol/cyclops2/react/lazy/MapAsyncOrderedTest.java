@@ -0,0 +1,77 @@
+package com.aol.cyclops2.react.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import cyclops.async.LazyReact;
+
+public class MapAsyncOrderedTest {
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void inputOrderPreserved() {
+		List<Integer> input = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+		List<Integer> results = new LazyReact().from(input)
+											   .mapAsyncOrdered(8, i -> {
+												   sleep((200 - i) % 4);
+												   return i * 2;
+											   })
+											   .map(i -> i + 1)
+											   .toList();
+		assertThat(results, equalTo(input.stream().map(i -> i * 2 + 1).collect(Collectors.toList())));
+	}
+
+	@Test
+	public void inFlightBoundedByParallelism() {
+		AtomicInteger active = new AtomicInteger(0);
+		AtomicInteger peak = new AtomicInteger(0);
+		List<Integer> results = new LazyReact(10, 10).range(0, 50)
+													 .mapAsyncOrdered(3, i -> {
+														 peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+														 sleep(2);
+														 active.decrementAndGet();
+														 return i;
+													 })
+													 .toList();
+		assertThat(results, equalTo(IntStream.range(0, 50).boxed().collect(Collectors.toList())));
+		assertThat(peak.get(), lessThanOrEqualTo(3));
+	}
+
+	@Test
+	public void failuresRecoveredInOrder() {
+		List<Integer> results = new LazyReact().of(1, 2, 3, 4, 5)
+											   .mapAsyncOrdered(4, i -> {
+												   if (i % 2 == 0)
+													   throw new RuntimeException("even");
+												   sleep(5 - i);
+												   return i;
+											   })
+											   .recover(e -> -1)
+											   .toList();
+		assertThat(results, equalTo(Arrays.asList(1, -1, 3, -1, 5)));
+	}
+
+	@Test
+	public void defaultParallelismFromMaxActive() {
+		assertThat(new LazyReact().of(3, 2, 1)
+								  .mapAsyncOrdered(i -> i * 10)
+								  .toList(),
+				   equalTo(Arrays.asList(30, 20, 10)));
+	}
+}
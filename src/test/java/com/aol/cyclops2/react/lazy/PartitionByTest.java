@@ -0,0 +1,135 @@
+package com.aol.cyclops2.react.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cyclops.async.LazyReact;
+
+public class PartitionByTest {
+
+	ExecutorService async;
+
+	@Before
+	public void setup() {
+		async = Executors.newFixedThreadPool(4);
+	}
+	@After
+	public void tearDown() {
+		async.shutdown();
+	}
+
+	private List<Tuple2<Integer, Integer>> events(int keys, int perKey) {
+		return IntStream.range(0, keys * perKey)
+						.mapToObj(i -> Tuple.tuple(i % keys, i / keys))
+						.collect(Collectors.toList());
+	}
+	private void assertOrderedPerKey(List<Tuple2<Integer, Integer>> results, int keys, int perKey) {
+		assertThat(results.size(), equalTo(keys * perKey));
+		Map<Integer, List<Integer>> byKey = results.stream()
+												   .collect(Collectors.groupingBy(t -> t.v1,
+														   Collectors.mapping(t -> t.v2, Collectors.toList())));
+		for (int key = 0; key < keys; key++) {
+			List<Integer> expected = new ArrayList<>();
+			for (int i = 0; i < perKey; i++)
+				expected.add(i);
+			assertThat(byKey.get(key), equalTo(expected));
+		}
+	}
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void perKeyOrderThroughAsyncStages() {
+		Random random = new Random(0);
+		List<Tuple2<Integer, Integer>> results = new LazyReact().from(events(10, 30))
+																 .partitionBy(t -> t.v1, 4)
+																 .map(t -> {
+																	 if (random.nextInt(10) == 0)
+																		 sleep(1);
+																	 return t;
+																 })
+																 .flatMapCompletableFuture(t -> CompletableFuture.supplyAsync(() -> {
+																	 sleep(t.v2 % 3);
+																	 return t;
+																 }, async))
+																 .map(t -> t)
+																 .toList();
+		assertOrderedPerKey(results, 10, 30);
+	}
+
+	@Test
+	public void sameKeyNeverConcurrent() {
+		Map<Integer, AtomicInteger> active = new ConcurrentHashMap<>();
+		AtomicBoolean overlapped = new AtomicBoolean(false);
+		List<Tuple2<Integer, Integer>> results = new LazyReact().from(events(4, 25))
+																 .partitionBy(t -> t.v1, 4, new ForkJoinPool(4))
+																 .peek(t -> {
+																	 if (active.computeIfAbsent(t.v1, k -> new AtomicInteger()).incrementAndGet() > 1)
+																		 overlapped.set(true);
+																	 sleep(1);
+																	 active.get(t.v1).decrementAndGet();
+																 })
+																 .toList();
+		assertThat(overlapped.get(), is(false));
+		assertOrderedPerKey(results, 4, 25);
+	}
+
+	@Test
+	public void keysRunInParallel() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		AtomicBoolean timedOut = new AtomicBoolean(false);
+		new LazyReact().of(0, 1)
+					   .partitionBy(i -> i, 2, new ForkJoinPool(2))
+					   .map(i -> {
+						   bothStarted.countDown();
+						   try {
+							   if (!bothStarted.await(10, TimeUnit.SECONDS))
+								   timedOut.set(true);
+						   } catch (InterruptedException e) {
+							   Thread.currentThread().interrupt();
+						   }
+						   return i;
+					   })
+					   .toList();
+		assertThat(timedOut.get(), is(false));
+	}
+
+	@Test
+	public void partitionAfterStages() {
+		List<Tuple2<Integer, Integer>> results = LazyReact.sequentialBuilder()
+														  .from(events(5, 20))
+														  .map(t -> t)
+														  .partitionBy(t -> t.v1, 3)
+														  .flatMapCompletableFuture(t -> CompletableFuture.supplyAsync(() -> t, async))
+														  .toList();
+		assertOrderedPerKey(results, 5, 20);
+	}
+}
@@ -11,6 +11,7 @@ import java.net.SocketException;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import cyclops.stream.FutureStream;
@@ -20,6 +21,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import com.aol.cyclops2.react.ScheduledRetry;
 import com.aol.cyclops2.util.ExceptionSoftener;
 
 
@@ -106,6 +108,21 @@ public class RetryTest {
 		assertThat(result, is("42"));
 	}
 
+	@Test
+	public void shouldSucceedAfterScheduledRetries() throws Exception {
+
+		given(serviceMock.apply(anyInt())).willThrow(
+				new RuntimeException(new SocketException("First")),
+				new RuntimeException(new IOException("Second"))).willReturn(
+				"42");
+
+		String result = FutureStream.of( 1,  2, 3)
+				.retry(serviceMock, ScheduledRetry.exponential(3, 10, TimeUnit.MILLISECONDS))
+				.firstValue();
+
+		assertThat(result, is("42"));
+	}
+
 	private CompletableFuture<String> failedAsync(Throwable throwable) {
 		final CompletableFuture<String> future = new CompletableFuture<>();
 		future.completeExceptionally(throwable);
@@ -70,4 +70,12 @@ public class AsyncTest {
 	public void testParallelCommonSimple(){
 		assertThat(SimpleReact.parallelCommonBuilder().isAsync(),is(true));
 	}
+	@Test
+	public void testVirtualThreadsLazy(){
+		assertThat(LazyReact.virtualThreads().isAsync(),is(true));
+	}
+	@Test
+	public void testVirtualThreadsEager(){
+		assertThat(SimpleReact.virtualThreads().isAsync(),is(true));
+	}
 }
@@ -0,0 +1,133 @@
+package com.aol.cyclops2.streams;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import cyclops.stream.DoubleSeq;
+import cyclops.stream.IntSeq;
+import cyclops.stream.LongSeq;
+
+public class PrimitiveSeqTest {
+
+	private static List<List<Integer>> toLists(List<int[]> arrays) {
+		return arrays.stream()
+					 .map(a -> IntStream.of(a).boxed().collect(Collectors.toList()))
+					 .collect(Collectors.toList());
+	}
+
+	@Test
+	public void mapFilterSum() {
+		assertThat(IntSeq.of(1, 2, 3, 4).map(i -> i * 2).filter(i -> i > 2).sum(), is(18));
+		assertThat(IntSeq.range(0, 1000).map(i -> i * 2).filter(i -> i % 3 == 0).sum(),
+				   is(IntStream.range(0, 1000).map(i -> i * 2).filter(i -> i % 3 == 0).sum()));
+	}
+
+	@Test
+	public void replayable() {
+		IntSeq seq = IntSeq.of(1, 2, 3).map(i -> i + 1);
+		assertArrayEquals(new int[] { 2, 3, 4 }, seq.toArray());
+		assertArrayEquals(new int[] { 2, 3, 4 }, seq.toArray());
+		assertThat(seq.count(), is(3L));
+	}
+
+	@Test
+	public void scanLeft() {
+		assertArrayEquals(new int[] { 0, 1, 3, 6 }, IntSeq.of(1, 2, 3).scanLeft(0, (a, b) -> a + b).toArray());
+		assertArrayEquals(new int[] { 5 }, IntSeq.empty().scanLeft(5, (a, b) -> a + b).toArray());
+	}
+
+	@Test
+	public void zip() {
+		assertArrayEquals(new int[] { 11, 22 }, IntSeq.of(1, 2, 3).zip(IntSeq.of(10, 20), (a, b) -> a + b).toArray());
+	}
+
+	@Test
+	public void sliding() {
+		assertThat(toLists(IntSeq.of(1, 2, 3, 4, 5).sliding(3, 2).toList()),
+				   equalTo(asList(asList(1, 2, 3), asList(3, 4, 5))));
+		assertThat(toLists(IntSeq.of(1, 2, 3, 4).sliding(2).toList()),
+				   equalTo(asList(asList(1, 2), asList(2, 3), asList(3, 4))));
+		assertThat(toLists(IntSeq.of(1, 2, 3, 4).sliding(3, 2).toList()),
+				   equalTo(asList(asList(1, 2, 3), asList(3, 4))));
+		assertThat(toLists(IntSeq.of(1).sliding(3).toList()), equalTo(asList(asList(1))));
+	}
+
+	@Test
+	public void slidingMatchesReactiveSeq() {
+		for (int size = 1; size < 5; size++) {
+			for (int inc = 1; inc < 5; inc++) {
+				List<List<Integer>> expected = IntSeq.range(0, 11).boxed().sliding(size, inc).map(l -> (List<Integer>) l).toList();
+				assertThat(toLists(IntSeq.range(0, 11).sliding(size, inc).toList()), equalTo(expected));
+				List<int[]> stepped = IntSeq.range(0, 11).sliding(size, inc).limit(100).toList();
+				assertThat(toLists(stepped), equalTo(expected));
+			}
+		}
+	}
+
+	@Test
+	public void slidingMap() {
+		assertArrayEquals(new int[] { 3, 5, 7 }, IntSeq.of(1, 2, 3, 4).slidingMap(2, w -> w[0] + w[1]).toArray());
+		assertArrayEquals(new long[] { 6, 12 }, LongSeq.of(1, 2, 3, 4, 5).slidingMap(3, 2, w -> w[0] + w[1] + w[2]).toArray());
+		assertThat(DoubleSeq.of(2, 4, 6, 8).slidingMap(2, w -> (w[0] + w[1]) / 2).boxed().toList(), equalTo(asList(3.0, 5.0, 7.0)));
+		IntSeq sums = IntSeq.range(0, 100).slidingMap(10, 3, w -> IntStream.of(w).sum());
+		assertThat(sums.boxed().toList(), equalTo(IntSeq.range(0, 100).sliding(10, 3).map(w -> IntStream.of(w).sum()).toList()));
+		assertThat(sums.boxed().toList(), equalTo(IntSeq.range(0, 100).sliding(10, 3).map(w -> IntStream.of(w).sum()).toList()));
+	}
+
+	@Test
+	public void grouped() {
+		assertThat(toLists(IntSeq.range(0, 7).grouped(3).toList()),
+				   equalTo(asList(asList(0, 1, 2), asList(3, 4, 5), asList(6))));
+		assertThat(toLists(IntSeq.range(0, 7).grouped(3).limit(2).toList()),
+				   equalTo(asList(asList(0, 1, 2), asList(3, 4, 5))));
+	}
+
+	@Test
+	public void minMaxEmpty() {
+		assertThat(IntSeq.empty().max(), equalTo(OptionalInt.empty()));
+		assertThat(IntSeq.of(3, 9, 1).min(), equalTo(OptionalInt.of(1)));
+	}
+
+	@Test
+	public void boxed() {
+		assertThat(IntSeq.of(1, 2, 3).map(i -> i * 10).boxed().toList(), equalTo(asList(10, 20, 30)));
+		assertThat(IntSeq.of(1, 2, 3).toString(), equalTo("[1, 2, 3]"));
+	}
+
+	@Test
+	public void toStringDoesNotConsumeOneShotSource() {
+		IntSeq ints = IntSeq.fromIntStream(IntStream.of(1, 2, 3)).map(i -> i * 2);
+		assertThat(ints.toString(), equalTo("IntSeq[one shot]"));
+		assertThat(ints.sum(), is(12));
+		LongSeq longs = LongSeq.fromLongStream(java.util.stream.LongStream.of(1, 2, 3));
+		assertThat(longs.toString(), equalTo("LongSeq[one shot]"));
+		assertThat(longs.sum(), is(6L));
+		DoubleSeq doubles = DoubleSeq.fromDoubleStream(java.util.stream.DoubleStream.of(1, 2)).zip(DoubleSeq.of(1, 1), (a, b) -> a + b);
+		assertThat(doubles.toString(), equalTo("DoubleSeq[one shot]"));
+		assertThat(doubles.sum(), is(5.0));
+		assertThat(IntSeq.range(0, 3).zip(IntSeq.of(1, 1, 1), (a, b) -> a + b).toString(), equalTo("[1, 2, 3]"));
+	}
+
+	@Test
+	public void longSeq() {
+		assertThat(LongSeq.range(0, 100_000).map(i -> i * i).filter(i -> i % 2 == 0).sum(),
+				   is(java.util.stream.LongStream.range(0, 100_000).map(i -> i * i).filter(i -> i % 2 == 0).sum()));
+		assertArrayEquals(new long[] { 1, 3, 6 }, LongSeq.of(1, 2, 3).scanLeft(0, Long::sum).filter(l -> l > 0).toArray());
+	}
+
+	@Test
+	public void doubleSeq() {
+		assertThat(DoubleSeq.of(1, 2, 3).map(d -> d / 2).sum(), is(3.0));
+		assertThat(DoubleSeq.of(1, 2, 3, 4).sliding(2).map(w -> (w[0] + w[1]) / 2).toList(), equalTo(asList(1.5, 2.5, 3.5)));
+	}
+}
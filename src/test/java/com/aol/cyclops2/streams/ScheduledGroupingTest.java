@@ -0,0 +1,207 @@
+package com.aol.cyclops2.streams;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cyclops.async.LazyReact;
+import cyclops.async.Queue;
+import cyclops.collections.ListX;
+import cyclops.collections.SetX;
+import cyclops.stream.ReactiveSeq;
+
+public class ScheduledGroupingTest {
+
+	ScheduledExecutorService ex;
+
+	@Before
+	public void setup() {
+		ex = Executors.newScheduledThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		ex.shutdownNow();
+	}
+
+	@Test
+	public void quietSourceFlushesPartialBatch() throws Exception {
+		Queue<Integer> queue = new Queue<>();
+		Iterator<ListX<Integer>> it = queue.stream()
+										   .groupedByTime(50, TimeUnit.MILLISECONDS, ex)
+										   .iterator();
+		queue.offer(1);
+		queue.offer(2);
+		long start = System.currentTimeMillis();
+		assertThat(it.next(), equalTo(asList(1, 2)));
+		assertThat(System.currentTimeMillis() - start, lessThan(1000l));
+		queue.offer(3);
+		assertThat(it.next(), equalTo(asList(3)));
+		queue.close();
+	}
+
+	@Test
+	public void flushesBySize() {
+		assertThat(ReactiveSeq.of(1, 2, 3, 4, 5, 6, 7)
+							  .groupedBySizeAndTime(3, 10, TimeUnit.SECONDS, ex)
+							  .toList(),
+				   equalTo(asList(asList(1, 2, 3), asList(4, 5, 6), asList(7))));
+	}
+
+	@Test
+	public void completionFlushesRemainder() {
+		assertThat(ReactiveSeq.of(1, 2, 3).groupedByTime(1, TimeUnit.HOURS, ex).toList(), equalTo(asList(asList(1, 2, 3))));
+		assertThat(ReactiveSeq.<Integer>empty().groupedByTime(1, TimeUnit.HOURS, ex).toList().size(), equalTo(0));
+	}
+
+	@Test
+	public void preservesOrder() {
+		List<Integer> flattened = ReactiveSeq.range(0, 100_000)
+											 .groupedBySizeAndTime(100, 1, TimeUnit.MILLISECONDS, ex)
+											 .flatMap(l -> l.stream())
+											 .toList();
+		assertThat(flattened, equalTo(ReactiveSeq.range(0, 100_000).toList()));
+	}
+
+	@Test
+	public void factoryAndFinalizer() {
+		assertThat(ReactiveSeq.of(1, 1, 2, 2, 3)
+							  .groupedBySizeAndTime(2, 1, TimeUnit.HOURS, ex, () -> SetX.<Integer>empty(), s -> s.size())
+							  .toList(),
+				   equalTo(asList(2, 2)));
+	}
+
+	@Test
+	public void limitDoesNotBlock() {
+		assertThat(ReactiveSeq.iterate(0, i -> i + 1)
+							  .groupedBySizeAndTime(10, 1, TimeUnit.HOURS, ex)
+							  .limit(3)
+							  .toList()
+							  .size(),
+				   equalTo(3));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void errorsAreRethrown() {
+		ReactiveSeq.of(1, 2, 3)
+				   .map(i -> {
+					   if (i == 3)
+						   throw new IllegalStateException();
+					   return i;
+				   })
+				   .groupedByTime(1, TimeUnit.HOURS, ex)
+				   .toList();
+	}
+
+	@Test
+	public void singleThreadedSchedulerFlushesQuietSource() throws Exception {
+		ScheduledExecutorService single = Executors.newSingleThreadScheduledExecutor();
+		Queue<Integer> queue = new Queue<>();
+		try {
+			Iterator<ListX<Integer>> it = queue.stream()
+											   .groupedByTime(50, TimeUnit.MILLISECONDS, single)
+											   .iterator();
+			queue.offer(1);
+			queue.offer(2);
+			long start = System.currentTimeMillis();
+			assertThat(it.next(), equalTo(asList(1, 2)));
+			assertThat(System.currentTimeMillis() - start, lessThan(1000l));
+			queue.offer(3);
+			assertThat(it.next(), equalTo(asList(3)));
+		} finally {
+			queue.close();
+			single.shutdownNow();
+		}
+	}
+
+	@Test
+	public void singleThreadedScheduler() {
+		ScheduledExecutorService single = Executors.newSingleThreadScheduledExecutor();
+		try {
+			AtomicInteger count = new AtomicInteger(0);
+			List<ListX<Integer>> batches = ReactiveSeq.generate(() -> {
+														  sleep(5);
+														  return count.incrementAndGet();
+													  })
+													  .limit(60)
+													  .groupedByTime(50, TimeUnit.MILLISECONDS, single)
+													  .toList();
+			assertThat(batches.size(), greaterThan(1));
+			assertThat(batches.stream().flatMap(l -> l.stream()).collect(Collectors.toList()),
+					   equalTo(ReactiveSeq.range(1, 61).toList()));
+			assertThat(ReactiveSeq.of(1, 2, 3, 4, 5, 6, 7)
+								  .groupedBySizeAndTime(3, 10, TimeUnit.SECONDS, single)
+								  .toList(),
+					   equalTo(asList(asList(1, 2, 3), asList(4, 5, 6), asList(7))));
+		} finally {
+			single.shutdownNow();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void finalizerErrorOnTickIsRethrown() {
+		Queue<Integer> queue = new Queue<>();
+		queue.offer(1);
+		try {
+			queue.stream()
+				 .groupedBySizeAndTime(10, 10, TimeUnit.MILLISECONDS, ex, () -> ListX.<Integer>empty(), l -> {
+					 throw new IllegalStateException();
+				 })
+				 .toList();
+		} finally {
+			queue.close();
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void finalizerErrorOnTickIsRethrownSingleThreaded() {
+		ScheduledExecutorService single = Executors.newSingleThreadScheduledExecutor();
+		try {
+			ReactiveSeq.generate(() -> {
+						   sleep(5);
+						   return 1;
+					   })
+					   .groupedBySizeAndTime(1000, 10, TimeUnit.MILLISECONDS, single, () -> ListX.<Integer>empty(), l -> {
+						   throw new IllegalStateException();
+					   })
+					   .toList();
+		} finally {
+			single.shutdownNow();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void futureStream() {
+		List<Integer> flattened = new LazyReact().range(0, 1000)
+												 .groupedBySizeAndTime(10, 5, TimeUnit.MILLISECONDS, ex)
+												 .toList()
+												 .stream()
+												 .flatMap(l -> l.stream())
+												 .sorted()
+												 .collect(Collectors.toList());
+		assertThat(flattened, equalTo(ReactiveSeq.range(0, 1000).toList()));
+		assertThat(new LazyReact().of(1, 2, 3).groupedByTime(1, TimeUnit.HOURS, ex).toList().size(), equalTo(1));
+	}
+}
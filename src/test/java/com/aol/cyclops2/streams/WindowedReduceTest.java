@@ -0,0 +1,129 @@
+package com.aol.cyclops2.streams;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.jooq.lambda.tuple.Tuple2;
+import org.junit.Test;
+
+import cyclops.Groups;
+import cyclops.Monoids;
+import cyclops.function.Monoid;
+import cyclops.stream.ReactiveSeq;
+
+public class WindowedReduceTest {
+
+	List<Integer> random = new Random(7).ints(500, -1000, 1000).boxed().collect(java.util.stream.Collectors.toList());
+
+	private List<Integer> expected(List<Integer> data, int size, int increment, Monoid<Integer> monoid) {
+		return ReactiveSeq.fromIterable(data).sliding(size, increment).map(w -> w.stream().reduce(monoid.zero(), monoid)).toList();
+	}
+
+	@Test
+	public void slidingMax() {
+		assertThat(ReactiveSeq.of(1, 2, 3, 4, 5).slidingReduce(3, Monoids.intMax).toList(), equalTo(asList(3, 4, 5)));
+		assertThat(ReactiveSeq.of(5, 4, 3, 2, 1).slidingReduce(3, Monoids.intMax).toList(), equalTo(asList(5, 4, 3)));
+	}
+
+	@Test
+	public void slidingSumMovingAverage() {
+		assertThat(ReactiveSeq.of(1.0, 2.0, 3.0, 4.0).slidingReduce(2, Groups.doubleSum).map(s -> s / 2).toList(),
+				   equalTo(asList(1.5, 2.5, 3.5)));
+	}
+
+	@Test
+	public void rollingAverage() {
+		assertThat(ReactiveSeq.of(1.0, 2.0, 3.0, 4.0)
+							  .map(d -> Tuple.tuple(d, 1l))
+							  .slidingReduce(2, Groups.doubleAverage)
+							  .map(Groups::average)
+							  .toList(),
+				   equalTo(asList(1.5, 2.5, 3.5)));
+		assertThat(ReactiveSeq.of(2.0, 4.0, 9.0)
+							  .map(d -> Tuple.tuple(d, 1l))
+							  .slidingReduce(5, Groups.doubleAverage)
+							  .map(Groups::average)
+							  .toList(),
+				   equalTo(asList(5.0)));
+		assertThat(Groups.average(Groups.doubleAverage.zero()), equalTo(0.0));
+	}
+
+	@Test
+	public void matchesSlidingForMonoidsAndGroups() {
+		for (int size : new int[] { 1, 4, 7, 10, 33 }) {
+			for (int inc = 1; inc < 5; inc++) {
+				assertThat(ReactiveSeq.fromIterable(random).slidingReduce(size, inc, Monoids.intMax).toList(),
+						   equalTo(expected(random, size, inc, Monoids.intMax)));
+				assertThat(ReactiveSeq.fromIterable(random).slidingReduce(size, inc, Monoids.intMin).toList(),
+						   equalTo(expected(random, size, inc, Monoids.intMin)));
+				assertThat(ReactiveSeq.fromIterable(random).slidingReduce(size, inc, Groups.intSum).toList(),
+						   equalTo(expected(random, size, inc, Monoids.intSum)));
+			}
+		}
+	}
+
+	@Test
+	public void nonCommutativeMonoid() {
+		List<String> data = asList("a", "b", "c", "d", "e", "f", "g");
+		Monoid<String> concat = Monoid.of("", (a, b) -> a + b);
+		assertThat(ReactiveSeq.fromIterable(data).slidingReduce(3, concat).toList(), equalTo(asList("abc", "bcd", "cde", "def", "efg")));
+	}
+
+	@Test
+	public void partialWindowAndIteration() {
+		assertThat(ReactiveSeq.of(1, 2).slidingReduce(5, Groups.intSum).toList(), equalTo(asList(3)));
+		assertThat(ReactiveSeq.<Integer>empty().slidingReduce(5, Groups.intSum).toList().size(), equalTo(0));
+		assertThat(ReactiveSeq.fromIterator(ReactiveSeq.fromIterable(random).slidingReduce(7, 2, Monoids.intMax).iterator()).toList(),
+				   equalTo(expected(random, 7, 2, Monoids.intMax)));
+	}
+
+	@Test
+	public void slidingByEventTime() {
+		List<Tuple2<Long, Integer>> events = asList(Tuple.tuple(0l, 1), Tuple.tuple(400l, 2), Tuple.tuple(900l, 3),
+													Tuple.tuple(1000l, 4), Tuple.tuple(2500l, 5));
+		Monoid<Tuple2<Long, Integer>> sum = Monoid.of(Tuple.tuple(0l, 0), (a, b) -> Tuple.tuple(b.v1, a.v2 + b.v2));
+		assertThat(ReactiveSeq.fromIterable(events)
+							  .slidingReduceByTime(1000, TimeUnit.MILLISECONDS, t -> t.v1, sum)
+							  .map(t -> t.v2)
+							  .toList(),
+				   equalTo(asList(1, 3, 6, 9, 5)));
+	}
+
+	@Test
+	public void slidingByProcessingTime() {
+		assertThat(ReactiveSeq.of(1, 2, 3, 4).slidingReduceByTime(1, TimeUnit.HOURS, Groups.intSum).toList(),
+				   equalTo(asList(1, 3, 6, 10)));
+		assertThat(ReactiveSeq.fromIterable(random).slidingReduceByTime(1, TimeUnit.HOURS, Monoids.intMax).toList(),
+				   equalTo(ReactiveSeq.fromIterable(random).scanLeft(Integer.MIN_VALUE, Math::max).skip(1).toList()));
+	}
+
+	@Test
+	public void sessions() {
+		List<Tuple2<Long, Integer>> events = asList(Tuple.tuple(0l, 1), Tuple.tuple(10l, 2), Tuple.tuple(100l, 3),
+													Tuple.tuple(120l, 4), Tuple.tuple(135l, 5), Tuple.tuple(500l, 6));
+		Monoid<Tuple2<Long, Integer>> sum = Monoid.of(Tuple.tuple(0l, 0), (a, b) -> Tuple.tuple(b.v1, a.v2 + b.v2));
+		List<Integer> expected = asList(3, 12, 6);
+		assertThat(ReactiveSeq.fromIterable(events)
+							  .sessionReduce(50, TimeUnit.MILLISECONDS, t -> t.v1, sum)
+							  .map(t -> t.v2)
+							  .toList(),
+				   equalTo(expected));
+		assertThat(ReactiveSeq.fromIterator(ReactiveSeq.fromIterable(events)
+													   .sessionReduce(50, TimeUnit.MILLISECONDS, t -> t.v1, sum)
+													   .iterator())
+							  .map(t -> t.v2)
+							  .toList(),
+				   equalTo(expected));
+	}
+
+	@Test
+	public void sessionsByProcessingTime() {
+		assertThat(ReactiveSeq.of(1, 2, 3).sessionReduce(1, TimeUnit.HOURS, Monoids.intSum).toList(), equalTo(asList(6)));
+	}
+}
@@ -162,6 +162,34 @@ public class WindowingTest {
 		assertThat(sliding, contains(asList(1, 2), asList(3, 4), asList(5)));
 	}
 
+	@Test
+	public void slidingWindowsAreStableAcrossBufferGrowth() {
+		List<PVectorX<Integer>> sliding = ReactiveSeq.range(0, 1000).sliding(20, 3).toList();
+		for (int i = 0; i < sliding.size(); i++) {
+			PVectorX<Integer> window = sliding.get(i);
+			int first = i * 3;
+			assertThat(window.size(), equalTo(Math.min(20, 1000 - first)));
+			for (int j = 0; j < window.size(); j++)
+				assertThat(window.get(j), equalTo(first + j));
+		}
+		Iterator<PVectorX<Integer>> it = ReactiveSeq.range(0, 1000).sliding(20, 3).iterator();
+		assertThat(ReactiveSeq.fromIterator(it).toList(), equalTo(sliding));
+	}
+
+	@Test
+	public void slidingWindowsAreImmutable() {
+		PVectorX<Integer> window = ReactiveSeq.of(1, 2, 3, 4).sliding(3).toList().get(0);
+		assertThat(window.plus(10), contains(1, 2, 3, 10));
+		assertThat(window.minus(0), contains(2, 3));
+		assertThat(window.subList(1, 3), contains(2, 3));
+		assertThat(window, contains(1, 2, 3));
+	}
+
+	@Test
+	public void slidingNulls() {
+		assertThat(ReactiveSeq.of(1, null, 3).sliding(2).toList(), contains(asList(1, null), asList(null, 3)));
+	}
+
 	@Test
 	public void groupedOnEmpty() throws Exception {
 			assertThat( empty.grouped(10).count(),equalTo(0l));
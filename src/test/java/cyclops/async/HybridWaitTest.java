@@ -0,0 +1,90 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.junit.Test;
+
+import cyclops.async.wait.HybridWait;
+import cyclops.async.wait.WaitStrategy.Offerable;
+import cyclops.async.wait.WaitStrategy.Takeable;
+
+public class HybridWaitTest {
+	int called = 0;
+	Takeable<String> takeable = ()->{ 
+		called++;
+		if(called<500)
+			return null;
+		return "hello";
+	};
+	Offerable offerable = ()->{ 
+		called++;
+		if(called<500)
+			return false;
+		return true;
+	};
+	@Test
+	public void testTakeable() throws InterruptedException {
+		
+		called =0;
+		String result = new HybridWait<String>(10,10,1000).take(takeable);
+		assertThat(result,equalTo("hello"));
+		assertThat(called,equalTo(500));
+		
+	}
+	@Test
+	public void testOfferable() throws InterruptedException {
+		called =0;
+		boolean result = new HybridWait<String>(10,10,1000).offer(offerable);
+		assertThat(result,equalTo(true));
+		assertThat(called,equalTo(500));
+	}
+	@Test
+	public void testwithQueue(){
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new HybridWait<>(),
+									new HybridWait<>());
+		
+		q.offer("hello");
+		assertThat(q.get(),equalTo("hello"));
+	}
+	@Test
+	public void parkedConsumerWokenByOffer() throws Exception {
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new HybridWait<>(),
+									new HybridWait<>(0,0,TimeUnit.DAYS.toNanos(1)));
+		CompletableFuture<String> result = CompletableFuture.supplyAsync(()->q.get());
+		Thread.sleep(100);
+		q.offer("hello");
+		assertThat(result.get(5,TimeUnit.SECONDS),equalTo("hello"));
+	}
+	@Test
+	public void parkedProducerWokenByTake() throws Exception {
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(2),
+									new HybridWait<>(0,0,TimeUnit.DAYS.toNanos(1)),
+									new HybridWait<>());
+		int size = 0;
+		while(q.add("hello"))
+			size++;
+		CompletableFuture<Boolean> result = CompletableFuture.supplyAsync(()->q.offer("world"));
+		Thread.sleep(100);
+		assertThat(q.get(),equalTo("hello"));
+		assertThat(result.get(5,TimeUnit.SECONDS),equalTo(true));
+		assertThat(q.size(),equalTo(size));
+	}
+	@Test
+	public void parkedConsumerWokenByClose() throws Exception {
+		Queue<String> q = new Queue<>(new ManyToOneConcurrentArrayQueue<String>(100),
+									new HybridWait<>(),
+									new HybridWait<>(0,0,TimeUnit.DAYS.toNanos(1)));
+		CompletableFuture<Long> result = CompletableFuture.supplyAsync(()->q.stream().count());
+		Thread.sleep(100);
+		q.close();
+		assertThat(result.get(5,TimeUnit.SECONDS),equalTo(0l));
+	}
+
+}
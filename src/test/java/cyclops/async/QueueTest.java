@@ -9,11 +9,17 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -493,6 +499,172 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void ringBufferQueueDrainsInOrder() {
+		Queue<Integer> q = QueueFactories.<Integer>ringBufferQueue(1000,64).build();
+		for(int i=0;i<500;i++){
+			q.offer(i);
+		}
+		q.offer(null);
+		q.close();
+		List<Integer> result = q.stream().toList();
+		assertThat(result.size(),equalTo(501));
+		assertThat(result.get(0),equalTo(0));
+		assertThat(result.get(499),equalTo(499));
+		assertThat(result.get(500),equalTo(null));
+	}
+	@Test
+	public void ringBufferQueueAsyncProducer() {
+		Queue<Integer> q = QueueFactories.<Integer>ringBufferQueue(16,8).build();
+		new Thread(() -> {
+			for(int i=0;i<10000;i++) {
+				q.offer(i);
+			}
+			q.close();
+		}).start();
+		assertThat(q.stream().reduce(0,(a,b)->a+1),equalTo(10000));
+	}
+	@Test
+	public void ringBufferQueueSizeSignal() {
+		Queue<Integer> q = QueueFactories.<Integer>ringBufferQueue(100,10).build();
+		q.setSizeSignal(Signal.queueBackedSignal());
+		for(int i=0;i<25;i++){
+			q.add(i);
+		}
+		q.close();
+		assertThat(q.stream().toList().size(),equalTo(25));
+		assertThat(q.size(),equalTo(0));
+	}
+
+	@Test
+	public void shardedQueuePreservesPerProducerOrder() throws Exception {
+		Queue<Integer> q = QueueFactories.<Integer>shardedQueue(4,64).build();
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		List<CompletableFuture<Void>> producers = new ArrayList<>();
+		for(int p=0;p<4;p++){
+			int producer = p;
+			producers.add(CompletableFuture.runAsync(()->{
+				for(int i=0;i<1000;i++)
+					q.offer(producer*10000+i);
+			},exec));
+		}
+		CompletableFuture.allOf(producers.toArray(new CompletableFuture[0]))
+						 .thenRun(()->q.close());
+		List<Integer> result = q.stream().toList();
+		exec.shutdown();
+		assertThat(result.size(),equalTo(4000));
+		int[] last = {-1,-1,-1,-1};
+		for(Integer next : result){
+			int producer = next/10000;
+			assertTrue(next%10000 > last[producer]);
+			last[producer] = next%10000;
+		}
+	}
+	@Test
+	public void offerAllDrainTo() {
+		Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		q.setSizeSignal(Signal.conflatedSignal());
+		assertTrue(q.offerAll(Arrays.asList(1,2,null,4,5)));
+		assertTrue(q.offerAll(new Integer[]{6,7}));
+		assertThat(q.getSizeSignal().get(),equalTo(7));
+		List<Integer> result = new ArrayList<>();
+		assertThat(q.drainTo(result,3),equalTo(3));
+		assertThat(result,equalTo(Arrays.asList(1,2,null)));
+		assertThat(q.getSizeSignal().get(),equalTo(4));
+		assertThat(q.drainTo(result,10),equalTo(4));
+		assertThat(q.drainTo(result,10),equalTo(0));
+		assertThat(result,equalTo(Arrays.asList(1,2,null,4,5,6,7)));
+	}
+	@Test
+	public void offerAllBlocksWhenFull() throws Exception {
+		Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(2).build();
+		CompletableFuture<Boolean> offered = CompletableFuture.supplyAsync(()->q.offerAll(Arrays.asList(1,2,3,4,5,6,7,8,9,10)));
+		List<Integer> result = new ArrayList<>();
+		while(result.size()<10)
+			q.drainTo(result,10);
+		assertTrue(offered.get(5,TimeUnit.SECONDS));
+		assertThat(result,equalTo(Arrays.asList(1,2,3,4,5,6,7,8,9,10)));
+	}
+	@Test
+	public void streamBatch() {
+		Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		q.offerAll(Arrays.asList(1,2,3,4,5));
+		q.close();
+		assertThat(q.streamBatch(2).map(ArrayList::new).toList(),
+				equalTo(Arrays.asList(Arrays.asList(1,2),Arrays.asList(3,4),Arrays.asList(5))));
+	}
+	@Test
+	public void idleBlockingConsumerParksUntilClosed() throws Exception {
+		Queue<Integer> q = new Queue<>(new LinkedBlockingQueue<>());
+		q.add(1);
+		CompletableFuture<Thread> consumer = new CompletableFuture<>();
+		CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->{
+			consumer.complete(Thread.currentThread());
+			return q.stream().toList();
+		});
+		Thread thread = consumer.get(5,TimeUnit.SECONDS);
+		long start = System.currentTimeMillis();
+		while(thread.getState()!=Thread.State.WAITING && System.currentTimeMillis()-start<5000)
+			Thread.sleep(10);
+		assertThat(thread.getState(),equalTo(Thread.State.WAITING));
+		q.close();
+		assertThat(result.get(5,TimeUnit.SECONDS),equalTo(Arrays.asList(1)));
+		assertFalse(thread.isInterrupted());
+	}
+	@Test
+	public void genuineInterruptOfBlockedConsumerIsKept() throws Exception {
+		Queue<Integer> q = new Queue<>(new LinkedBlockingQueue<>());
+		AtomicBoolean failed = new AtomicBoolean(false);
+		AtomicBoolean interrupted = new AtomicBoolean(false);
+		Thread thread = new Thread(()->{
+			try{
+				q.get();
+			}catch(Exception e){
+				failed.set(true);
+			}
+			interrupted.set(Thread.currentThread().isInterrupted());
+		});
+		thread.start();
+		long start = System.currentTimeMillis();
+		while(thread.getState()!=Thread.State.WAITING && System.currentTimeMillis()-start<5000)
+			Thread.sleep(10);
+		thread.interrupt();
+		thread.join(5000);
+		assertTrue(failed.get());
+		assertTrue(interrupted.get());
+		q.close();
+	}
+	@Test
+	public void closeReleasesAllBlockedConsumers() throws Exception {
+		Queue<Integer> q = QueueFactories.<Integer>boundedNonBlockingQueue(10).build();
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		List<CompletableFuture<Long>> consumers = new ArrayList<>();
+		for(int i=0;i<4;i++){
+			consumers.add(CompletableFuture.supplyAsync(()->q.stream().count(),exec));
+		}
+		q.add(1);
+		q.add(2);
+		q.add(3);
+		Thread.sleep(100);
+		q.close();
+		long total = 0;
+		for(CompletableFuture<Long> next : consumers){
+			total += next.get(5,TimeUnit.SECONDS);
+		}
+		exec.shutdown();
+		assertThat(total,equalTo(3l));
+		assertThat(q.size(),equalTo(0));
+	}
+	@Test
+	public void closeAndClearDiscardsRemaining() {
+		Queue<Integer> q = QueueFactories.<Integer>boundedQueue(10).build();
+		q.add(1);
+		q.add(2);
+		q.closeAndClear();
+		assertThat(q.stream().toList().size(),equalTo(0));
+		assertThat(q.size(),equalTo(0));
+	}
+
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
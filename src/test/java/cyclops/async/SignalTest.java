@@ -4,11 +4,16 @@ import static com.aol.cyclops2.types.futurestream.BaseSimpleReactStream.parallel
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import cyclops.stream.ReactiveSeq;
+
 public class SignalTest {
 
 	@Before
@@ -20,6 +25,64 @@ public class SignalTest {
 		found++;
 	}
 	
+	@Test
+	public void conflatedSignalLatestValue(){
+		Signal<Integer> q = Signal.conflatedSignal();
+		assertThat(q.version(),is(0l));
+		q.fromStream(Stream.of(1,2,3));
+		assertThat(q.get(),is(3));
+		assertThat(q.version(),is(3l));
+	}
+	@Test
+	public void conflatedSignalContinuousSkipsIntermediate(){
+		Signal<Integer> q = Signal.conflatedSignal();
+		q.fromStream(Stream.of(1,2,3));
+		q.close();
+		assertThat(q.getContinuous().stream().toList(),is(Arrays.asList(3)));
+	}
+	@Test
+	public void conflatedSignalDiscrete(){
+		Signal<Integer> q = Signal.conflatedSignal();
+		ReactiveSeq<Integer> discrete = q.getDiscrete().stream();
+		q.set(1);
+		assertThat(discrete.limit(1).toList(),is(Arrays.asList(1)));
+		q.set(1);
+		q.set(2);
+		q.close();
+		assertThat(q.getDiscrete().stream().toList(),is(Arrays.asList(2)));
+	}
+	@Test
+	public void conflatedSizeSignal(){
+		Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(100).build();
+		queue.setSizeSignal(Signal.conflatedSignal());
+		queue.offer(1);
+		queue.offer(2);
+		assertThat(queue.getSizeSignal().get(),is(2));
+		queue.get();
+		assertThat(queue.getSizeSignal().get(),is(1));
+	}
+	@Test
+	public void signalOfferAll(){
+		Signal<Integer> q = Signal.queueBackedSignal();
+		q.offerAll(Arrays.asList(1,1,2,2,3));
+		assertThat(q.get(),is(3));
+		assertThat(q.version(),is(5l));
+		List<Integer> continuous = new ArrayList<>();
+		assertThat(q.drainTo(continuous,10),is(5));
+		assertThat(continuous,is(Arrays.asList(1,1,2,2,3)));
+		List<Integer> discrete = new ArrayList<>();
+		q.getDiscrete().drainTo(discrete,10);
+		assertThat(discrete,is(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void signalOfferAllOneShotIterable(){
+		Signal<Integer> q = Signal.queueBackedSignal();
+		Iterable<Integer> once = Stream.of(1,1,2)::iterator;
+		q.offerAll(once);
+		List<Integer> continuous = new ArrayList<>();
+		assertThat(q.drainTo(continuous,10),is(3));
+		assertThat(continuous,is(Arrays.asList(1,1,2)));
+	}
 	@Test
 	public void signalFromStream(){
 		Signal<Integer> q = Signal.topicBackedSignal();
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,6 +22,9 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import com.aol.cyclops2.types.futurestream.BaseSimpleReactStream;
+import cyclops.async.wait.NoWaitRetry;
+import cyclops.async.wait.YieldWait;
+import cyclops.stream.ReactiveSeq;
 
 public class TopicTest {
 
@@ -47,6 +51,74 @@ public class TopicTest {
 				is(" hello world"));
 	}
 
+	@Test
+	public void offerAllToSubscribers() {
+		Topic<Integer> topic = new Topic<>();
+		ReactiveSeq<Integer> data1 = topic.stream();
+		ReactiveSeq<Integer> data2 = topic.stream();
+		topic.offerAll(Arrays.asList(1,2,3));
+		topic.offer(4);
+		topic.close();
+		assertThat(data1.toList(), is(Arrays.asList(1,2,3,4)));
+		assertThat(data2.toList(), is(Arrays.asList(1,2,3,4)));
+	}
+	@Test
+	public void offerAllOneShotIterable() {
+		Topic<Integer> topic = new Topic<>();
+		ReactiveSeq<Integer> data1 = topic.stream();
+		ReactiveSeq<Integer> data2 = topic.stream();
+		Iterable<Integer> once = Stream.of(1,2,3)::iterator;
+		topic.offerAll(once);
+		topic.close();
+		assertThat(data1.toList(), is(Arrays.asList(1,2,3)));
+		assertThat(data2.toList(), is(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void drainToHeldData() {
+		Topic<Integer> topic = Topic.ringBufferTopic(16,Topic.OverflowPolicy.DROP_OLDEST);
+		List<Integer> result = new ArrayList<>();
+		assertThat(topic.drainTo(result,10), is(0));
+		topic.offerAll(new Integer[]{1,2,3});
+		assertThat(topic.drainTo(result,2), is(2));
+		assertThat(topic.drainTo(result,2), is(1));
+		assertThat(result, is(Arrays.asList(1,2,3)));
+		assertThat(topic.subscriberCount(), is(1));
+	}
+	@Test
+	public void drainToDoesNotClaimFirstSubscriber() {
+		Topic<Integer> topic = new Topic<>();
+		assertThat(topic.drainTo(new ArrayList<>(),10), is(0));
+		ReactiveSeq<Integer> stream = topic.stream();
+		topic.offerAll(Arrays.asList(1,2,3));
+		assertThat(topic.drainTo(new ArrayList<>(),10), is(0));
+		assertThat(topic.subscriberCount(), is(1));
+		topic.close();
+		assertThat(stream.toList(), is(Arrays.asList(1,2,3)));
+	}
+	@Test
+	public void drainToDoesNotBlockRingPublishers() {
+		Topic<Integer> topic = Topic.ringBufferTopic(4,Topic.OverflowPolicy.BLOCK);
+		ReactiveSeq<Integer> stream = topic.stream(Topic.OverflowPolicy.DROP_OLDEST);
+		topic.drainTo(new ArrayList<>(),10);
+		for(int i=0;i<100;i++)
+			topic.offer(i);
+		assertThat(topic.subscriberCount(), is(1));
+		List<Integer> result = new ArrayList<>();
+		topic.drainTo(stream,result,10);
+		assertThat(result.get(result.size()-1), is(99));
+	}
+	@Test
+	public void drainToConnectedStream() {
+		Topic<Integer> topic = Topic.ringBufferTopic(16,Topic.OverflowPolicy.DROP_OLDEST);
+		ReactiveSeq<Integer> stream = topic.stream();
+		topic.offerAll(new Integer[]{1,2,3});
+		List<Integer> result = new ArrayList<>();
+		assertThat(topic.drainTo(stream,result,2), is(2));
+		assertThat(topic.drainTo(stream,result,2), is(1));
+		assertThat(topic.drainTo(ReactiveSeq.of(1),result,2), is(0));
+		assertThat(result, is(Arrays.asList(1,2,3)));
+	}
+
 	@Test
 	public void multipleSubscribersGetSameMessagesSimpleReact() throws InterruptedException, ExecutionException {
 		Topic<String> topic = new Topic<>(new Queue<>());
@@ -280,6 +352,117 @@ public class TopicTest {
 	
 	
 	
+	@Test
+	public void ringBufferSubscribersGetSameMessages(){
+		Topic<Integer> topic = Topic.ringBufferTopic(16, Topic.OverflowPolicy.BLOCK);
+		Stream<Integer> s1 = topic.stream();
+		Stream<Integer> s2 = topic.stream();
+		topic.fromStream(Stream.of(1,2,null,4));
+		topic.close();
+		assertThat(s1.collect(Collectors.toList()),is(Arrays.asList(1,2,null,4)));
+		assertThat(s2.collect(Collectors.toList()),is(Arrays.asList(1,2,null,4)));
+	}
+	@Test
+	public void ringBufferDropOldest(){
+		Topic<Integer> topic = Topic.ringBufferTopic(4, Topic.OverflowPolicy.DROP_OLDEST);
+		Stream<Integer> s1 = topic.stream();
+		for(int i=0;i<10;i++)
+			topic.offer(i);
+		topic.close();
+		assertThat(s1.collect(Collectors.toList()),is(Arrays.asList(6,7,8,9)));
+	}
+	@Test
+	public void ringBufferDropNewest(){
+		Topic<Integer> topic = Topic.ringBufferTopic(4, Topic.OverflowPolicy.DROP_OLDEST);
+		Stream<Integer> oldest = topic.stream();
+		Stream<Integer> newest = topic.stream(Topic.OverflowPolicy.DROP_NEWEST);
+		for(int i=0;i<10;i++)
+			topic.offer(i);
+		topic.close();
+		assertThat(newest.collect(Collectors.toList()),is(Arrays.asList(0,1,2,3)));
+		assertThat(oldest.collect(Collectors.toList()),is(Arrays.asList(6,7,8,9)));
+	}
+	@Test
+	public void ringBufferDropNewestLappedWhileGating(){
+		//publish (and so gate) in the middle of the subscriber's poll, after it has checked for a backlog
+		AtomicBoolean lapping = new AtomicBoolean(false);
+		BroadcastRing<Integer> ring = new BroadcastRing<Integer>(4, Topic.OverflowPolicy.DROP_NEWEST, new NoWaitRetry<>()){
+			@Override
+			long published(){
+				if(lapping.compareAndSet(true,false))
+					publish(4);
+				return super.published();
+			}
+		};
+		Queue<Integer> queue = ring.subscribe(null);
+		for(int i=0;i<4;i++)
+			ring.publish(i);
+		lapping.set(true);
+		List<Integer> result = new ArrayList<>();
+		BroadcastRing.Cursor<Integer> cursor = BroadcastRing.cursor(queue);
+		Integer next;
+		while((next = cursor.poll())!=null)
+			result.add(next);
+		assertThat(result,is(Arrays.asList(0,1,2,3)));
+		assertThat(ring.dropped(queue),is(1l));
+	}
+	@Test
+	public void ringBufferLappedBeforeDropNewest(){
+		Topic<Integer> topic = Topic.ringBufferTopic(4, Topic.OverflowPolicy.DROP_OLDEST);
+		for(int i=0;i<10;i++)
+			topic.offer(i);
+		ReactiveSeq<Integer> newest = topic.stream(Topic.OverflowPolicy.DROP_NEWEST);
+		List<Integer> result = new ArrayList<>();
+		assertThat(topic.drainTo(newest,result,10),is(4));
+		assertThat(result,is(Arrays.asList(6,7,8,9)));
+	}
+	@Test
+	public void ringBufferDisconnect(){
+		Topic<Integer> topic = Topic.ringBufferTopic(4, Topic.OverflowPolicy.DISCONNECT);
+		Stream<Integer> s1 = topic.stream();
+		for(int i=0;i<10;i++)
+			topic.offer(i);
+		assertThat(s1.collect(Collectors.toList()).size(),is(0));
+	}
+	@Test
+	public void ringBufferBlockDoesNotLoseData(){
+		Topic<Integer> topic = Topic.ringBufferTopic(4, Topic.OverflowPolicy.BLOCK, new YieldWait<>());
+		Stream<Integer> s1 = topic.stream();
+		new Thread(()->{
+			for(int i=0;i<1000;i++)
+				topic.offer(i);
+			topic.close();
+		}).start();
+		assertThat(s1.collect(Collectors.toList()).size(),is(1000));
+	}
+
+	@Test
+	public void subscriberMetrics(){
+		Topic<Integer> topic = new Topic<>();
+		Stream<Integer> s1 = topic.stream();
+		Stream<Integer> s2 = topic.stream();
+		assertThat(topic.subscriberCount(),is(2));
+		topic.offer(1);
+		topic.offer(2);
+		assertThat(topic.lag(s1),is(2l));
+		assertThat(s2.findFirst().get(),is(1));
+		assertThat(topic.lag(s2),is(1l));
+		topic.disconnect(s1);
+		assertThat(topic.subscriberCount(),is(1));
+		assertThat(topic.lag(s1),is(0l));
+	}
+	@Test
+	public void ringBufferSubscriberMetrics(){
+		Topic<Integer> topic = Topic.ringBufferTopic(4, Topic.OverflowPolicy.DROP_OLDEST);
+		Stream<Integer> s1 = topic.stream();
+		for(int i=0;i<10;i++)
+			topic.offer(i);
+		assertThat(topic.lag(s1),is(4l));
+		assertThat(s1.findFirst().get(),is(6));
+		assertThat(topic.dropped(s1),is(6l));
+		assertThat(topic.lag(s1),is(3l));
+	}
+
 	private Collection<String> extract1(List<Collection<String>> result) {
 		for(Collection next : result){
 			if(next instanceof ArrayList)